@@ -0,0 +1,97 @@
+package kr.suhsaechan.ai.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okio.Buffer;
+import okio.BufferedSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스트리밍 응답 디코딩 벤치마크
+ *
+ * <p>기존 방식(readUtf8Line + ObjectMapper.readTree)과 GenerateStreamDecoder를 비교합니다.
+ * 입력은 Ollama /api/generate (stream: true) 응답과 같은 형태의 NDJSON입니다.</p>
+ *
+ * <p>실행: {@code ./gradlew jmh} (gc 프로파일러가 켜져 있어 gc.alloc.rate.norm으로 연산당 할당량을 비교할 수 있습니다)</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GenerateStreamDecoderBenchmark {
+
+    @Param({"100", "1000"})
+    private int tokenCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] ndjson;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < tokenCount; i++) {
+            builder.append("{\"model\":\"gemma3:4b\",\"created_at\":\"2025-01-01T00:00:00.000000Z\",")
+                    .append("\"response\":\"token").append(i).append(" \",\"done\":false}\n");
+        }
+        builder.append("{\"model\":\"gemma3:4b\",\"created_at\":\"2025-01-01T00:00:00.000000Z\",")
+                .append("\"response\":\"\",\"done\":true,\"done_reason\":\"stop\",")
+                .append("\"context\":[1,2,3,4,5,6,7,8,9,10],")
+                .append("\"total_duration\":1000000,\"load_duration\":1000,")
+                .append("\"prompt_eval_count\":10,\"prompt_eval_duration\":1000,")
+                .append("\"eval_count\":").append(tokenCount).append(",\"eval_duration\":1000000}\n");
+        ndjson = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 기존 방식: 줄 단위 String 생성 후 JsonNode 트리 파싱
+     */
+    @Benchmark
+    public void readLineAndTree(Blackhole blackhole) throws IOException {
+        BufferedSource source = new Buffer().write(ndjson);
+
+        while (!source.exhausted()) {
+            String line = source.readUtf8Line();
+            if (line == null || line.trim().isEmpty()) {
+                continue;
+            }
+
+            JsonNode node = objectMapper.readTree(line);
+            String chunk = node.has("response") ? node.get("response").asText("") : "";
+            blackhole.consume(chunk);
+
+            if (node.has("done") && node.get("done").asBoolean(false)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 개선 방식: 하나의 JsonParser로 필요한 필드만 추출
+     */
+    @Benchmark
+    public void streamDecoder(Blackhole blackhole) throws IOException {
+        BufferedSource source = new Buffer().write(ndjson);
+
+        try (GenerateStreamDecoder decoder = new GenerateStreamDecoder(
+                objectMapper.getFactory(), source.inputStream())) {
+            while (decoder.next()) {
+                blackhole.consume(decoder.getChunk());
+                if (decoder.isDone()) {
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package kr.suhsaechan.ai.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 응답 캐시 통계 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStats {
+
+    /**
+     * 캐시 히트 수
+     */
+    private long hitCount;
+
+    /**
+     * 캐시 미스 수
+     */
+    private long missCount;
+
+    /**
+     * 용량 초과로 제거된 항목 수
+     */
+    private long evictionCount;
+
+    /**
+     * TTL 만료로 제거된 항목 수
+     */
+    private long expiredCount;
+
+    /**
+     * 현재 항목 수
+     */
+    private long entryCount;
+
+    /**
+     * 현재 사용 중인 용량 (바이트, 추정치)
+     */
+    private long weightBytes;
+
+    /**
+     * 캐시 히트율 (0.0 ~ 1.0)
+     *
+     * @return 조회가 없으면 0.0
+     */
+    public double getHitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
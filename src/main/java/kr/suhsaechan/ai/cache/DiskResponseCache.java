@@ -0,0 +1,616 @@
+package kr.suhsaechan.ai.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.suhsaechan.ai.model.SuhAiderResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 로컬 디스크 기반 Generate 응답 캐시
+ *
+ * <p>응답을 메모리 맵(mmap) 세그먼트 파일에 순차 추가(append-only)로 기록하고,
+ * 키 → (세그먼트, 오프셋) 위치는 메모리 해시 인덱스로 관리합니다.
+ * 재시작 시 세그먼트 파일을 스캔해 인덱스를 복구하므로 재배포 후에도 캐시된 응답을 바로 사용할 수 있습니다.</p>
+ *
+ * <p>레코드 형식: {@code [int magic][int keyLength][int valueLength][long expiresAtEpochMillis][key][value(JSON)]}.
+ * magic은 레코드 본문을 모두 쓴 뒤 마지막에 기록하므로, 중간에 프로세스가 종료되어도 불완전한 레코드는 복구 대상에서 제외됩니다.</p>
+ *
+ * <p>전체 세그먼트 크기가 {@code maxTotalBytes}를 넘으면 백그라운드 스레드가 가장 오래된 세그먼트부터 압축(compaction)합니다.
+ * 유효한 항목은 최신 세그먼트로 옮기고, 유효 데이터만으로도 공간이 부족하면 오래된 항목부터 제거합니다.
+ * 쓰기 잠금은 레코드 {@value #COMPACTION_BATCH_SIZE}개 단위로만 잡으므로 압축 중에도 조회와 저장이 오래 막히지 않습니다.
+ * 압축이 저장 속도를 따라가지 못해 한도의 2배를 넘으면 압축이 따라올 때까지 새 항목을 저장하지 않습니다.</p>
+ *
+ * <p>로컬 파일 시스템 전용이며, 하나의 디렉터리는 하나의 프로세스만 사용해야 합니다.</p>
+ */
+@Slf4j
+public class DiskResponseCache implements ResponseCache, Closeable {
+
+    private static final int RECORD_MAGIC = 0x53554841;  // "SUHA"
+    private static final int HEADER_BYTES = 4 + 4 + 4 + 8;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+
+    /**
+     * 압축 시 쓰기 잠금 한 번에 처리하는 레코드 수
+     */
+    static final int COMPACTION_BATCH_SIZE = 64;
+
+    private final Path directory;
+    private final int segmentSizeBytes;
+    private final long maxTotalBytes;
+    private final long ttlMillis;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 세그먼트 ID → 세그먼트 (ID 오름차순 = 오래된 순)
+     */
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+
+    /**
+     * 키 → 레코드 위치
+     */
+    private final Map<String, RecordLocation> index = new HashMap<>();
+
+    /**
+     * 조회는 읽기 잠금, 기록/압축은 쓰기 잠금
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 백그라운드 압축 스레드 (데몬)
+     */
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "suh-aider-disk-cache-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 압축 작업이 예약되었거나 실행 중이면 true (중복 예약 방지)
+     */
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+
+    private Segment activeSegment;
+    private long liveBytes;
+    private boolean closed;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expiredCount = new LongAdder();
+
+    /**
+     * @param directory 세그먼트 파일 디렉터리
+     * @param segmentSizeBytes 세그먼트 파일 하나의 크기
+     * @param maxTotalBytes 전체 세그먼트 최대 크기 (초과 시 압축)
+     * @param ttlSeconds 항목 유효 시간 (초, 0 이하이면 만료 없음)
+     * @param objectMapper 응답 직렬화용 ObjectMapper
+     * @throws IllegalArgumentException 세그먼트 크기가 레코드 헤더보다 작은 경우
+     * @throws UncheckedIOException 디렉터리 생성 또는 세그먼트 복구 실패 시
+     */
+    public DiskResponseCache(Path directory, int segmentSizeBytes, long maxTotalBytes,
+                             long ttlSeconds, ObjectMapper objectMapper) {
+        if (segmentSizeBytes <= HEADER_BYTES) {
+            throw new IllegalArgumentException("세그먼트 크기가 너무 작습니다: " + segmentSizeBytes + " bytes");
+        }
+        this.directory = directory;
+        this.segmentSizeBytes = segmentSizeBytes;
+        this.maxTotalBytes = Math.max(maxTotalBytes, 2L * segmentSizeBytes);
+        this.ttlMillis = ttlSeconds > 0 ? TimeUnit.SECONDS.toMillis(ttlSeconds) : 0;
+        this.objectMapper = objectMapper;
+
+        try {
+            Files.createDirectories(directory);
+            recover();
+            if (activeSegment == null) {
+                activeSegment = openSegment(nextSegmentId());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("디스크 캐시 초기화 실패: " + directory, e);
+        }
+
+        log.info("디스크 응답 캐시 초기화 - 경로: {}, 세그먼트: {}개, 복구된 항목: {}개",
+                directory.toAbsolutePath(), segments.size(), index.size());
+    }
+
+    @Override
+    public SuhAiderResponse get(String key) {
+        RecordLocation location;
+        byte[] value;
+
+        lock.readLock().lock();
+        try {
+            location = index.get(key);
+            if (location == null) {
+                missCount.increment();
+                return null;
+            }
+
+            if (!location.isExpired(System.currentTimeMillis())) {
+                value = location.segment.read(location.offset + HEADER_BYTES + location.keyLength, location.valueLength);
+            } else {
+                value = null;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (value == null) {
+            removeExpired(key, location);
+            missCount.increment();
+            return null;
+        }
+
+        try {
+            SuhAiderResponse response = objectMapper.readValue(value, SuhAiderResponse.class);
+            hitCount.increment();
+            return response;
+        } catch (IOException e) {
+            log.warn("디스크 캐시 항목 역직렬화 실패 (미스로 처리): {}", e.getMessage());
+            missCount.increment();
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, SuhAiderResponse response) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] value;
+        try {
+            value = objectMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            log.warn("디스크 캐시 항목 직렬화 실패 (저장 안 함): {}", e.getMessage());
+            return;
+        }
+
+        int recordLength = HEADER_BYTES + keyBytes.length + value.length;
+        if (recordLength > segmentSizeBytes) {
+            log.debug("응답이 세그먼트 크기보다 커서 디스크 캐시에 저장하지 않음 - {} bytes", recordLength);
+            return;
+        }
+
+        long expiresAt = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : 0;
+
+        boolean needsCompaction;
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (totalBytes() > 2 * maxTotalBytes) {
+                log.debug("디스크 캐시 압축 대기 중 - 저장 생략 (세그먼트: {}개)", segments.size());
+                needsCompaction = true;
+            } else {
+                append(key, keyBytes, value, expiresAt);
+                needsCompaction = isOverLimit();
+            }
+        } catch (IOException e) {
+            log.warn("디스크 캐시 기록 실패 (무시): {}", e.getMessage());
+            return;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (needsCompaction) {
+            scheduleCompaction();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        lock.writeLock().lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.delete();
+            }
+            segments.clear();
+            index.clear();
+            liveBytes = 0;
+            activeSegment = openSegment(nextSegmentId());
+        } catch (IOException e) {
+            throw new UncheckedIOException("디스크 캐시 초기화 실패: " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public CacheStats getStats() {
+        lock.readLock().lock();
+        try {
+            return CacheStats.builder()
+                    .hitCount(hitCount.sum())
+                    .missCount(missCount.sum())
+                    .evictionCount(evictionCount.sum())
+                    .expiredCount(expiredCount.sum())
+                    .entryCount(index.size())
+                    .weightBytes(liveBytes)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 매핑된 세그먼트 내용을 디스크에 반영하고 파일을 닫습니다.
+     */
+    @Override
+    public void close() {
+        compactionExecutor.shutdown();
+        lock.writeLock().lock();
+        try {
+            closed = true;
+            for (Segment segment : segments.values()) {
+                segment.close();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 레코드 추가 (쓰기 잠금 보유 상태에서 호출)
+     */
+    private void append(String key, byte[] keyBytes, byte[] value, long expiresAt) throws IOException {
+        int recordLength = HEADER_BYTES + keyBytes.length + value.length;
+        if (activeSegment.remaining() < recordLength) {
+            activeSegment = openSegment(nextSegmentId());
+        }
+
+        int offset = activeSegment.append(keyBytes, value, expiresAt);
+        RecordLocation location = new RecordLocation(activeSegment, offset, keyBytes.length, value.length, expiresAt);
+
+        RecordLocation previous = index.put(key, location);
+        if (previous != null) {
+            liveBytes -= previous.length();
+        }
+        liveBytes += location.length();
+    }
+
+    private long totalBytes() {
+        return (long) segments.size() * segmentSizeBytes;
+    }
+
+    /**
+     * 전체 크기가 한도를 넘었고 압축할 수 있는 세그먼트가 있는지 (잠금 보유 상태에서 호출)
+     */
+    private boolean isOverLimit() {
+        return totalBytes() > maxTotalBytes && segments.size() > 1;
+    }
+
+    /**
+     * 백그라운드 압축 예약 (이미 예약되었으면 아무 동작도 하지 않음)
+     */
+    private void scheduleCompaction() {
+        if (!compactionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            compactionExecutor.execute(() -> {
+                try {
+                    compact();
+                } catch (RuntimeException e) {
+                    log.warn("디스크 캐시 압축 실패: {}", e.getMessage());
+                } finally {
+                    compactionScheduled.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            compactionScheduled.set(false);
+        }
+    }
+
+    /**
+     * 전체 크기가 한도 아래로 내려갈 때까지 오래된 세그먼트부터 압축
+     * 세그먼트마다 대상 키를 먼저 모은 뒤 {@link #COMPACTION_BATCH_SIZE}개 단위로 쓰기 잠금을 잡고 옮기거나 제거합니다.
+     * 그 사이 다른 스레드가 갱신하거나 제거한 키는 건너뜁니다.
+     */
+    synchronized void compact() {
+        while (true) {
+            Segment oldest;
+            boolean retainLive;
+            List<String> keys = new ArrayList<>();
+
+            lock.readLock().lock();
+            try {
+                if (closed || !isOverLimit()) {
+                    return;
+                }
+                oldest = segments.firstEntry().getValue();
+                if (oldest == activeSegment) {
+                    return;
+                }
+                // 유효 데이터가 한도의 절반 이하일 때만 옮기고, 그렇지 않으면 오래된 항목을 제거
+                retainLive = liveBytes <= maxTotalBytes / 2;
+                for (Map.Entry<String, RecordLocation> entry : index.entrySet()) {
+                    if (entry.getValue().segment == oldest) {
+                        keys.add(entry.getKey());
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            int moved = 0;
+            int dropped = 0;
+            for (int from = 0; from < keys.size(); from += COMPACTION_BATCH_SIZE) {
+                lock.writeLock().lock();
+                try {
+                    if (closed) {
+                        return;
+                    }
+                    long now = System.currentTimeMillis();
+                    int to = Math.min(from + COMPACTION_BATCH_SIZE, keys.size());
+                    for (String key : keys.subList(from, to)) {
+                        RecordLocation location = index.get(key);
+                        if (location == null || location.segment != oldest) {
+                            continue;
+                        }
+
+                        if (location.isExpired(now)) {
+                            index.remove(key);
+                            liveBytes -= location.length();
+                            expiredCount.increment();
+                        } else if (retainLive) {
+                            byte[] value = oldest.read(location.offset + HEADER_BYTES + location.keyLength, location.valueLength);
+                            append(key, key.getBytes(StandardCharsets.UTF_8), value, location.expiresAt);
+                            moved++;
+                        } else {
+                            index.remove(key);
+                            liveBytes -= location.length();
+                            evictionCount.increment();
+                            dropped++;
+                        }
+                    }
+                } catch (IOException e) {
+                    log.warn("디스크 캐시 압축 중 기록 실패 (중단): {}", e.getMessage());
+                    return;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                // invalidateAll()로 이미 삭제되고 같은 ID가 재사용되었을 수 있음
+                if (segments.get(oldest.id) == oldest) {
+                    segments.remove(oldest.id);
+                    oldest.delete();
+                }
+            } catch (IOException e) {
+                log.warn("디스크 캐시 세그먼트 삭제 실패: {}", e.getMessage());
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("디스크 캐시 세그먼트 압축 - segment: {}, 이동: {}개, 제거: {}개", oldest.id, moved, dropped);
+        }
+    }
+
+    /**
+     * 만료 항목을 인덱스에서 제거 (다른 스레드가 같은 키를 갱신했으면 건드리지 않음)
+     */
+    private void removeExpired(String key, RecordLocation location) {
+        lock.writeLock().lock();
+        try {
+            if (index.get(key) == location) {
+                index.remove(key);
+                liveBytes -= location.length();
+                expiredCount.increment();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기존 세그먼트 파일을 스캔해 인덱스 복구
+     */
+    private void recover() throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String fileName = path.getFileName().toString();
+                String idPart = fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length());
+                try {
+                    long id = Long.parseLong(idPart);
+                    segments.put(id, Segment.open(path, id, segmentSizeBytes));
+                } catch (NumberFormatException e) {
+                    log.warn("알 수 없는 캐시 파일 무시: {}", path);
+                }
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        for (Segment segment : segments.values()) {
+            segment.scan((key, location) -> {
+                if (location.isExpired(now)) {
+                    return;
+                }
+                RecordLocation previous = index.put(key, location);
+                if (previous != null) {
+                    liveBytes -= previous.length();
+                }
+                liveBytes += location.length();
+            });
+            activeSegment = segment;
+        }
+    }
+
+    private long nextSegmentId() {
+        return segments.isEmpty() ? 1 : segments.lastKey() + 1;
+    }
+
+    private Segment openSegment(long id) throws IOException {
+        Path path = directory.resolve(SEGMENT_PREFIX + String.format("%012d", id) + SEGMENT_SUFFIX);
+        Segment segment = Segment.open(path, id, segmentSizeBytes);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    /**
+     * 레코드 위치 정보
+     */
+    private static final class RecordLocation {
+
+        private final Segment segment;
+        private final int offset;
+        private final int keyLength;
+        private final int valueLength;
+
+        /**
+         * 만료 시각 (epoch millis, 0이면 만료 없음)
+         */
+        private final long expiresAt;
+
+        private RecordLocation(Segment segment, int offset, int keyLength, int valueLength, long expiresAt) {
+            this.segment = segment;
+            this.offset = offset;
+            this.keyLength = keyLength;
+            this.valueLength = valueLength;
+            this.expiresAt = expiresAt;
+        }
+
+        private int length() {
+            return HEADER_BYTES + keyLength + valueLength;
+        }
+
+        private boolean isExpired(long nowMillis) {
+            return expiresAt != 0 && nowMillis >= expiresAt;
+        }
+    }
+
+    /**
+     * 복구 스캔 시 레코드마다 호출되는 콜백
+     */
+    private interface RecordVisitor {
+        void visit(String key, RecordLocation location);
+    }
+
+    /**
+     * 메모리 맵 세그먼트 파일
+     */
+    private static final class Segment {
+
+        private final long id;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+
+        private Segment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private static Segment open(Path path, long id, int sizeBytes) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = Math.max(channel.size(), sizeBytes);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new Segment(id, path, channel, buffer);
+        }
+
+        private int remaining() {
+            return buffer.capacity() - writePosition;
+        }
+
+        /**
+         * 레코드 추가 (본문을 먼저 쓰고 magic을 마지막에 기록)
+         *
+         * @return 레코드 시작 오프셋
+         */
+        private int append(byte[] key, byte[] value, long expiresAt) {
+            int offset = writePosition;
+            ByteBuffer view = buffer.duplicate();
+
+            view.position(offset + 4);
+            view.putInt(key.length);
+            view.putInt(value.length);
+            view.putLong(expiresAt);
+            view.put(key);
+            view.put(value);
+
+            view.putInt(offset, RECORD_MAGIC);
+            writePosition = view.position();
+            return offset;
+        }
+
+        private byte[] read(int position, int length) {
+            byte[] bytes = new byte[length];
+            ByteBuffer view = buffer.duplicate();
+            view.position(position);
+            view.get(bytes);
+            return bytes;
+        }
+
+        /**
+         * 세그먼트 처음부터 유효한 레코드를 순서대로 방문하고 쓰기 위치를 복구
+         */
+        private void scan(RecordVisitor visitor) {
+            ByteBuffer view = buffer.duplicate();
+            int position = 0;
+
+            while (position + HEADER_BYTES <= view.capacity()) {
+                if (view.getInt(position) != RECORD_MAGIC) {
+                    break;
+                }
+
+                int keyLength = view.getInt(position + 4);
+                int valueLength = view.getInt(position + 8);
+                long expiresAt = view.getLong(position + 12);
+                int end = position + HEADER_BYTES + keyLength + valueLength;
+                if (keyLength <= 0 || valueLength < 0 || end > view.capacity()) {
+                    break;
+                }
+
+                byte[] keyBytes = new byte[keyLength];
+                view.position(position + HEADER_BYTES);
+                view.get(keyBytes);
+
+                visitor.visit(new String(keyBytes, StandardCharsets.UTF_8),
+                        new RecordLocation(this, position, keyLength, valueLength, expiresAt));
+                position = end;
+            }
+
+            writePosition = position;
+        }
+
+        private void close() {
+            try {
+                buffer.force();
+                channel.close();
+            } catch (IOException e) {
+                log.warn("디스크 캐시 세그먼트 닫기 실패: {}", path, e);
+            }
+        }
+
+        private void delete() throws IOException {
+            close();
+            Files.deleteIfExists(path);
+        }
+    }
+}
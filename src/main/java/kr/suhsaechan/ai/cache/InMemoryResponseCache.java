@@ -0,0 +1,190 @@
+package kr.suhsaechan.ai.cache;
+
+import kr.suhsaechan.ai.model.SuhAiderResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 메모리 기반 Generate 응답 캐시 (LRU)
+ *
+ * <p>항목 수와 추정 메모리 사용량 두 가지 한도를 가지며, 한도를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * TTL이 지난 항목은 조회 시점에 제거됩니다.</p>
+ *
+ * <p>저장/반환 시 응답 사본을 사용하므로 호출자가 반환값을 수정해도 캐시에 영향이 없습니다.</p>
+ */
+@Slf4j
+public class InMemoryResponseCache implements ResponseCache {
+
+    /**
+     * 항목당 고정 오버헤드 추정치 (객체 헤더, 필드, 맵 엔트리 등)
+     */
+    private static final long ENTRY_OVERHEAD_BYTES = 256;
+
+    private final int maxEntries;
+    private final long maxWeightBytes;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+
+    /**
+     * 접근 순서(access-order) LinkedHashMap → 맨 앞이 가장 오래 사용되지 않은 항목
+     */
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long totalWeight;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expiredCount = new LongAdder();
+
+    /**
+     * @param maxEntries 최대 항목 수
+     * @param maxWeightBytes 최대 추정 메모리 사용량 (바이트)
+     * @param ttlSeconds 항목 유효 시간 (초, 0 이하이면 만료 없음)
+     */
+    public InMemoryResponseCache(int maxEntries, long maxWeightBytes, long ttlSeconds) {
+        this(maxEntries, maxWeightBytes, ttlSeconds, System::nanoTime);
+    }
+
+    /**
+     * 테스트용 생성자 (시간 공급자 주입)
+     */
+    InMemoryResponseCache(int maxEntries, long maxWeightBytes, long ttlSeconds, LongSupplier ticker) {
+        this.maxEntries = maxEntries;
+        this.maxWeightBytes = maxWeightBytes;
+        this.ttlNanos = ttlSeconds > 0 ? TimeUnit.SECONDS.toNanos(ttlSeconds) : 0;
+        this.ticker = ticker;
+    }
+
+    @Override
+    public SuhAiderResponse get(String key) {
+        lock.lock();
+        try {
+            CacheEntry entry = entries.get(key);
+            if (entry == null) {
+                missCount.increment();
+                return null;
+            }
+
+            if (entry.isExpired(ticker.getAsLong())) {
+                entries.remove(key);
+                totalWeight -= entry.weight;
+                expiredCount.increment();
+                missCount.increment();
+                return null;
+            }
+
+            hitCount.increment();
+            return entry.response.toBuilder().build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(String key, SuhAiderResponse response) {
+        long weight = weigh(key, response);
+        if (weight > maxWeightBytes) {
+            log.debug("응답이 캐시 최대 용량보다 커서 저장하지 않음 - {} bytes", weight);
+            return;
+        }
+
+        long expiresAt = ttlNanos > 0 ? ticker.getAsLong() + ttlNanos : 0;
+        CacheEntry entry = new CacheEntry(response.toBuilder().build(), weight, expiresAt);
+
+        lock.lock();
+        try {
+            CacheEntry previous = entries.put(key, entry);
+            if (previous != null) {
+                totalWeight -= previous.weight;
+            }
+            totalWeight += weight;
+            evictIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 한도를 넘는 동안 가장 오래 사용되지 않은 항목부터 제거 (lock 보유 상태에서 호출)
+     */
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || totalWeight > maxWeightBytes) && iterator.hasNext()) {
+            CacheEntry eldest = iterator.next().getValue();
+            iterator.remove();
+            totalWeight -= eldest.weight;
+            evictionCount.increment();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            totalWeight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CacheStats getStats() {
+        lock.lock();
+        try {
+            return CacheStats.builder()
+                    .hitCount(hitCount.sum())
+                    .missCount(missCount.sum())
+                    .evictionCount(evictionCount.sum())
+                    .expiredCount(expiredCount.sum())
+                    .entryCount(entries.size())
+                    .weightBytes(totalWeight)
+                    .build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 항목의 메모리 사용량 추정 (문자열은 UTF-16 기준 2바이트/문자)
+     */
+    private static long weigh(String key, SuhAiderResponse response) {
+        long chars = key.length();
+        if (response.getResponse() != null) {
+            chars += response.getResponse().length();
+        }
+        if (response.getModel() != null) {
+            chars += response.getModel().length();
+        }
+        return chars * 2 + ENTRY_OVERHEAD_BYTES;
+    }
+
+    private static final class CacheEntry {
+
+        private final SuhAiderResponse response;
+        private final long weight;
+
+        /**
+         * 만료 시각 (ticker 기준 나노초, 0이면 만료 없음)
+         */
+        private final long expiresAt;
+
+        private CacheEntry(SuhAiderResponse response, long weight, long expiresAt) {
+            this.response = response;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package kr.suhsaechan.ai.cache;
+
+import kr.suhsaechan.ai.model.SuhAiderResponse;
+
+/**
+ * Generate 응답 캐시 인터페이스
+ *
+ * <p>SuhAiderEngine은 동일한 모델 + 최종 프롬프트 + 스키마 조합의 요청에 대해
+ * 캐시된 응답(JSON 정제가 끝난 상태)을 반환합니다.
+ * 사용자 정의 구현체를 {@code @Bean}으로 등록하면 기본 구현 대신 사용됩니다.</p>
+ *
+ * <p>구현체는 스레드 안전해야 하며, 호출자가 반환값을 수정해도 캐시 내용이 바뀌지 않도록
+ * 저장/반환 시 사본을 사용해야 합니다.</p>
+ *
+ * @see ResponseCacheKey
+ */
+public interface ResponseCache {
+
+    /**
+     * 캐시 조회
+     *
+     * @param key 캐시 키 ({@link ResponseCacheKey#of})
+     * @return 캐시된 응답 사본 (없거나 만료되었으면 null)
+     */
+    SuhAiderResponse get(String key);
+
+    /**
+     * 캐시 저장
+     *
+     * @param key 캐시 키
+     * @param response 저장할 응답 (JSON 정제가 끝난 상태)
+     */
+    void put(String key, SuhAiderResponse response);
+
+    /**
+     * 캐시 전체 비우기
+     */
+    void invalidateAll();
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 히트/미스/제거 통계
+     */
+    CacheStats getStats();
+}
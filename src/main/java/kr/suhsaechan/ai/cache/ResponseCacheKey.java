@@ -0,0 +1,91 @@
+package kr.suhsaechan.ai.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.suhsaechan.ai.model.GenerateOptions;
+import kr.suhsaechan.ai.model.JsonSchema;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 응답 캐시 키 생성 유틸리티
+ *
+ * <p>모델명, 최종(증강된) 프롬프트, responseSchema, 서버로 보내는 format, 생성 옵션을 SHA-256으로 해시한 16진수 문자열을 키로 사용합니다.
+ * 수백 KB 프롬프트도 고정 길이 키가 되므로 메모리/디스크 캐시 모두에서 그대로 사용할 수 있습니다.</p>
+ */
+public final class ResponseCacheKey {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final String FORMAT_FIELD = "format";
+
+    private ResponseCacheKey() {
+    }
+
+    /**
+     * 캐시 키 생성
+     * format이 같은 프롬프트의 출력 형식을 바꾸므로 키에 포함합니다.
+     * format과 옵션(빈 옵션 포함)이 없으면 해시하지 않으므로 두 필드가 추가되기 전의 디스크 캐시 키와 같은 값이 됩니다.
+     *
+     * @param model 모델명
+     * @param finalPrompt 서버로 전송되는 최종 프롬프트
+     * @param schema 적용된 responseSchema (null 가능)
+     * @param format 서버로 전송되는 format ("json" 또는 JSON Schema 객체, null 가능)
+     * @param options 최종 생성 옵션 (null 가능)
+     * @param objectMapper 스키마/format/옵션 직렬화용 ObjectMapper
+     * @return SHA-256 16진수 문자열 (64자)
+     */
+    public static String of(String model, String finalPrompt, JsonSchema schema, Object format,
+                            GenerateOptions options, ObjectMapper objectMapper) {
+        MessageDigest digest = newDigest();
+        update(digest, model);
+        update(digest, finalPrompt);
+        update(digest, toJson(schema, objectMapper));
+        if (options != null && !options.isEmpty()) {
+            update(digest, toJson(options, objectMapper));
+        }
+        if (format != null) {
+            // 옵션 필드와 구분되도록 이름을 함께 기록
+            update(digest, FORMAT_FIELD);
+            update(digest, toJson(format, objectMapper));
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String toJson(Object value, ObjectMapper objectMapper) {
+        if (value == null) {
+            return "";
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            return value.toString();
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        // 필드 경계 구분자 (("ab", "c")와 ("a", "bc")가 같은 키가 되지 않도록)
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0x0f];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,83 @@
+package kr.suhsaechan.ai.cache;
+
+import kr.suhsaechan.ai.model.SuhAiderResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 메모리 + 디스크 2단계 Generate 응답 캐시
+ *
+ * <p>조회는 메모리 → 디스크 순서로 수행하며, 디스크에서 찾은 항목은 메모리로 올립니다(promote).
+ * 저장은 두 계층에 모두 기록하므로 메모리에서 LRU로 밀려난 항목도 디스크에서 다시 찾을 수 있습니다.</p>
+ */
+@Slf4j
+public class TieredResponseCache implements ResponseCache, Closeable {
+
+    private final ResponseCache memory;
+    private final ResponseCache disk;
+
+    /**
+     * @param memory 1차(메모리) 캐시
+     * @param disk 2차(디스크) 캐시
+     */
+    public TieredResponseCache(ResponseCache memory, ResponseCache disk) {
+        this.memory = memory;
+        this.disk = disk;
+    }
+
+    @Override
+    public SuhAiderResponse get(String key) {
+        SuhAiderResponse response = memory.get(key);
+        if (response != null) {
+            return response;
+        }
+
+        response = disk.get(key);
+        if (response != null) {
+            memory.put(key, response);
+        }
+        return response;
+    }
+
+    @Override
+    public void put(String key, SuhAiderResponse response) {
+        memory.put(key, response);
+        disk.put(key, response);
+    }
+
+    @Override
+    public void invalidateAll() {
+        memory.invalidateAll();
+        disk.invalidateAll();
+    }
+
+    /**
+     * 두 계층을 합산한 통계
+     *
+     * <p>조회는 메모리 계층을 기준으로 하므로 hit은 두 계층의 hit 합, miss는 디스크 계층의 miss입니다.
+     * 항목 수와 용량은 디스크 계층 기준입니다 (메모리 항목은 디스크 항목의 부분 집합).</p>
+     */
+    @Override
+    public CacheStats getStats() {
+        CacheStats memoryStats = memory.getStats();
+        CacheStats diskStats = disk.getStats();
+        return CacheStats.builder()
+                .hitCount(memoryStats.getHitCount() + diskStats.getHitCount())
+                .missCount(diskStats.getMissCount())
+                .evictionCount(diskStats.getEvictionCount())
+                .expiredCount(memoryStats.getExpiredCount() + diskStats.getExpiredCount())
+                .entryCount(diskStats.getEntryCount())
+                .weightBytes(diskStats.getWeightBytes())
+                .build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (disk instanceof Closeable) {
+            ((Closeable) disk).close();
+        }
+        log.debug("계층형 응답 캐시 종료");
+    }
+}
@@ -0,0 +1,237 @@
+package kr.suhsaechan.ai.circuit;
+
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 수 기반 슬라이딩 윈도우 회로 차단기
+ *
+ * <p>최근 {@code slidingWindowSize}개 호출의 실패율 또는 느린 호출 비율이 기준 이상이면 OPEN으로 전이해
+ * {@code waitDurationInOpenStateSeconds} 동안 모든 호출을 즉시 거부합니다. 대기 시간이 지나면 HALF_OPEN으로 전이해
+ * {@code permittedCallsInHalfOpenState}개의 시험 호출만 허용하고, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN입니다.</p>
+ *
+ * <p>호출 전 {@link #tryAcquire()}로 {@link Permit}을 받고, 호출이 끝나면 결과를 Permit에 기록합니다.
+ * 상태가 바뀐 뒤 끝난 이전 상태의 호출 결과는 무시합니다. 상태 변경은 짧은 synchronized 구간에서만 일어납니다.</p>
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final LongSupplier clockMillis;
+    private final int minimumNumberOfCalls;
+    private final double failureRateThreshold;
+    private final long slowCallDurationMillis;
+    private final double slowCallRateThreshold;
+    private final long waitDurationInOpenMillis;
+    private final int permittedCallsInHalfOpenState;
+
+    // 아래 필드는 this로 보호
+    private final byte[] window;
+    private int windowIndex;
+    private int bufferedCalls;
+    private int failedCalls;
+    private int slowCalls;
+
+    private CircuitState state = CircuitState.CLOSED;
+    private long epoch;
+    private long openedAt;
+    private int halfOpenPermitsIssued;
+    private int halfOpenSuccesses;
+
+    /**
+     * @param name 차단기 이름 (로그/상태 조회용)
+     * @param settings 차단기 설정
+     */
+    public CircuitBreaker(String name, SuhAiderConfig.CircuitBreaker settings) {
+        this(name, settings, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(String name, SuhAiderConfig.CircuitBreaker settings, LongSupplier clockMillis) {
+        this.name = name;
+        this.clockMillis = clockMillis;
+        int windowSize = Math.max(1, settings.getSlidingWindowSize());
+        this.window = new byte[windowSize];
+        this.minimumNumberOfCalls = Math.min(Math.max(1, settings.getMinimumNumberOfCalls()), windowSize);
+        this.failureRateThreshold = settings.getFailureRateThreshold();
+        this.slowCallDurationMillis = settings.getSlowCallDurationMillis();
+        this.slowCallRateThreshold = settings.getSlowCallRateThreshold();
+        this.waitDurationInOpenMillis = TimeUnit.SECONDS.toMillis(settings.getWaitDurationInOpenStateSeconds());
+        this.permittedCallsInHalfOpenState = Math.max(1, settings.getPermittedCallsInHalfOpenState());
+    }
+
+    /**
+     * 호출 허가 요청
+     *
+     * @return 허가 (OPEN이거나 HALF_OPEN 시험 호출 수를 모두 사용했으면 null)
+     */
+    public synchronized Permit tryAcquire() {
+        if (state == CircuitState.OPEN) {
+            if (clockMillis.getAsLong() - openedAt < waitDurationInOpenMillis) {
+                return null;
+            }
+            transitionTo(CircuitState.HALF_OPEN);
+        }
+        if (state == CircuitState.HALF_OPEN) {
+            if (halfOpenPermitsIssued >= permittedCallsInHalfOpenState) {
+                return null;
+            }
+            halfOpenPermitsIssued++;
+        }
+        return new Permit(epoch);
+    }
+
+    /**
+     * @return 차단기 이름
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return 현재 상태 (OPEN 대기 시간이 지났더라도 다음 호출 전까지는 OPEN)
+     */
+    public synchronized CircuitState getState() {
+        return state;
+    }
+
+    /**
+     * 상태 스냅샷
+     *
+     * @return 상태 DTO
+     */
+    public synchronized CircuitBreakerStatus getStatus() {
+        return CircuitBreakerStatus.builder()
+                .name(name)
+                .state(state)
+                .failureRate(rate(failedCalls))
+                .slowCallRate(rate(slowCalls))
+                .bufferedCalls(bufferedCalls)
+                .build();
+    }
+
+    private synchronized void record(long permitEpoch, boolean failed, long durationMillis) {
+        if (permitEpoch != epoch) {
+            return;
+        }
+        boolean slow = slowCallDurationMillis > 0 && durationMillis >= slowCallDurationMillis;
+
+        if (state == CircuitState.HALF_OPEN) {
+            if (failed || slow) {
+                transitionTo(CircuitState.OPEN);
+            } else if (++halfOpenSuccesses >= permittedCallsInHalfOpenState) {
+                transitionTo(CircuitState.CLOSED);
+            }
+            return;
+        }
+
+        byte outcome = (byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0));
+        if (bufferedCalls == window.length) {
+            byte evicted = window[windowIndex];
+            failedCalls -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            bufferedCalls++;
+        }
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        failedCalls += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+
+        if (bufferedCalls >= minimumNumberOfCalls
+                && (rate(failedCalls) >= failureRateThreshold
+                || (slowCallDurationMillis > 0 && rate(slowCalls) >= slowCallRateThreshold))) {
+            transitionTo(CircuitState.OPEN);
+        }
+    }
+
+    private synchronized void releaseWithoutRecord(long permitEpoch) {
+        if (permitEpoch == epoch && state == CircuitState.HALF_OPEN) {
+            halfOpenPermitsIssued--;
+        }
+    }
+
+    private void transitionTo(CircuitState next) {
+        CircuitState previous = state;
+        if (next == CircuitState.OPEN) {
+            log.warn("회로 차단기 OPEN - {} (실패율: {}%, 느린 호출 비율: {}%, {}초간 요청 즉시 거부)",
+                    name, Math.round(rate(failedCalls)), Math.round(rate(slowCalls)), waitDurationInOpenMillis / 1000);
+            openedAt = clockMillis.getAsLong();
+        } else {
+            log.info("회로 차단기 {} → {} - {}", previous, next, name);
+        }
+
+        state = next;
+        epoch++;
+        halfOpenPermitsIssued = 0;
+        halfOpenSuccesses = 0;
+        if (next == CircuitState.CLOSED) {
+            bufferedCalls = 0;
+            windowIndex = 0;
+            failedCalls = 0;
+            slowCalls = 0;
+        }
+    }
+
+    private double rate(int count) {
+        return bufferedCalls == 0 ? 0 : count * 100.0 / bufferedCalls;
+    }
+
+    /**
+     * 호출 허가 하나
+     * {@link #onSuccess()}, {@link #onError()}, {@link #release()} 중 처음 호출된 하나만 반영됩니다.
+     */
+    public final class Permit {
+
+        private final long permitEpoch;
+        private final long startNanos = System.nanoTime();
+        private boolean done;
+
+        private Permit(long permitEpoch) {
+            this.permitEpoch = permitEpoch;
+        }
+
+        /**
+         * 호출 성공 기록 (서버가 정상 응답함, 4xx 포함)
+         */
+        public void onSuccess() {
+            complete(false);
+        }
+
+        /**
+         * 호출 실패 기록 (네트워크 오류, 타임아웃, 5xx)
+         */
+        public void onError() {
+            complete(true);
+        }
+
+        /**
+         * 결과를 기록하지 않고 반환 (취소 등 서버 상태와 무관한 종료)
+         */
+        public void release() {
+            synchronized (CircuitBreaker.this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                releaseWithoutRecord(permitEpoch);
+            }
+        }
+
+        private void complete(boolean failed) {
+            long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            synchronized (CircuitBreaker.this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                record(permitEpoch, failed, durationMillis);
+            }
+        }
+    }
+}
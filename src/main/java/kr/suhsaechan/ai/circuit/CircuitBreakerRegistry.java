@@ -0,0 +1,51 @@
+package kr.suhsaechan.ai.circuit;
+
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import kr.suhsaechan.ai.endpoint.Endpoint;
+import kr.suhsaechan.ai.endpoint.ModelNames;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 서버별(선택적으로 서버+모델별) 회로 차단기 저장소
+ */
+public class CircuitBreakerRegistry {
+
+    private final SuhAiderConfig.CircuitBreaker settings;
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    /**
+     * @param settings 차단기 설정 (모든 차단기에 공통 적용)
+     */
+    public CircuitBreakerRegistry(SuhAiderConfig.CircuitBreaker settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * 노드(와 모델)에 해당하는 차단기 조회, 없으면 생성
+     *
+     * @param endpoint 대상 노드
+     * @param model 요청 모델명 (perModel=false이면 무시)
+     * @return 회로 차단기
+     */
+    public CircuitBreaker forEndpoint(Endpoint endpoint, String model) {
+        String name = settings.isPerModel() && model != null
+                ? endpoint.getBaseUrl() + "#" + ModelNames.normalize(model)
+                : endpoint.getBaseUrl();
+        return breakers.computeIfAbsent(name, key -> new CircuitBreaker(key, settings));
+    }
+
+    /**
+     * @return 생성된 모든 차단기의 상태
+     */
+    public List<CircuitBreakerStatus> getStatuses() {
+        List<CircuitBreakerStatus> statuses = new ArrayList<>(breakers.size());
+        for (CircuitBreaker breaker : breakers.values()) {
+            statuses.add(breaker.getStatus());
+        }
+        return statuses;
+    }
+}
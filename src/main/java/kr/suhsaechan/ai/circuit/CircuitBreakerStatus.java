@@ -0,0 +1,41 @@
+package kr.suhsaechan.ai.circuit;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회로 차단기 상태 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CircuitBreakerStatus {
+
+    /**
+     * 차단기 이름 (서버 URL, 모델별 차단 시 "서버 URL#모델명")
+     */
+    private String name;
+
+    /**
+     * 현재 상태
+     */
+    private CircuitState state;
+
+    /**
+     * 슬라이딩 윈도우 실패율 (%, 기록된 호출이 없으면 0)
+     */
+    private double failureRate;
+
+    /**
+     * 슬라이딩 윈도우 느린 호출 비율 (%, 기록된 호출이 없으면 0)
+     */
+    private double slowCallRate;
+
+    /**
+     * 슬라이딩 윈도우에 기록된 호출 수
+     */
+    private int bufferedCalls;
+}
@@ -0,0 +1,22 @@
+package kr.suhsaechan.ai.circuit;
+
+/**
+ * 회로 차단기 상태
+ */
+public enum CircuitState {
+
+    /**
+     * 정상 - 모든 호출 허용, 슬라이딩 윈도우에 결과 기록
+     */
+    CLOSED,
+
+    /**
+     * 차단 - 대기 시간 동안 모든 호출을 즉시 거부
+     */
+    OPEN,
+
+    /**
+     * 시험 - 제한된 수의 시험 호출만 허용해 회복 여부 확인
+     */
+    HALF_OPEN
+}
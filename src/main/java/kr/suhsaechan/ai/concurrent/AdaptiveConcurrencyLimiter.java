@@ -0,0 +1,309 @@
+package kr.suhsaechan.ai.concurrent;
+
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import kr.suhsaechan.ai.exception.SuhAiderErrorCode;
+import kr.suhsaechan.ai.exception.SuhAiderException;
+import kr.suhsaechan.ai.model.RequestPriority;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 적응형 동시성 제한기 (AIMD)
+ *
+ * <p>서버(+모델)에 동시에 보내는 요청 수를 관측된 지연으로 조절합니다. 요청이 끝날 때마다
+ * 토큰당 생성 시간(eval_duration / eval_count)과 서버 내부 대기 시간(total - load - prompt_eval - eval)을 받아,
+ * 대기 시간이 기준을 넘거나 토큰당 생성 시간이 기준값의 {@code latencyTolerance}배를 넘으면 한도를 {@code backoffRatio}배로 줄이고,
+ * 그렇지 않으면서 한도를 충분히 사용 중이면 한도를 1/limit씩(한도만큼 성공하면 +1) 늘립니다.
+ * 타임아웃/5xx도 과부하로 보고 한도를 줄입니다.</p>
+ *
+ * <p>한도를 넘는 요청은 스레드를 점유하지 않는 대기열에서 기다리며, 대기열이 가득 차거나
+ * 대기 시간이 지나면 {@link SuhAiderErrorCode#OVERLOADED}로 즉시 실패합니다.
+ * 대기열은 우선순위별로 나뉘어 {@link RequestPriority#INTERACTIVE} 요청이 항상 먼저 허가를 받고,
+ * 같은 우선순위 안에서는 {@link WeightedFairQueue}로 테넌트 가중치에 비례해 번갈아 허가합니다.
+ * 대기 시간 초과는 생성자로 받은 {@link Executor}에서 처리합니다.</p>
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * 기준 토큰당 생성 시간이 관측값을 따라 올라가는 비율 (모델 교체/컨텍스트 변화 반영)
+     */
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final long queueWaitThresholdNanos;
+    private final int[] maxQueueSizes;
+    private final long[] queueTimeoutMillis;
+    private final QueueWaitRecorder recorder;
+    private final Executor executor;
+
+    // 아래 필드는 this로 보호
+    private double limit;
+    private int inFlight;
+    private double baselineNanosPerToken;
+
+    /**
+     * 우선순위별 대기열 (RequestPriority.ordinal() 순서, 앞쪽이 먼저 허가됨)
+     */
+    private final List<WeightedFairQueue<Waiter>> waiters = new ArrayList<>();
+
+    /**
+     * @param name 제한기 이름 (로그/상태 조회용)
+     * @param settings 동시성 제한 설정
+     * @param executor 대기 시간 초과를 처리할 Executor
+     */
+    public AdaptiveConcurrencyLimiter(String name, SuhAiderConfig.ConcurrencyLimit settings, Executor executor) {
+        this(name, settings, new SuhAiderConfig.Scheduling(), new QueueWaitRecorder(), executor);
+    }
+
+    /**
+     * @param name 제한기 이름 (로그/상태 조회용)
+     * @param settings 동시성 제한 설정 (INTERACTIVE 대기열 크기/시간 포함)
+     * @param scheduling 스케줄링 설정 (테넌트 가중치, BATCH 대기열 크기/시간)
+     * @param recorder 대기 시간 기록기
+     * @param executor 대기 시간 초과를 처리할 Executor
+     */
+    public AdaptiveConcurrencyLimiter(String name, SuhAiderConfig.ConcurrencyLimit settings,
+                                      SuhAiderConfig.Scheduling scheduling, QueueWaitRecorder recorder,
+                                      Executor executor) {
+        this.name = name;
+        this.minLimit = Math.max(1, settings.getMinLimit());
+        this.maxLimit = Math.max(minLimit, settings.getMaxLimit());
+        this.limit = Math.min(maxLimit, Math.max(minLimit, settings.getInitialLimit()));
+        this.backoffRatio = Math.min(0.99, Math.max(0.1, settings.getBackoffRatio()));
+        this.latencyTolerance = Math.max(1.0, settings.getLatencyTolerance());
+        this.queueWaitThresholdNanos = TimeUnit.MILLISECONDS.toNanos(settings.getQueueWaitThresholdMillis());
+        this.maxQueueSizes = new int[] {
+                Math.max(0, settings.getMaxQueueSize()), Math.max(0, scheduling.getBatchMaxQueueSize())};
+        this.queueTimeoutMillis = new long[] {
+                settings.getQueueTimeoutMillis(), scheduling.getBatchQueueTimeoutMillis()};
+        this.recorder = recorder;
+        this.executor = executor;
+
+        Map<String, Integer> tenantWeights = scheduling.getTenantWeights();
+        for (int i = 0; i < RequestPriority.values().length; i++) {
+            waiters.add(new WeightedFairQueue<>(tenant -> {
+                Integer weight = tenantWeights != null ? tenantWeights.get(tenant) : null;
+                return weight != null ? weight : 1;
+            }));
+        }
+    }
+
+    /**
+     * 실행 허가 요청 (INTERACTIVE, 기본 테넌트)
+     *
+     * @return 허가를 담은 Future
+     * @see #acquire(RequestPriority, String)
+     */
+    public CompletableFuture<Permit> acquire() {
+        return acquire(null, null);
+    }
+
+    /**
+     * 실행 허가 요청
+     * 한도 안이고 먼저 기다리는 요청이 없으면 즉시 완료된 Future를, 아니면 대기열에 들어간 Future를 반환합니다.
+     *
+     * @param priority 우선순위 (null이면 INTERACTIVE)
+     * @param tenant 테넌트 키 (null이면 기본 테넌트)
+     * @return 허가를 담은 Future (대기열이 가득 찼거나 대기 시간이 지나면 OVERLOADED로 실패, cancel 시 대기열에서 제외)
+     */
+    public CompletableFuture<Permit> acquire(RequestPriority priority, String tenant) {
+        RequestPriority effectivePriority = priority != null ? priority : RequestPriority.INTERACTIVE;
+        int lane = effectivePriority.ordinal();
+        Waiter waiter;
+        synchronized (this) {
+            if (inFlight < (int) limit && !hasWaitersAtOrAbove(lane)) {
+                inFlight++;
+                recorder.recordAdmitted(effectivePriority, 0);
+                return CompletableFuture.completedFuture(new Permit());
+            }
+            WeightedFairQueue<Waiter> queue = waiters.get(lane);
+            if (queue.size() >= maxQueueSizes[lane]) {
+                // 취소/시간 초과로 끝난 대기 항목을 정리한 뒤 다시 확인
+                queue.removeIf(queued -> queued.future.isDone());
+            }
+            if (queue.size() >= maxQueueSizes[lane]) {
+                recorder.recordRejected(effectivePriority);
+                return CompletableFuture.failedFuture(new SuhAiderException(SuhAiderErrorCode.OVERLOADED,
+                        name + " (" + effectivePriority + ", 한도: " + (int) limit + ", 대기: " + queue.size() + ")"));
+            }
+            waiter = new Waiter(effectivePriority);
+            queue.add(tenant != null ? tenant : "", waiter);
+        }
+
+        long timeoutMillis = queueTimeoutMillis[lane];
+        if (timeoutMillis > 0) {
+            CompletableFuture.delayedExecutor(timeoutMillis, TimeUnit.MILLISECONDS, executor).execute(() -> {
+                if (waiter.future.completeExceptionally(new SuhAiderException(SuhAiderErrorCode.OVERLOADED,
+                        name + " (" + effectivePriority + ", 대기 시간 " + timeoutMillis + "ms 초과)"))) {
+                    recorder.recordTimedOut(effectivePriority);
+                }
+            });
+        }
+        return waiter.future;
+    }
+
+    /**
+     * @return 상태 스냅샷
+     */
+    public synchronized ConcurrencyLimitStatus getStatus() {
+        purgeDoneWaiters();
+        int queued = 0;
+        for (WeightedFairQueue<Waiter> queue : waiters) {
+            queued += queue.size();
+        }
+        return ConcurrencyLimitStatus.builder()
+                .name(name)
+                .limit((int) limit)
+                .inFlight(inFlight)
+                .queued(queued)
+                .baselineMillisPerToken(baselineNanosPerToken / 1_000_000.0)
+                .build();
+    }
+
+    private void complete(Sample sample, long nanosPerToken, long queueWaitNanos) {
+        List<Waiter> granted;
+        synchronized (this) {
+            inFlight--;
+            int previousLimit = (int) limit;
+
+            if (sample == Sample.SUCCESS && nanosPerToken > 0) {
+                boolean slowTokens = baselineNanosPerToken > 0 && nanosPerToken > baselineNanosPerToken * latencyTolerance;
+                if (baselineNanosPerToken == 0 || nanosPerToken < baselineNanosPerToken) {
+                    baselineNanosPerToken = nanosPerToken;
+                } else {
+                    baselineNanosPerToken += (nanosPerToken - baselineNanosPerToken) * BASELINE_DRIFT;
+                }
+                if (slowTokens) {
+                    sample = Sample.OVERLOAD;
+                }
+            }
+            if (sample == Sample.SUCCESS && queueWaitThresholdNanos > 0 && queueWaitNanos > queueWaitThresholdNanos) {
+                sample = Sample.OVERLOAD;
+            }
+
+            if (sample == Sample.OVERLOAD) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (sample == Sample.SUCCESS && inFlight + 1 >= limit / 2) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+
+            if ((int) limit != previousLimit) {
+                log.debug("동시성 한도 변경 - {}: {} → {}", name, previousLimit, (int) limit);
+            }
+            granted = grantWaiters();
+        }
+        for (Waiter waiter : granted) {
+            if (waiter.future.complete(new Permit())) {
+                recorder.recordAdmitted(waiter.priority, System.nanoTime() - waiter.enqueuedAtNanos);
+            } else {
+                complete(Sample.IGNORED, 0, 0);
+            }
+        }
+    }
+
+    /**
+     * 한도 안에서 대기 중인 요청에 우선순위 순서로 허가 배정 (Future 완료는 잠금 밖에서)
+     */
+    private List<Waiter> grantWaiters() {
+        List<Waiter> granted = new ArrayList<>();
+        for (WeightedFairQueue<Waiter> queue : waiters) {
+            while (inFlight < (int) limit && !queue.isEmpty()) {
+                Waiter waiter = queue.poll();
+                if (!waiter.future.isDone()) {
+                    inFlight++;
+                    granted.add(waiter);
+                }
+            }
+        }
+        return granted;
+    }
+
+    private boolean hasWaitersAtOrAbove(int lane) {
+        for (int i = 0; i <= lane; i++) {
+            if (!waiters.get(i).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void purgeDoneWaiters() {
+        for (WeightedFairQueue<Waiter> queue : waiters) {
+            queue.removeIf(waiter -> waiter.future.isDone());
+        }
+    }
+
+    /**
+     * 대기 중인 요청 하나
+     */
+    private static final class Waiter {
+        private final CompletableFuture<Permit> future = new CompletableFuture<>();
+        private final RequestPriority priority;
+        private final long enqueuedAtNanos = System.nanoTime();
+
+        private Waiter(RequestPriority priority) {
+            this.priority = priority;
+        }
+    }
+
+    private enum Sample {
+        SUCCESS, OVERLOAD, IGNORED
+    }
+
+    /**
+     * 실행 허가 하나
+     * {@link #onSuccess}, {@link #onOverload()}, {@link #release()} 중 처음 호출된 하나만 반영됩니다.
+     */
+    public final class Permit {
+
+        private boolean done;
+
+        private Permit() {
+        }
+
+        /**
+         * 정상 완료 기록
+         *
+         * @param nanosPerToken 토큰당 생성 시간 (나노초, 알 수 없으면 0)
+         * @param queueWaitNanos 서버 내부 대기 시간 (나노초, 알 수 없으면 0)
+         */
+        public void onSuccess(long nanosPerToken, long queueWaitNanos) {
+            finish(Sample.SUCCESS, nanosPerToken, queueWaitNanos);
+        }
+
+        /**
+         * 과부하 신호 기록 (타임아웃, 5xx 등) - 한도 감소
+         */
+        public void onOverload() {
+            finish(Sample.OVERLOAD, 0, 0);
+        }
+
+        /**
+         * 한도 조절 없이 반환 (취소, 4xx 등)
+         */
+        public void release() {
+            finish(Sample.IGNORED, 0, 0);
+        }
+
+        private void finish(Sample sample, long nanosPerToken, long queueWaitNanos) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+            }
+            complete(sample, nanosPerToken, queueWaitNanos);
+        }
+    }
+}
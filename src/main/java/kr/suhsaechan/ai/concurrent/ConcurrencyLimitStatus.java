@@ -0,0 +1,41 @@
+package kr.suhsaechan.ai.concurrent;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 적응형 동시성 제한 상태 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConcurrencyLimitStatus {
+
+    /**
+     * 제한기 이름 ("서버 URL#모델명")
+     */
+    private String name;
+
+    /**
+     * 현재 동시 실행 한도
+     */
+    private int limit;
+
+    /**
+     * 실행 중인 요청 수
+     */
+    private int inFlight;
+
+    /**
+     * 대기열에서 기다리는 요청 수
+     */
+    private int queued;
+
+    /**
+     * 기준 토큰당 생성 시간 (밀리초, 측정 전이면 0)
+     */
+    private double baselineMillisPerToken;
+}
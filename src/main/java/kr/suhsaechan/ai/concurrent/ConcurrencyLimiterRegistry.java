@@ -0,0 +1,67 @@
+package kr.suhsaechan.ai.concurrent;
+
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import kr.suhsaechan.ai.endpoint.Endpoint;
+import kr.suhsaechan.ai.endpoint.ModelNames;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 서버+모델별 적응형 동시성 제한기 저장소
+ * 모델마다 토큰당 생성 시간과 병렬 처리 능력이 다르므로 항상 서버+모델 단위로 제한합니다.
+ */
+public class ConcurrencyLimiterRegistry {
+
+    private final SuhAiderConfig.ConcurrencyLimit settings;
+    private final SuhAiderConfig.Scheduling scheduling;
+    private final Executor executor;
+    private final QueueWaitRecorder recorder = new QueueWaitRecorder();
+    private final ConcurrentMap<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * @param settings 동시성 제한 설정 (모든 제한기에 공통 적용)
+     * @param scheduling 대기열 스케줄링 설정 (모든 제한기에 공통 적용)
+     * @param executor 대기 시간 초과를 처리할 Executor
+     */
+    public ConcurrencyLimiterRegistry(SuhAiderConfig.ConcurrencyLimit settings, SuhAiderConfig.Scheduling scheduling,
+                                      Executor executor) {
+        this.settings = settings;
+        this.scheduling = scheduling;
+        this.executor = executor;
+    }
+
+    /**
+     * 노드와 모델에 해당하는 제한기 조회, 없으면 생성
+     *
+     * @param endpoint 대상 노드
+     * @param model 요청 모델명
+     * @return 동시성 제한기
+     */
+    public AdaptiveConcurrencyLimiter forEndpoint(Endpoint endpoint, String model) {
+        String name = endpoint.getBaseUrl() + "#" + ModelNames.normalize(model);
+        return limiters.computeIfAbsent(name,
+                key -> new AdaptiveConcurrencyLimiter(key, settings, scheduling, recorder, executor));
+    }
+
+    /**
+     * @return 생성된 모든 제한기의 상태
+     */
+    public List<ConcurrencyLimitStatus> getStatuses() {
+        List<ConcurrencyLimitStatus> statuses = new ArrayList<>(limiters.size());
+        for (AdaptiveConcurrencyLimiter limiter : limiters.values()) {
+            statuses.add(limiter.getStatus());
+        }
+        return statuses;
+    }
+
+    /**
+     * @return 모든 제한기를 합친 우선순위별 대기열 통계
+     */
+    public List<QueueWaitStats> getQueueWaitStats() {
+        return recorder.getStats();
+    }
+}
@@ -0,0 +1,82 @@
+package kr.suhsaechan.ai.concurrent;
+
+import kr.suhsaechan.ai.model.RequestPriority;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 우선순위별 대기열 대기 시간 기록기 (모든 동시성 제한기가 공유)
+ */
+public class QueueWaitRecorder {
+
+    private final Map<RequestPriority, Counters> counters = new EnumMap<>(RequestPriority.class);
+
+    public QueueWaitRecorder() {
+        for (RequestPriority priority : RequestPriority.values()) {
+            counters.put(priority, new Counters());
+        }
+    }
+
+    /**
+     * 실행 허가 기록
+     *
+     * @param priority 우선순위
+     * @param waitNanos 대기 시간 (나노초, 바로 허가받았으면 0)
+     */
+    void recordAdmitted(RequestPriority priority, long waitNanos) {
+        Counters target = counters.get(priority);
+        target.admitted.incrementAndGet();
+        target.totalWaitNanos.addAndGet(waitNanos);
+        target.maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * 대기열 포화로 인한 거부 기록
+     *
+     * @param priority 우선순위
+     */
+    void recordRejected(RequestPriority priority) {
+        counters.get(priority).rejected.incrementAndGet();
+    }
+
+    /**
+     * 대기 시간 초과 기록
+     *
+     * @param priority 우선순위
+     */
+    void recordTimedOut(RequestPriority priority) {
+        counters.get(priority).timedOut.incrementAndGet();
+    }
+
+    /**
+     * @return 우선순위별 통계
+     */
+    public List<QueueWaitStats> getStats() {
+        List<QueueWaitStats> stats = new ArrayList<>(counters.size());
+        for (Map.Entry<RequestPriority, Counters> entry : counters.entrySet()) {
+            Counters value = entry.getValue();
+            stats.add(QueueWaitStats.builder()
+                    .priority(entry.getKey())
+                    .admittedCount(value.admitted.get())
+                    .rejectedCount(value.rejected.get())
+                    .timedOutCount(value.timedOut.get())
+                    .totalWaitMillis(TimeUnit.NANOSECONDS.toMillis(value.totalWaitNanos.get()))
+                    .maxWaitMillis(TimeUnit.NANOSECONDS.toMillis(value.maxWaitNanos.get()))
+                    .build());
+        }
+        return stats;
+    }
+
+    private static final class Counters {
+        private final AtomicLong admitted = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong timedOut = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+    }
+}
@@ -0,0 +1,56 @@
+package kr.suhsaechan.ai.concurrent;
+
+import kr.suhsaechan.ai.model.RequestPriority;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 우선순위별 동시성 제한 대기열 통계 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueueWaitStats {
+
+    /**
+     * 우선순위 클래스
+     */
+    private RequestPriority priority;
+
+    /**
+     * 실행 허가를 받은 요청 수 (대기 없이 바로 받은 요청 포함)
+     */
+    private long admittedCount;
+
+    /**
+     * 대기열이 가득 차 거부된 요청 수
+     */
+    private long rejectedCount;
+
+    /**
+     * 대기 시간이 지나 실패한 요청 수
+     */
+    private long timedOutCount;
+
+    /**
+     * 누적 대기 시간 (밀리초)
+     */
+    private long totalWaitMillis;
+
+    /**
+     * 최대 대기 시간 (밀리초)
+     */
+    private long maxWaitMillis;
+
+    /**
+     * 평균 대기 시간 (밀리초)
+     *
+     * @return 허가받은 요청이 없으면 0.0
+     */
+    public double getAverageWaitMillis() {
+        return admittedCount == 0 ? 0.0 : (double) totalWaitMillis / admittedCount;
+    }
+}
@@ -0,0 +1,168 @@
+package kr.suhsaechan.ai.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 동일 키 요청 병합(single-flight) 유틸리티
+ *
+ * <p>같은 키로 진행 중인 작업이 있으면 새 작업을 시작하지 않고 진행 중인 작업의 결과를 함께 받습니다.
+ * 첫 호출자(leader)만 loader를 실행하고, 이후 호출자(follower)는 같은 결과를 기다립니다.
+ * 작업이 끝나면 키가 제거되므로 완료 이후의 요청은 새 작업을 시작합니다.</p>
+ *
+ * <p>호출자마다 별도의 Future를 반환하므로 한 호출자의 {@code cancel()}이 다른 호출자에게 영향을 주지 않습니다.
+ * 모든 호출자가 취소한 경우에만 원본 작업을 취소합니다.</p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> valueCopier;
+
+    private final LongAdder leaderCount = new LongAdder();
+    private final LongAdder deduplicatedCount = new LongAdder();
+
+    /**
+     * @param valueCopier 호출자마다 결과 사본을 만드는 함수 (가변 결과 객체 공유 방지)
+     */
+    public SingleFlight(UnaryOperator<V> valueCopier) {
+        this.valueCopier = valueCopier;
+    }
+
+    /**
+     * 키에 대한 작업 실행 또는 진행 중인 작업에 합류
+     *
+     * @param key 작업 식별 키
+     * @param loader 실제 작업 (leader일 때만 호출, 호출 스레드에서 실행)
+     * @return 작업 결과를 담은 호출자 전용 CompletableFuture
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> loader) {
+        while (true) {
+            Flight existing = inFlight.get(key);
+            if (existing != null) {
+                if (existing.tryJoin()) {
+                    deduplicatedCount.increment();
+                    return existing.newWaiter(key);
+                }
+                // 모든 호출자가 취소해 정리 중인 작업 → 새로 시작
+                inFlight.remove(key, existing);
+                continue;
+            }
+
+            Flight flight = new Flight();
+            if (inFlight.putIfAbsent(key, flight) != null) {
+                continue;
+            }
+
+            leaderCount.increment();
+            CompletableFuture<V> waiter = flight.newWaiter(key);
+            flight.start(loader, () -> inFlight.remove(key, flight));
+            return waiter;
+        }
+    }
+
+    /**
+     * 병합 통계 조회
+     *
+     * @return 현재까지의 통계
+     */
+    public SingleFlightStats getStats() {
+        return SingleFlightStats.builder()
+                .leaderCount(leaderCount.sum())
+                .deduplicatedCount(deduplicatedCount.sum())
+                .inFlightCount(inFlight.size())
+                .build();
+    }
+
+    /**
+     * 진행 중인 작업 하나
+     */
+    private final class Flight {
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+
+        /**
+         * 결과를 기다리는 호출자 수 (leader 포함, 0이 되면 작업 취소)
+         */
+        private final AtomicInteger waiters = new AtomicInteger(1);
+
+        private volatile CompletableFuture<V> upstream;
+
+        /**
+         * 취소되지 않은 작업이면 호출자 수 증가
+         */
+        private boolean tryJoin() {
+            while (true) {
+                int current = waiters.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (waiters.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private CompletableFuture<V> newWaiter(K key) {
+            CompletableFuture<V> waiter = new CompletableFuture<>();
+            result.whenComplete((value, error) -> {
+                if (error != null) {
+                    waiter.completeExceptionally(unwrap(error));
+                } else {
+                    waiter.complete(value != null ? valueCopier.apply(value) : null);
+                }
+            });
+            waiter.whenComplete((value, error) -> {
+                if (waiter.isCancelled() && waiters.decrementAndGet() == 0) {
+                    inFlight.remove(key, this);
+                    CompletableFuture<V> running = upstream;
+                    if (running != null) {
+                        running.cancel(true);
+                    }
+                    result.cancel(true);
+                }
+            });
+            return waiter;
+        }
+
+        private void start(Supplier<CompletableFuture<V>> loader, Runnable onDone) {
+            CompletableFuture<V> running;
+            try {
+                running = loader.get();
+            } catch (RuntimeException e) {
+                running = CompletableFuture.failedFuture(e);
+            }
+            upstream = running;
+
+            running.whenComplete((value, error) -> {
+                // 결과 전달 전에 키를 제거해 완료 이후의 요청은 새 작업을 시작하도록 함
+                onDone.run();
+                if (error != null) {
+                    result.completeExceptionally(unwrap(error));
+                } else {
+                    result.complete(value);
+                }
+            });
+
+            // 모든 호출자가 loader 실행 중에 취소한 경우
+            if (waiters.get() == 0) {
+                running.cancel(true);
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+}
@@ -0,0 +1,41 @@
+package kr.suhsaechan.ai.concurrent;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 요청 병합(single-flight) 통계 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SingleFlightStats {
+
+    /**
+     * 실제 작업을 시작한 호출 수 (서버 요청 수)
+     */
+    private long leaderCount;
+
+    /**
+     * 진행 중인 작업에 합류해 서버 요청을 생략한 호출 수
+     */
+    private long deduplicatedCount;
+
+    /**
+     * 현재 진행 중인 작업 수
+     */
+    private long inFlightCount;
+
+    /**
+     * 병합 비율 (0.0 ~ 1.0)
+     *
+     * @return 호출이 없으면 0.0
+     */
+    public double getDeduplicationRate() {
+        long total = leaderCount + deduplicatedCount;
+        return total == 0 ? 0.0 : (double) deduplicatedCount / total;
+    }
+}
@@ -0,0 +1,241 @@
+package kr.suhsaechan.ai.concurrent;
+
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SUH-AIDER 비동기 작업 전용 Executor
+ *
+ * <p>SuhAiderEngine의 비동기 작업(모델 목록 백그라운드 로드, 모델 사전 로드, 지연 실행되는 재시도/헤징/마감 처리)이
+ * 이 Executor에서 실행됩니다. JVM 공용 ForkJoinPool을 사용하지 않으므로 다른 병렬 작업을 방해하지 않습니다.</p>
+ *
+ * <p>OkHttp Dispatcher의 비동기 호출(enqueue)은 {@link #createDispatcherExecutor(SuhAiderConfig.Async)}로 만든
+ * 별도 Executor에서 실행됩니다. 스트림을 끝까지 읽는 콜백이 이 풀을 점유해 다른 작업이 밀리지 않도록 분리합니다.</p>
+ *
+ * <p>실행 모드:</p>
+ * <ul>
+ *   <li>PLATFORM: 크기가 제한된 플랫폼 스레드 풀 + 제한된 대기열</li>
+ *   <li>VIRTUAL: 작업마다 가상 스레드 생성 (JDK 21 이상, 미지원 런타임에서는 PLATFORM으로 대체)</li>
+ * </ul>
+ *
+ * <p>대기열 깊이, 실행 중인 작업 수 등 상태 값을 조회할 수 있습니다.</p>
+ */
+@Slf4j
+public class SuhAiderAsyncExecutor extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+
+    /**
+     * PLATFORM 모드의 스레드 풀 (VIRTUAL 모드에서는 null)
+     */
+    private final ThreadPoolExecutor threadPool;
+
+    private final boolean virtualThreads;
+
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    private final AtomicLong completedTasks = new AtomicLong();
+    private final AtomicLong rejectedTasks = new AtomicLong();
+
+    private SuhAiderAsyncExecutor(ExecutorService delegate, ThreadPoolExecutor threadPool, boolean virtualThreads) {
+        this.delegate = delegate;
+        this.threadPool = threadPool;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * 설정에 따라 Executor 생성
+     *
+     * @param config suh.aider.async 설정
+     * @return SuhAiderAsyncExecutor
+     */
+    public static SuhAiderAsyncExecutor create(SuhAiderConfig.Async config) {
+        if (config.getMode() == SuhAiderConfig.Async.Mode.VIRTUAL) {
+            ExecutorService virtualExecutor = newVirtualThreadPerTaskExecutor();
+            if (virtualExecutor != null) {
+                log.info("SuhAider 비동기 Executor 초기화 - 모드: VIRTUAL (작업당 가상 스레드)");
+                return new SuhAiderAsyncExecutor(virtualExecutor, null, true);
+            }
+            log.warn("현재 런타임({})은 가상 스레드를 지원하지 않습니다. PLATFORM 모드로 대체합니다.",
+                    System.getProperty("java.version"));
+        }
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                config.getPoolSize(),
+                config.getPoolSize(),
+                config.getKeepAliveSeconds(),
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(config.getQueueCapacity()),
+                new NamedThreadFactory(config.getThreadNamePrefix())
+        );
+        pool.allowCoreThreadTimeOut(true);
+
+        log.info("SuhAider 비동기 Executor 초기화 - 모드: PLATFORM, poolSize: {}, queueCapacity: {}",
+                config.getPoolSize(), config.getQueueCapacity());
+        return new SuhAiderAsyncExecutor(pool, pool, false);
+    }
+
+    /**
+     * OkHttp Dispatcher 전용 Executor 생성
+     * 동시 호출 수는 Dispatcher(maxRequests, maxRequestsPerHost)가 제한하므로 OkHttp 기본 Executor처럼 크기 제한 없이 만듭니다.
+     * 스트리밍 호출은 스트림이 끝날 때까지 스레드 하나를 점유합니다.
+     * - PLATFORM: 필요할 때 스레드를 만들고 유휴 시간이 지나면 종료 (대기열 없음)
+     * - VIRTUAL: 호출마다 가상 스레드 (JDK 21 이상, 미지원 시 PLATFORM으로 대체)
+     *
+     * @param config suh.aider.async 설정 (mode, keepAliveSeconds, threadNamePrefix 사용)
+     * @return Dispatcher용 SuhAiderAsyncExecutor
+     */
+    public static SuhAiderAsyncExecutor createDispatcherExecutor(SuhAiderConfig.Async config) {
+        if (config.getMode() == SuhAiderConfig.Async.Mode.VIRTUAL) {
+            ExecutorService virtualExecutor = newVirtualThreadPerTaskExecutor();
+            if (virtualExecutor != null) {
+                return new SuhAiderAsyncExecutor(virtualExecutor, null, true);
+            }
+        }
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                0,
+                Integer.MAX_VALUE,
+                config.getKeepAliveSeconds(),
+                TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new NamedThreadFactory(config.getThreadNamePrefix() + "http-")
+        );
+        return new SuhAiderAsyncExecutor(pool, pool, false);
+    }
+
+    /**
+     * JDK 21+ 의 Executors.newVirtualThreadPerTaskExecutor()를 리플렉션으로 호출
+     * (컴파일 타깃이 17이므로 직접 참조하지 않음)
+     *
+     * @return 가상 스레드 Executor (미지원 런타임이면 null)
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        try {
+            delegate.execute(() -> {
+                activeTasks.incrementAndGet();
+                try {
+                    command.run();
+                } finally {
+                    activeTasks.decrementAndGet();
+                    completedTasks.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedTasks.incrementAndGet();
+            log.warn("SuhAider 비동기 작업 거부됨 - 대기열 포화 (queueSize: {}, active: {})",
+                    getQueueSize(), getActiveCount());
+            throw e;
+        }
+    }
+
+    /**
+     * 실행 대기 중인 작업 수 (VIRTUAL 모드는 항상 0)
+     */
+    public int getQueueSize() {
+        return threadPool != null ? threadPool.getQueue().size() : 0;
+    }
+
+    /**
+     * 현재 실행 중인 작업 수
+     */
+    public int getActiveCount() {
+        return activeTasks.get();
+    }
+
+    /**
+     * 완료된 작업 누적 수
+     */
+    public long getCompletedTaskCount() {
+        return completedTasks.get();
+    }
+
+    /**
+     * 대기열 포화로 거부된 작업 누적 수
+     */
+    public long getRejectedTaskCount() {
+        return rejectedTasks.get();
+    }
+
+    /**
+     * 현재 풀의 스레드 수 (VIRTUAL 모드는 실행 중인 작업 수와 동일)
+     */
+    public int getPoolSize() {
+        return threadPool != null ? threadPool.getPoolSize() : activeTasks.get();
+    }
+
+    /**
+     * 가상 스레드 모드 여부
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * 스레드 이름 접두사를 적용하는 데몬 스레드 팩토리
+     */
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package kr.suhsaechan.ai.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 테넌트별 가중 공정 대기열 (Weighted Fair Queuing)
+ *
+ * <p>테넌트마다 FIFO 대기열을 두고, 각 항목에 가상 완료 시각(이전 완료 시각 + 1/가중치)을 매겨
+ * 가장 이른 항목부터 꺼냅니다 (같으면 먼저 들어온 항목). 대기열이 계속 차 있으면 테넌트별 처리량은 가중치에 비례하며,
+ * 한 테넌트가 대량의 요청을 넣어도 다른 테넌트의 요청은 곧바로 차례가 옵니다.</p>
+ *
+ * <p>스레드 안전하지 않습니다. 호출자(AdaptiveConcurrencyLimiter)의 잠금 안에서만 사용합니다.</p>
+ *
+ * @param <E> 항목 타입
+ */
+final class WeightedFairQueue<E> {
+
+    private final ToDoubleFunction<String> weights;
+    private final Map<String, TenantQueue<E>> tenants = new HashMap<>();
+    private double virtualTime;
+    private long sequence;
+    private int size;
+
+    /**
+     * @param weights 테넌트 가중치 함수 (0 이하이면 1로 취급)
+     */
+    WeightedFairQueue(ToDoubleFunction<String> weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * 항목 추가
+     *
+     * @param tenant 테넌트 키
+     * @param element 항목
+     */
+    void add(String tenant, E element) {
+        TenantQueue<E> queue = tenants.computeIfAbsent(tenant, key -> new TenantQueue<>());
+        double weight = weights.applyAsDouble(tenant);
+        double finishTag = Math.max(virtualTime, queue.lastFinishTag) + 1.0 / (weight > 0 ? weight : 1.0);
+        queue.lastFinishTag = finishTag;
+        queue.entries.addLast(new Entry<>(element, finishTag, sequence++));
+        size++;
+    }
+
+    /**
+     * 가상 완료 시각이 가장 이른 항목 꺼내기
+     *
+     * @return 항목 (비어 있으면 null)
+     */
+    E poll() {
+        String bestTenant = null;
+        TenantQueue<E> best = null;
+        for (Map.Entry<String, TenantQueue<E>> candidate : tenants.entrySet()) {
+            TenantQueue<E> queue = candidate.getValue();
+            if (best == null || queue.entries.peekFirst().precedes(best.entries.peekFirst())) {
+                bestTenant = candidate.getKey();
+                best = queue;
+            }
+        }
+        if (best == null) {
+            return null;
+        }
+
+        Entry<E> entry = best.entries.pollFirst();
+        size--;
+        virtualTime = entry.finishTag;
+        if (best.entries.isEmpty()) {
+            // 빈 테넌트는 제거 (다시 들어오면 현재 가상 시각부터 시작)
+            tenants.remove(bestTenant);
+        }
+        return entry.element;
+    }
+
+    /**
+     * 조건에 맞는 항목 제거 (취소/시간 초과된 대기 항목 정리)
+     *
+     * @param condition 제거 조건
+     */
+    void removeIf(Predicate<E> condition) {
+        Iterator<TenantQueue<E>> iterator = tenants.values().iterator();
+        while (iterator.hasNext()) {
+            TenantQueue<E> queue = iterator.next();
+            int before = queue.entries.size();
+            queue.entries.removeIf(entry -> condition.test(entry.element));
+            size -= before - queue.entries.size();
+            if (queue.entries.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @return 대기 항목 수
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return 비어 있으면 true
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static final class TenantQueue<E> {
+        private final Deque<Entry<E>> entries = new ArrayDeque<>();
+        private double lastFinishTag;
+    }
+
+    private static final class Entry<E> {
+        private final E element;
+        private final double finishTag;
+        private final long sequence;
+
+        private Entry(E element, double finishTag, long sequence) {
+            this.element = element;
+            this.finishTag = finishTag;
+            this.sequence = sequence;
+        }
+
+        private boolean precedes(Entry<E> other) {
+            return finishTag < other.finishTag || (finishTag == other.finishTag && sequence < other.sequence);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package kr.suhsaechan.ai.config;
+
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OkHttp Dispatcher / ConnectionPool 포화 상태 로깅 리스너
+ *
+ * <p>호출이 시작될 때 Dispatcher 대기열에 밀린 호출이 있거나(maxRequests / maxRequestsPerHost 도달),
+ * 열린 연결 수가 유휴 연결 한도를 넘으면 경고 로그를 남깁니다.
+ * 로그 폭주를 막기 위해 지정된 간격마다 최대 1회만 기록합니다.</p>
+ */
+@Slf4j
+class HttpClientSaturationListener extends EventListener {
+
+    private final Dispatcher dispatcher;
+    private final ConnectionPool connectionPool;
+    private final int maxIdleConnections;
+    private final long logIntervalNanos;
+
+    /**
+     * 마지막 경고 로그 시각 (System.nanoTime 기준)
+     */
+    private final AtomicLong lastWarnNanos = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+
+    HttpClientSaturationListener(Dispatcher dispatcher, ConnectionPool connectionPool,
+                                 int maxIdleConnections, int logIntervalSeconds) {
+        this.dispatcher = dispatcher;
+        this.connectionPool = connectionPool;
+        this.maxIdleConnections = maxIdleConnections;
+        this.logIntervalNanos = TimeUnit.SECONDS.toNanos(Math.max(1, logIntervalSeconds));
+    }
+
+    @Override
+    public void callStart(Call call) {
+        int queued = dispatcher.queuedCallsCount();
+        int connections = connectionPool.connectionCount();
+
+        boolean dispatcherSaturated = queued > 0;
+        boolean poolSaturated = connections > maxIdleConnections;
+        if (!dispatcherSaturated && !poolSaturated) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long last = lastWarnNanos.get();
+        if (now - last < logIntervalNanos || !lastWarnNanos.compareAndSet(last, now)) {
+            return;
+        }
+
+        if (dispatcherSaturated) {
+            log.warn("SuhAider HTTP Dispatcher 포화 - 실행 중: {}, 대기: {} (maxRequests: {}, maxRequestsPerHost: {}). "
+                            + "suh.aider.http-client.max-requests / max-requests-per-host 값을 늘리는 것을 고려하세요.",
+                    dispatcher.runningCallsCount(), queued,
+                    dispatcher.getMaxRequests(), dispatcher.getMaxRequestsPerHost());
+        }
+        if (poolSaturated) {
+            log.warn("SuhAider HTTP ConnectionPool 포화 - 열린 연결: {}, 유휴 연결: {} (maxIdleConnections: {}). "
+                            + "초과 연결은 재사용되지 못하고 종료됩니다. suh.aider.http-client.max-idle-connections 값을 늘리는 것을 고려하세요.",
+                    connections, connectionPool.idleConnectionCount(), maxIdleConnections);
+        }
+    }
+}
@@ -2,10 +2,16 @@ package kr.suhsaechan.ai.config;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.suhsaechan.ai.cache.DiskResponseCache;
+import kr.suhsaechan.ai.cache.InMemoryResponseCache;
+import kr.suhsaechan.ai.cache.ResponseCache;
+import kr.suhsaechan.ai.cache.TieredResponseCache;
+import kr.suhsaechan.ai.concurrent.SuhAiderAsyncExecutor;
 import kr.suhsaechan.ai.service.SuhAiderEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -15,11 +21,12 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.file.Paths;
 import java.util.concurrent.TimeUnit;
 
 /**
  * SUH-AIDER 클라이언트 설정
- * OkHttpClient와 ObjectMapper Bean을 생성합니다.
+ * OkHttpClient, ObjectMapper, 비동기 작업 / HTTP 호출 Executor Bean을 생성합니다.
  */
 @Slf4j
 @Configuration
@@ -30,19 +37,68 @@ public class SuhAiderClientConfig {
 
     private final SuhAiderConfig config;
 
+    /**
+     * SUH-AIDER 비동기 작업 전용 Executor Bean 생성
+     * - PLATFORM: 제한된 플랫폼 스레드 풀
+     * - VIRTUAL: 가상 스레드 (JDK 21+)
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "suhAiderAsyncExecutor")
+    public SuhAiderAsyncExecutor suhAiderAsyncExecutor() {
+        return SuhAiderAsyncExecutor.create(config.getAsync());
+    }
+
+    /**
+     * OkHttp Dispatcher 비동기 호출(generateAsync / generateStreamAsync) 전용 Executor Bean 생성
+     * 동시 실행 수는 Dispatcher(suh.aider.http-client.max-requests)가 제한하므로 크기 제한 없이 만듭니다.
+     * 상태 값은 {@link SuhAiderEngine#getHttpExecutor()}로 조회할 수 있습니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "suhAiderHttpExecutor")
+    public SuhAiderAsyncExecutor suhAiderHttpExecutor() {
+        return SuhAiderAsyncExecutor.createDispatcherExecutor(config.getAsync());
+    }
+
     /**
      * SUH-AIDER 서버 통신용 OkHttpClient Bean 생성
      * - 타임아웃 설정 (config 기반)
-     * - Connection Pool 설정 (성능 최적화)
+     * - Connection Pool / Dispatcher 설정 (suh.aider.http-client 기반)
+     * - 비동기 호출 Dispatcher는 suhAiderHttpExecutor 사용 (동시 실행 수는 maxRequests로 제한,
+     *   스트림을 읽는 콜백이 suhAiderAsyncExecutor의 작업을 밀어내지 않도록 분리)
+     * - Dispatcher / Connection Pool 포화 시 경고 로그
      * - 리다이렉트 자동 처리
      */
     @Bean
     @ConditionalOnMissingBean(name = "suhAiderHttpClient")
-    public OkHttpClient suhAiderHttpClient() {
-        log.info("SuhAider OkHttpClient 초기화 - baseUrl: {}, connectTimeout: {}s, readTimeout: {}s",
-                config.getBaseUrl(),
+    public OkHttpClient suhAiderHttpClient(@Qualifier("suhAiderHttpExecutor") SuhAiderAsyncExecutor httpExecutor) {
+        SuhAiderConfig.HttpClient httpClientConfig = config.getHttpClient();
+
+        log.info("SuhAider OkHttpClient 초기화 - endpoints: {}, connectTimeout: {}s, readTimeout: {}s",
+                config.resolveEndpoints(),
                 config.getConnectTimeout(),
                 config.getReadTimeout());
+        log.info("SuhAider OkHttpClient 연결 설정 - maxRequests: {}, maxRequestsPerHost: {}, maxIdleConnections: {}, keepAlive: {}s",
+                httpClientConfig.getMaxRequests(),
+                httpClientConfig.getMaxRequestsPerHost(),
+                httpClientConfig.getMaxIdleConnections(),
+                httpClientConfig.getKeepAliveSeconds());
+
+        Dispatcher dispatcher = new Dispatcher(httpExecutor);
+        dispatcher.setMaxRequests(httpClientConfig.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(httpClientConfig.getMaxRequestsPerHost());
+
+        ConnectionPool connectionPool = new ConnectionPool(
+                httpClientConfig.getMaxIdleConnections(),
+                httpClientConfig.getKeepAliveSeconds(),
+                TimeUnit.SECONDS
+        );
+
+        HttpClientSaturationListener saturationListener = new HttpClientSaturationListener(
+                dispatcher,
+                connectionPool,
+                httpClientConfig.getMaxIdleConnections(),
+                httpClientConfig.getSaturationLogIntervalSeconds()
+        );
 
         return new OkHttpClient.Builder()
                 .connectTimeout(config.getConnectTimeout(), TimeUnit.SECONDS)
@@ -50,7 +106,9 @@ public class SuhAiderClientConfig {
                 .writeTimeout(config.getWriteTimeout(), TimeUnit.SECONDS)
                 .followRedirects(true)
                 .followSslRedirects(true)
-                .connectionPool(new ConnectionPool(5, 5, TimeUnit.MINUTES))
+                .connectionPool(connectionPool)
+                .dispatcher(dispatcher)
+                .eventListener(saturationListener)
                 .retryOnConnectionFailure(true)
                 .build();
     }
@@ -67,6 +125,49 @@ public class SuhAiderClientConfig {
         return mapper;
     }
 
+    /**
+     * Generate 응답 캐시 Bean 생성 (suh.aider.cache.enabled=true일 때만)
+     *
+     * 사용자가 ResponseCache를 @Bean으로 등록하면 그 구현체를 사용합니다.
+     * suh.aider.cache.disk.enabled=true이면 메모리 + 디스크 계층형 캐시를 생성합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean(ResponseCache.class)
+    @ConditionalOnProperty(prefix = "suh.aider.cache", name = "enabled", havingValue = "true")
+    public ResponseCache suhAiderResponseCache(@Qualifier("suhAiderObjectMapper") ObjectMapper objectMapper) {
+        SuhAiderConfig.Cache cacheConfig = config.getCache();
+        log.info("SuhAider 응답 캐시 활성화 - maxEntries: {}, maxMemory: {}MB, ttl: {}s",
+                cacheConfig.getMaxEntries(), cacheConfig.getMaxMemoryMb(), cacheConfig.getTtlSeconds());
+        InMemoryResponseCache memoryCache = new InMemoryResponseCache(
+                cacheConfig.getMaxEntries(),
+                cacheConfig.getMaxMemoryMb() * 1024L * 1024L,
+                cacheConfig.getTtlSeconds()
+        );
+
+        SuhAiderConfig.Cache.Disk diskConfig = cacheConfig.getDisk();
+        if (!diskConfig.isEnabled()) {
+            return memoryCache;
+        }
+
+        // 세그먼트 하나는 int 오프셋으로 메모리 맵하므로 2GB 미만이어야 함
+        long segmentSizeBytes = diskConfig.getSegmentSizeMb() * 1024L * 1024L;
+        if (diskConfig.getSegmentSizeMb() < 1 || segmentSizeBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "suh.aider.cache.disk.segment-size-mb는 1 이상 2047 이하여야 합니다: " + diskConfig.getSegmentSizeMb());
+        }
+
+        log.info("SuhAider 디스크 캐시 활성화 - directory: {}, segmentSize: {}MB, maxSize: {}MB",
+                diskConfig.getDirectory(), diskConfig.getSegmentSizeMb(), diskConfig.getMaxSizeMb());
+        DiskResponseCache diskCache = new DiskResponseCache(
+                Paths.get(diskConfig.getDirectory()),
+                (int) segmentSizeBytes,
+                diskConfig.getMaxSizeMb() * 1024L * 1024L,
+                cacheConfig.getTtlSeconds(),
+                objectMapper
+        );
+        return new TieredResponseCache(memoryCache, diskCache);
+    }
+
     /**
      * SuhAiderEngine Bean 생성 (Customizer 주입 지원)
      *
@@ -77,9 +178,13 @@ public class SuhAiderClientConfig {
     public SuhAiderEngine suhAiderEngine(
             @Qualifier("suhAiderHttpClient") OkHttpClient httpClient,
             @Qualifier("suhAiderObjectMapper") ObjectMapper objectMapper,
+            @Qualifier("suhAiderAsyncExecutor") SuhAiderAsyncExecutor asyncExecutor,
+            @Autowired(required = false) ResponseCache responseCache,
             @Autowired(required = false) SuhAiderCustomizer customizer
     ) {
-        log.info("SuhAiderEngine Bean 생성 - customizer: {}", customizer != null ? "있음" : "없음");
-        return new SuhAiderEngine(httpClient, objectMapper, config, customizer);
+        log.info("SuhAiderEngine Bean 생성 - customizer: {}, responseCache: {}",
+                customizer != null ? "있음" : "없음",
+                responseCache != null ? "있음" : "없음");
+        return new SuhAiderEngine(httpClient, objectMapper, config, asyncExecutor, responseCache, customizer);
     }
 }
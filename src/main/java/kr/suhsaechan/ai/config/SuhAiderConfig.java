@@ -1,8 +1,15 @@
 package kr.suhsaechan.ai.config;
 
+import kr.suhsaechan.ai.exception.SuhAiderErrorCode;
+import kr.suhsaechan.ai.model.GenerateOptions;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * SUH-AIDER AI 서버 연동을 위한 설정 프로퍼티
  */
@@ -16,6 +23,18 @@ public class SuhAiderConfig {
      */
     private String baseUrl = "https://ai.suhsaechan.kr";
 
+    /**
+     * AI 서버 URL 목록 (여러 Ollama 서버에 부하 분산)
+     * 비어 있으면 baseUrl 하나만 사용합니다.
+     * 예시: [http://gpu-1:11434, http://gpu-2:11434]
+     */
+    private List<String> endpoints = new ArrayList<>();
+
+    /**
+     * 여러 AI 서버 간 부하 분산 설정
+     */
+    private LoadBalancer loadBalancer = new LoadBalancer();
+
     /**
      * Security Header 설정 (선택적)
      * 설정하지 않으면 인증 헤더를 추가하지 않습니다.
@@ -41,12 +60,122 @@ public class SuhAiderConfig {
      */
     private int writeTimeout = 30;
 
+    /**
+     * OkHttp Dispatcher / ConnectionPool 설정
+     */
+    private HttpClient httpClient = new HttpClient();
+
     /**
      * Auto-Configuration 활성화 여부
      * 기본값: true
      */
     private boolean enabled = true;
 
+    /**
+     * OkHttp Dispatcher / ConnectionPool 설정 클래스
+     * 여러 요청을 병렬로 처리하는 GPU 서버에 맞춰 동시 요청 수와 연결 풀 크기를 조정합니다.
+     */
+    @Data
+    public static class HttpClient {
+
+        /**
+         * 유지할 최대 유휴 연결 수
+         * 기본값: 5
+         */
+        private int maxIdleConnections = 5;
+
+        /**
+         * 유휴 연결 유지 시간 (초)
+         * 기본값: 300초 (5분)
+         */
+        private int keepAliveSeconds = 300;
+
+        /**
+         * 비동기 호출 최대 동시 실행 수 (전체)
+         * 기본값: 64 (OkHttp 기본값)
+         */
+        private int maxRequests = 64;
+
+        /**
+         * 비동기 호출 최대 동시 실행 수 (호스트별)
+         * 기본값: 5 (OkHttp 기본값)
+         * 단일 Ollama 서버에 병렬 요청을 보내려면 서버의 OLLAMA_NUM_PARALLEL 이상으로 늘리세요.
+         */
+        private int maxRequestsPerHost = 5;
+
+        /**
+         * Dispatcher / ConnectionPool 포화 경고 로그 최소 간격 (초)
+         * 기본값: 60초
+         */
+        private int saturationLogIntervalSeconds = 60;
+    }
+
+    /**
+     * 부하 분산 설정 클래스
+     * 요청마다 정상 노드 두 개를 무작위로 골라 진행 중인 요청이 적은 쪽으로 보냅니다 (power-of-two-choices).
+     */
+    @Data
+    public static class LoadBalancer {
+
+        /**
+         * 헬스 체크 간격 (초)
+         * 백그라운드 스레드가 노드별 UP / DEGRADED / DOWN 상태를 갱신하며, DOWN 노드는 다시 정상 응답할 때까지 분산 대상에서 제외됩니다.
+         * 0 이하이면 주기적 체크를 하지 않습니다 (isHealthy() 호출 시에만 갱신).
+         * 기본값: 30초
+         */
+        private int healthCheckIntervalSeconds = 30;
+
+        /**
+         * 헬스 프로브 타임아웃 (밀리초)
+         * 이 시간 안에 응답이 없으면 프로브 실패로 기록합니다.
+         * 기본값: 2000ms
+         */
+        private int healthCheckTimeoutMillis = 2000;
+
+        /**
+         * DOWN 판정 기준 연속 프로브 실패 횟수
+         * 이보다 적은 연속 실패는 DEGRADED로 기록합니다.
+         * 기본값: 2
+         */
+        private int healthCheckFailureThreshold = 2;
+
+        /**
+         * DEGRADED 판정 기준 프로브 지연 EWMA (밀리초)
+         * 0 이하이면 지연으로 DEGRADED 판정을 하지 않습니다.
+         * 기본값: 1000ms
+         */
+        private long degradedLatencyMillis = 1000;
+
+        /**
+         * 노드별 모델 목록(/api/tags, /api/ps) 갱신 간격 (초)
+         * 헬스 체크 스레드가 처음 정상으로 확인한 노드와 DOWN에서 복귀한 노드는 바로 갱신하고,
+         * 그 외에는 이 간격마다 갱신합니다 (프로브 타임아웃 적용). 0 이하이면 상태 전이 시에만 갱신합니다.
+         * 기본값: 120초
+         */
+        private int endpointModelRefreshIntervalSeconds = 120;
+
+        /**
+         * 모델 분산 임계값 (진행 중인 요청 수)
+         * 요청 모델이 이미 로드된 노드를 우선 선택하되, 그 노드의 진행 중인 요청이 이 값 이상이면
+         * 모델이 설치된 다른 노드로 분산합니다 (해당 노드는 모델 로드 시간이 추가됨).
+         * 0 이하이면 로드된 노드가 있는 한 항상 그 노드로 보냅니다.
+         * 기본값: 8
+         */
+        private int modelSpilloverThreshold = 8;
+    }
+
+    /**
+     * 요청을 보낼 AI 서버 URL 목록
+     *
+     * @return endpoints가 비어 있으면 baseUrl 하나만 담은 목록
+     */
+    public List<String> resolveEndpoints() {
+        if (endpoints == null || endpoints.isEmpty()) {
+            return List.of(baseUrl);
+        }
+        return List.copyOf(endpoints);
+    }
+
     /**
      * Security Header 설정 클래스
      */
@@ -96,6 +225,27 @@ public class SuhAiderConfig {
          */
         private boolean loadOnStartup = true;
 
+        /**
+         * 초기화 시 모델 목록을 백그라운드에서 로드할지 여부 (load-on-startup=true일 때만 의미 있음)
+         * 기본값: false
+         * true: 초기화를 즉시 끝내고 백그라운드에서 로드하며, 첫 로드에 성공할 때까지 백오프로 재시도합니다
+         *       (AI 서버에 연결할 수 없어도 애플리케이션 기동이 지연되지 않음, SuhAiderEngine.whenModelsReady()로 완료 확인)
+         * false: Bean 초기화 중에 동기로 한 번 로드합니다
+         */
+        private boolean asyncWarmUp = false;
+
+        /**
+         * 백그라운드 로드 실패 후 첫 재시도 대기 시간 (밀리초)
+         * 기본값: 1000 (실패할 때마다 2배씩 증가)
+         */
+        private long warmUpInitialBackoffMillis = 1000;
+
+        /**
+         * 백그라운드 로드 재시도 대기 시간 상한 (밀리초)
+         * 기본값: 60000
+         */
+        private long warmUpMaxBackoffMillis = 60000;
+
         /**
          * 스케줄링 활성화 여부
          * 기본값: false
@@ -121,4 +271,632 @@ public class SuhAiderConfig {
          */
         private String timezone = "Asia/Seoul";
     }
+
+    /**
+     * 비동기 작업 Executor 설정
+     */
+    private Async async = new Async();
+
+    /**
+     * 비동기 작업 Executor 설정 클래스
+     * 엔진의 백그라운드 작업에 사용할 전용 Executor를 구성합니다.
+     * mode, keepAliveSeconds, threadNamePrefix는 OkHttp Dispatcher 전용 Executor(크기 제한 없음)에도 적용됩니다.
+     */
+    @Data
+    public static class Async {
+
+        /**
+         * 실행 모드
+         * 기본값: PLATFORM
+         * PLATFORM: 크기가 제한된 플랫폼 스레드 풀 사용
+         * VIRTUAL: 작업마다 가상 스레드 사용 (JDK 21 이상, 미지원 시 PLATFORM으로 대체)
+         */
+        private Mode mode = Mode.PLATFORM;
+
+        /**
+         * 플랫폼 스레드 풀 크기 (PLATFORM 모드)
+         * 기본값: 64 (OkHttp Dispatcher 기본 maxRequests와 동일)
+         */
+        private int poolSize = 64;
+
+        /**
+         * 작업 대기열 최대 크기 (PLATFORM 모드)
+         * 초과 시 작업이 거부됩니다.
+         * 기본값: 1000
+         */
+        private int queueCapacity = 1000;
+
+        /**
+         * 유휴 스레드 유지 시간 (초, PLATFORM 모드)
+         * 기본값: 60초
+         */
+        private int keepAliveSeconds = 60;
+
+        /**
+         * 스레드 이름 접두사 (PLATFORM 모드, Dispatcher 스레드는 접두사 뒤에 http-가 붙음)
+         * 기본값: suh-aider-async-
+         */
+        private String threadNamePrefix = "suh-aider-async-";
+
+        /**
+         * Executor 실행 모드
+         */
+        public enum Mode {
+            PLATFORM,
+            VIRTUAL
+        }
+    }
+
+    /**
+     * Generate 응답 캐시 설정
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * Generate 응답 캐시 설정 클래스
+     * 동일한 모델 + 최종 프롬프트 + 스키마 요청에 대해 캐시된 응답을 반환합니다.
+     * 결정적인(같은 입력에 같은 출력을 기대하는) 호출에만 사용하세요.
+     */
+    @Data
+    public static class Cache {
+
+        /**
+         * 캐시 활성화 여부
+         * 기본값: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * 최대 항목 수
+         * 기본값: 1000
+         */
+        private int maxEntries = 1000;
+
+        /**
+         * 최대 메모리 사용량 (MB, 추정치)
+         * 기본값: 64
+         */
+        private int maxMemoryMb = 64;
+
+        /**
+         * 항목 유효 시간 (초)
+         * 0 이하이면 만료되지 않습니다.
+         * 기본값: 3600초 (1시간)
+         */
+        private long ttlSeconds = 3600;
+
+        /**
+         * 디스크 캐시 설정 (메모리 캐시 뒤의 2차 캐시)
+         */
+        private Disk disk = new Disk();
+
+        /**
+         * 디스크 캐시 설정
+         * 응답을 메모리 맵 세그먼트 파일에 저장하여 재시작 후에도 재사용합니다.
+         * 로컬 파일 시스템 경로만 지원하며, 하나의 디렉터리는 하나의 프로세스만 사용해야 합니다.
+         */
+        @Data
+        public static class Disk {
+
+            /**
+             * 디스크 캐시 활성화 여부 (cache.enabled=true일 때만 적용)
+             * 기본값: false
+             */
+            private boolean enabled = false;
+
+            /**
+             * 세그먼트 파일 저장 디렉터리
+             * 기본값: ./suh-aider-cache
+             */
+            private String directory = "./suh-aider-cache";
+
+            /**
+             * 세그먼트 파일 하나의 크기 (MB)
+             * 이보다 큰 응답은 디스크에 저장하지 않습니다.
+             * 1 이상 2047 이하 (그 밖의 값은 기동 시 오류)
+             * 기본값: 64
+             */
+            private int segmentSizeMb = 64;
+
+            /**
+             * 전체 디스크 사용량 한도 (MB, 초과 시 오래된 세그먼트부터 압축)
+             * 기본값: 1024
+             */
+            private long maxSizeMb = 1024;
+        }
+    }
+
+    /**
+     * 동일 요청 병합(single-flight) 설정
+     */
+    private Coalescing coalescing = new Coalescing();
+
+    /**
+     * 동일 요청 병합 설정 클래스
+     * 모델 + 최종 프롬프트 + 스키마가 같은 Generate 요청이 동시에 진행 중이면
+     * 서버 요청 하나만 보내고 모든 호출자가 같은 응답을 받습니다.
+     * 같은 입력에 서로 다른 샘플을 기대하는 호출에는 사용하지 마세요 (요청별 우회: skipCache).
+     */
+    @Data
+    public static class Coalescing {
+
+        /**
+         * 요청 병합 활성화 여부
+         * 기본값: false
+         */
+        private boolean enabled = false;
+    }
+
+    /**
+     * 회로 차단기 설정
+     */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * 회로 차단기 설정 클래스
+     * 서버(선택적으로 서버+모델)별로 최근 호출의 실패율/느린 호출 비율을 추적해,
+     * 기준을 넘으면 일정 시간 요청을 즉시 CIRCUIT_OPEN으로 거부합니다 (readTimeout까지 기다리지 않음).
+     * 네트워크 오류, 타임아웃, 5xx 응답만 실패로 기록합니다.
+     * 기본 비활성화이며, suh.aider.circuit-breaker.enabled=true로 켭니다.
+     */
+    @Data
+    public static class CircuitBreaker {
+
+        /**
+         * 회로 차단기 활성화 여부
+         * 기본값: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * 모델별 차단 여부
+         * true이면 같은 서버라도 모델마다 별도의 차단기를 사용합니다 (특정 모델만 과부하인 경우).
+         * 기본값: false
+         */
+        private boolean perModel = false;
+
+        /**
+         * 슬라이딩 윈도우 크기 (최근 호출 수)
+         * 기본값: 20
+         */
+        private int slidingWindowSize = 20;
+
+        /**
+         * 실패율 계산에 필요한 최소 호출 수
+         * 기본값: 10
+         */
+        private int minimumNumberOfCalls = 10;
+
+        /**
+         * OPEN 전이 기준 실패율 (%)
+         * 기본값: 50
+         */
+        private double failureRateThreshold = 50;
+
+        /**
+         * 느린 호출 기준 (밀리초)
+         * 0 이하이면 느린 호출을 판정하지 않습니다 (생성 시간은 출력 길이에 따라 크게 달라지므로 기본 비활성화).
+         * 기본값: 0
+         */
+        private long slowCallDurationMillis = 0;
+
+        /**
+         * OPEN 전이 기준 느린 호출 비율 (%)
+         * 기본값: 80
+         */
+        private double slowCallRateThreshold = 80;
+
+        /**
+         * OPEN 상태 유지 시간 (초)
+         * 이 시간이 지나면 HALF_OPEN으로 전이해 시험 호출을 허용합니다.
+         * 기본값: 30초
+         */
+        private int waitDurationInOpenStateSeconds = 30;
+
+        /**
+         * HALF_OPEN 상태에서 허용할 시험 호출 수
+         * 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN으로 전이합니다.
+         * 기본값: 2
+         */
+        private int permittedCallsInHalfOpenState = 2;
+    }
+
+    /**
+     * 재시도 설정
+     */
+    private Retry retry = new Retry();
+
+    /**
+     * 재시도 설정 클래스
+     * Generate와 모델 조회 요청이 일시적 오류(5xx, 연결 실패 등)로 실패하면 지수 백오프 + jitter 후 다시 시도합니다.
+     * 스트리밍은 첫 청크를 전달하기 전에 실패한 경우에만 재시도합니다.
+     * 기본 비활성화이며, suh.aider.retry.enabled=true로 켭니다.
+     */
+    @Data
+    public static class Retry {
+
+        /**
+         * 재시도 활성화 여부
+         * 기본값: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * 최대 시도 횟수 (첫 시도 포함)
+         * 기본값: 3
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 첫 재시도 대기 시간 상한 (밀리초)
+         * 실제 대기 시간은 0 ~ 상한 사이의 무작위 값입니다 (full jitter).
+         * 기본값: 200ms
+         */
+        private long initialBackoffMillis = 200;
+
+        /**
+         * 재시도 대기 시간 상한의 최대값 (밀리초)
+         * 기본값: 2000ms
+         */
+        private long maxBackoffMillis = 2000;
+
+        /**
+         * 재시도마다 대기 시간 상한에 곱할 배수
+         * 기본값: 2.0
+         */
+        private double multiplier = 2.0;
+
+        /**
+         * 재시도 대상 에러 코드
+         * READ_TIMEOUT은 서버가 이미 처리 중일 수 있어 기본값에서 제외합니다.
+         * 기본값: [SERVER_ERROR, NETWORK_ERROR, CONNECTION_TIMEOUT]
+         */
+        private List<SuhAiderErrorCode> retryableErrorCodes = new ArrayList<>(List.of(
+                SuhAiderErrorCode.SERVER_ERROR,
+                SuhAiderErrorCode.NETWORK_ERROR,
+                SuhAiderErrorCode.CONNECTION_TIMEOUT));
+
+        /**
+         * 재시도 예산 (전체 요청 대비 재시도 비율, %)
+         * 서버 장애 시 재시도가 트래픽을 증폭시키는 것(retry storm)을 막습니다.
+         * 기본값: 20
+         */
+        private double budgetPercent = 20;
+
+        /**
+         * 재시도 예산 버킷 크기 (한 번에 허용할 최대 재시도 수)
+         * 트래픽이 적을 때도 이 횟수만큼은 재시도할 수 있습니다.
+         * 기본값: 10
+         */
+        private int budgetBurst = 10;
+    }
+
+    /**
+     * 헤징(hedged request) 설정
+     */
+    private Hedging hedging = new Hedging();
+
+    /**
+     * 헤징 설정 클래스
+     * Generate 요청이 지연 시간 안에 끝나지 않으면 다른 서버로 같은 요청을 하나 더 보내고 먼저 성공한 응답을 사용합니다.
+     * 느린 서버 하나가 p99 응답 시간을 좌우하는 경우에 사용하며, endpoints가 2개 이상일 때만 동작합니다.
+     */
+    @Data
+    public static class Hedging {
+
+        /**
+         * 헤징 활성화 여부
+         * 기본값: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * 추가 요청을 보내기까지의 지연 시간 (밀리초)
+         * 0 이하이면 모델별로 관측된 p95 응답 시간을 사용합니다.
+         * 기본값: 0 (관측 p95)
+         */
+        private long delayMillis = 0;
+
+        /**
+         * 관측 p95를 사용하기 위한 최소 응답 샘플 수
+         * 샘플이 부족한 동안에는 추가 요청을 보내지 않습니다.
+         * 기본값: 20
+         */
+        private int minSamples = 20;
+
+        /**
+         * 헤징 예산 (전체 요청 대비 추가 요청 비율, %)
+         * 추가 요청이 GPU 부하를 크게 늘리지 않도록 제한합니다.
+         * 기본값: 10
+         */
+        private double budgetPercent = 10;
+
+        /**
+         * 헤징 예산 버킷 크기 (한 번에 허용할 최대 추가 요청 수)
+         * 기본값: 5
+         */
+        private int budgetBurst = 5;
+    }
+
+    /**
+     * 적응형 동시성 제한 설정
+     */
+    private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+    /**
+     * 적응형 동시성 제한 설정 클래스 (AIMD)
+     * 서버+모델별로 동시에 보내는 Generate 요청 수를 관측된 토큰당 생성 시간, 서버 내부 대기 시간, 오류로 조절해
+     * 서버의 실제 병렬 처리 능력(OLLAMA_NUM_PARALLEL, GPU 여유)을 자동으로 찾습니다.
+     * http-client.max-requests-per-host가 max-limit보다 작으면 Dispatcher 한도가 먼저 적용됩니다.
+     */
+    @Data
+    public static class ConcurrencyLimit {
+
+        /**
+         * 적응형 동시성 제한 활성화 여부
+         * 기본값: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * 초기 한도
+         * 기본값: 4
+         */
+        private int initialLimit = 4;
+
+        /**
+         * 최소 한도
+         * 기본값: 1
+         */
+        private int minLimit = 1;
+
+        /**
+         * 최대 한도
+         * 기본값: 32
+         */
+        private int maxLimit = 32;
+
+        /**
+         * 과부하 감지 시 한도에 곱할 비율 (multiplicative decrease)
+         * 기본값: 0.9
+         */
+        private double backoffRatio = 0.9;
+
+        /**
+         * 과부하로 판단할 토큰당 생성 시간 배수 (관측된 최소값 대비)
+         * 기본값: 2.0
+         */
+        private double latencyTolerance = 2.0;
+
+        /**
+         * 과부하로 판단할 서버 내부 대기 시간 (밀리초)
+         * Ollama가 병렬 슬롯이 모자라 요청을 대기시키면 total_duration에 포함됩니다.
+         * 0 이하이면 대기 시간으로 판단하지 않습니다.
+         * 기본값: 200ms
+         */
+        private long queueWaitThresholdMillis = 200;
+
+        /**
+         * 한도를 넘는 요청의 최대 대기열 크기
+         * 대기열이 가득 차면 OVERLOADED로 즉시 실패합니다 (0이면 대기 없이 즉시 실패).
+         * 기본값: 100
+         */
+        private int maxQueueSize = 100;
+
+        /**
+         * 대기열 최대 대기 시간 (밀리초)
+         * 0 이하이면 제한하지 않습니다.
+         * 기본값: 10000ms
+         */
+        private long queueTimeoutMillis = 10000;
+    }
+
+    /**
+     * 요청 스케줄링 설정 (우선순위 / 테넌트 공정성)
+     */
+    private Scheduling scheduling = new Scheduling();
+
+    /**
+     * 요청 스케줄링 설정 클래스
+     * 적응형 동시성 제한(concurrency-limit)의 대기열 순서를 정합니다 (concurrency-limit.enabled=true일 때만 동작).
+     * INTERACTIVE 요청은 항상 BATCH 요청보다 먼저 실행되고, 같은 우선순위 안에서는 테넌트 가중치에 비례해 번갈아 실행됩니다.
+     * INTERACTIVE 대기열 크기와 대기 시간은 concurrency-limit.max-queue-size / queue-timeout-millis를 사용합니다.
+     */
+    @Data
+    public static class Scheduling {
+
+        /**
+         * 테넌트별 가중치 (예: chat: 4, report: 1)
+         * 기본값: 비어 있음 (모든 테넌트 가중치 1)
+         */
+        private Map<String, Integer> tenantWeights = new HashMap<>();
+
+        /**
+         * BATCH 요청 최대 대기열 크기
+         * 대기열이 가득 차면 OVERLOADED로 즉시 실패합니다.
+         * 기본값: 1000
+         */
+        private int batchMaxQueueSize = 1000;
+
+        /**
+         * BATCH 요청 대기열 최대 대기 시간 (밀리초)
+         * 0 이하이면 제한하지 않습니다.
+         * 기본값: 60000ms
+         */
+        private long batchQueueTimeoutMillis = 60000;
+    }
+
+    /**
+     * 속도 제한 설정 (모델별 / API 키별)
+     */
+    private RateLimit rateLimit = new RateLimit();
+
+    /**
+     * 속도 제한 설정 클래스
+     * 상위 서버의 모델별/키별 할당량을 넘지 않도록 초당 요청 수와 분당 예상 토큰 수를 제한합니다 (GCRA, 잠금 없음).
+     * 예상 토큰 수는 프롬프트 길이 / 4 + estimated-output-tokens이며, 응답을 받으면 실제 토큰 수(prompt_eval_count + eval_count)로 보정합니다.
+     * 캐시 적중과 병합된 요청은 서버를 호출하지 않으므로 제한에 포함되지 않습니다.
+     */
+    @Data
+    public static class RateLimit {
+
+        /**
+         * 속도 제한 활성화 여부
+         * 기본값: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * 한도 초과 시 최대 대기 시간 (밀리초)
+         * 이 시간 안에 한도가 회복되면 기다렸다가 실행하고, 아니면 RATE_LIMITED로 즉시 실패합니다.
+         * 0이면 기다리지 않고 즉시 실패합니다.
+         * 기본값: 0
+         */
+        private long maxWaitMillis = 0;
+
+        /**
+         * 토큰 예상 시 더할 출력 토큰 수
+         * 기본값: 256
+         */
+        private int estimatedOutputTokens = 256;
+
+        /**
+         * models에 없는 모델의 한도
+         * 기본값: 제한 없음
+         */
+        private Quota defaultModel = new Quota();
+
+        /**
+         * 모델별 한도 (키: 모델명, 태그가 없으면 :latest)
+         * 키는 대괄호로 감싸야 합니다. Spring Boot는 대괄호 밖의 ':'를 제거하므로 models.gemma3:4b는 "gemma34b"로 바인딩됩니다.
+         * 예: models.[gemma3:4b].requests-per-second=5 (YAML: "[gemma3:4b]":)
+         * 기본값: 비어 있음
+         */
+        private Map<String, Quota> models = new HashMap<>();
+
+        /**
+         * API 키(suh.aider.security.api-key) 단위 한도 - 모든 모델의 요청 합계에 적용
+         * 기본값: 제한 없음
+         */
+        private Quota apiKey = new Quota();
+
+        /**
+         * 한도 하나
+         */
+        @Data
+        public static class Quota {
+
+            /**
+             * 초당 요청 수 (0 이하이면 제한 없음)
+             * 기본값: 0
+             */
+            private double requestsPerSecond = 0;
+
+            /**
+             * 한 번에 몰아서 보낼 수 있는 요청 수 (0 이하이면 1초 분량)
+             * 기본값: 0
+             */
+            private int requestBurst = 0;
+
+            /**
+             * 분당 예상 토큰 수 (0 이하이면 제한 없음)
+             * 1분 분량까지 한 번에 사용할 수 있습니다.
+             * 기본값: 0
+             */
+            private long tokensPerMinute = 0;
+        }
+    }
+
+    /**
+     * 모델 사전 로드 설정 (Ollama keep_alive)
+     */
+    private Preload preload = new Preload();
+
+    /**
+     * 모델 사전 로드 설정 클래스
+     * 지정한 모델을 기동 시 모든 노드에 미리 로드하고, 주기적으로 keep_alive를 갱신해 메모리에 고정합니다.
+     * 첫 요청과 요청이 뜸한 구간 이후의 모델 로드 지연(load_duration, 수 초~수십 초)을 없애기 위한 설정입니다.
+     */
+    @Data
+    public static class Preload {
+
+        /**
+         * 미리 로드할 모델 목록 (태그가 없으면 :latest)
+         * 기본값: 비어 있음 (사전 로드 안 함)
+         */
+        private List<String> models = new ArrayList<>();
+
+        /**
+         * 사전 로드 모델의 keep_alive (Ollama 기간 형식, 예: "30m", "2h", 음수이면 영구 유지 "-1m")
+         * 사전 로드 요청과, keepAlive를 지정하지 않은 이 모델들의 생성 요청에 적용됩니다.
+         * 기본값: "30m"
+         */
+        private String keepAlive = "30m";
+
+        /**
+         * 재고정 주기 (초)
+         * 이 주기마다 빈 프롬프트 생성 요청으로 keep_alive를 갱신합니다. keepAlive보다 짧게 설정하세요.
+         * 0 이하이면 기동 시 한 번만 로드합니다.
+         * 기본값: 600
+         */
+        private long repinIntervalSeconds = 600;
+    }
+
+    /**
+     * 모델별 기본 생성 옵션 설정
+     */
+    private ModelOptions modelOptions = new ModelOptions();
+
+    /**
+     * 모델별 기본 생성 옵션 설정 클래스
+     * SuhAiderCustomizer.defaultOptions 위에 덮어쓰고, 요청의 options가 다시 이 값을 덮어씁니다.
+     */
+    @Data
+    public static class ModelOptions {
+
+        /**
+         * 모델별 기본 옵션 (키: 모델명, 태그가 없으면 :latest)
+         * 키는 대괄호로 감싸야 합니다. Spring Boot는 대괄호 밖의 ':'를 제거하므로 models.qwen3:8b는 "qwen38b"로 바인딩됩니다.
+         * 예: models.[qwen3:8b].num-predict=256, models.[qwen3:8b].num-ctx=4096 (YAML: "[qwen3:8b]":)
+         * 기본값: 비어 있음
+         */
+        private Map<String, GenerateOptions> models = new HashMap<>();
+    }
+
+    /**
+     * 구조화 출력(responseSchema) 적용 방식 설정
+     */
+    private StructuredOutput structuredOutput = new StructuredOutput();
+
+    /**
+     * 구조화 출력 설정 클래스
+     * responseSchema를 프롬프트 지시문으로 강제할지, Ollama의 format 필드로 보내 서버가 디코딩 문법을 제한하게 할지 정합니다.
+     */
+    @Data
+    public static class StructuredOutput {
+
+        /**
+         * 적용 방식
+         * 기본값: PROMPT
+         * PROMPT: 프롬프트에 JSON 지시문을 추가하고 응답을 정제/검증 (모든 서버 버전)
+         * NATIVE: 스키마를 format 필드로 전송, 프롬프트 증강과 응답 정제 생략 (Ollama 0.5.0 이상)
+         * AUTO: 모든 노드의 /api/version이 min-native-version 이상이면 NATIVE, 아니면(확인 전 포함) PROMPT
+         */
+        private Mode mode = Mode.PROMPT;
+
+        /**
+         * AUTO 모드에서 NATIVE를 사용할 최소 서버 버전
+         * 기본값: "0.5.0" (Ollama가 format에 JSON Schema를 받기 시작한 버전)
+         */
+        private String minNativeVersion = "0.5.0";
+
+        /**
+         * 구조화 출력 적용 방식
+         */
+        public enum Mode {
+            PROMPT,
+            NATIVE,
+            AUTO
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package kr.suhsaechan.ai.config;
 
+import kr.suhsaechan.ai.model.GenerateOptions;
 import kr.suhsaechan.ai.model.JsonSchema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -45,10 +46,21 @@ public class SuhAiderCustomizer {
     /**
      * 커스텀 타임아웃 설정 (초 단위, 선택적)
      *
-     * null이면 SuhAiderConfig의 기본값 사용
+     * 비스트리밍 생성 요청(generate, generateAsync, 배치)의 기본 전체 제한 시간으로 사용됩니다.
+     * 요청에 timeoutMillis를 지정하면 그 값이 우선하며, 스트리밍 요청에는 적용되지 않습니다.
+     * null이면 전체 제한 시간 없이 SuhAiderConfig의 연결/읽기 타임아웃만 적용
      */
     private Integer customReadTimeout;
 
+    /**
+     * 전역 기본 생성 옵션 (선택적)
+     *
+     * 모든 생성 요청에 적용할 기본 options (예: numPredict로 출력 길이 제한)
+     * suh.aider.model-options의 모델별 기본값과 요청의 options가 값 단위로 우선합니다.
+     * null이면 사용하지 않습니다.
+     */
+    private GenerateOptions defaultOptions;
+
     /**
      * 프롬프트 접두사 (선택적)
      *
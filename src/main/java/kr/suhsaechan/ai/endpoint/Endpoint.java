@@ -0,0 +1,316 @@
+package kr.suhsaechan.ai.endpoint;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 서버(Ollama 노드) 하나
+ *
+ * <p>진행 중인 요청 수(outstanding), 헬스 상태({@link EndpointState})와 프로브 지연 EWMA, 설치된 모델(/api/tags)과 메모리에 로드된 모델(/api/ps) 목록을 가지며,
+ * {@link EndpointBalancer}가 이 값으로 노드를 선택합니다.</p>
+ *
+ * <p>모델 목록은 통째로 교체되는 불변 Set이므로 조회 시 잠금이 필요 없습니다.
+ * 모델 이름은 {@link ModelNames#normalize}로 정규화해 비교합니다 (예: {@code gemma3} = {@code gemma3:latest}).</p>
+ *
+ * <p>상태 전이는 헬스 체크 스레드가 기록하며, 요청 경로는 volatile 필드만 읽으므로 네트워크 호출이 없습니다.</p>
+ */
+public final class Endpoint {
+
+    /**
+     * 지연 EWMA 가중치 (최근 프로브 비중)
+     */
+    private static final double LATENCY_EWMA_ALPHA = 0.3;
+
+    private final String baseUrl;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private volatile EndpointState state = EndpointState.UP;
+    private volatile double latencyEwmaMillis = -1;
+    private volatile int consecutiveFailures;
+    private volatile long lastCheckedAt;
+
+    /**
+     * 설치된 모델 (정규화된 이름, null이면 아직 조회하지 않음)
+     */
+    private volatile Set<String> installedModels;
+
+    /**
+     * 메모리에 로드된 모델 (정규화된 이름)
+     */
+    private volatile Set<String> loadedModels = Collections.emptySet();
+
+    /**
+     * 서버 버전 (/api/version, null이면 아직 조회하지 않음)
+     */
+    private volatile String serverVersion;
+
+    /**
+     * @param baseUrl 서버 기본 URL (끝의 '/'는 제거됨)
+     */
+    public Endpoint(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    /**
+     * @return 서버 기본 URL
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * API 경로를 붙인 전체 URL
+     *
+     * @param path API 경로 (예: "/api/generate")
+     * @return 전체 URL
+     */
+    public String url(String path) {
+        return baseUrl + path;
+    }
+
+    /**
+     * @return 진행 중인 요청 수
+     */
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * 요청 시작 시 호출 (진행 중인 요청 수 증가)
+     */
+    public void acquire() {
+        outstanding.incrementAndGet();
+    }
+
+    /**
+     * 요청 종료 시 호출 (진행 중인 요청 수 감소)
+     */
+    public void release() {
+        outstanding.decrementAndGet();
+    }
+
+    /**
+     * @return 요청을 받을 수 있는 상태(DOWN이 아님)이면 true
+     */
+    public boolean isHealthy() {
+        return state != EndpointState.DOWN;
+    }
+
+    /**
+     * @return 현재 상태
+     */
+    public EndpointState getState() {
+        return state;
+    }
+
+    /**
+     * @return 프로브 지연 EWMA (밀리초, 아직 성공한 프로브가 없으면 -1)
+     */
+    public double getLatencyEwmaMillis() {
+        return latencyEwmaMillis;
+    }
+
+    /**
+     * @return 연속 프로브 실패 횟수
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * @return 마지막 프로브 시각 (epoch millis, 아직 없으면 0)
+     */
+    public long getLastCheckedAt() {
+        return lastCheckedAt;
+    }
+
+    /**
+     * 프로브 성공 기록
+     * 지연 EWMA가 기준을 넘으면 DEGRADED, 아니면 UP으로 전이합니다.
+     *
+     * @param latencyMillis 이번 프로브 지연
+     * @param degradedLatencyMillis DEGRADED 판정 기준 지연 (0 이하이면 지연으로 판정하지 않음)
+     * @return 상태가 바뀌었으면 true
+     */
+    public boolean recordProbeSuccess(long latencyMillis, long degradedLatencyMillis) {
+        double previous = latencyEwmaMillis;
+        double ewma = previous < 0
+                ? latencyMillis
+                : LATENCY_EWMA_ALPHA * latencyMillis + (1 - LATENCY_EWMA_ALPHA) * previous;
+        this.latencyEwmaMillis = ewma;
+        this.consecutiveFailures = 0;
+        this.lastCheckedAt = System.currentTimeMillis();
+
+        boolean slow = degradedLatencyMillis > 0 && ewma > degradedLatencyMillis;
+        return transitionTo(slow ? EndpointState.DEGRADED : EndpointState.UP);
+    }
+
+    /**
+     * 프로브 실패 기록
+     * 연속 실패가 기준 이상이면 DOWN, 아니면 DEGRADED로 전이합니다.
+     *
+     * @param failureThreshold DOWN 판정 기준 연속 실패 횟수
+     * @return 상태가 바뀌었으면 true
+     */
+    public boolean recordProbeFailure(int failureThreshold) {
+        int failures = consecutiveFailures + 1;
+        this.consecutiveFailures = failures;
+        this.lastCheckedAt = System.currentTimeMillis();
+        return transitionTo(failures >= failureThreshold ? EndpointState.DOWN : EndpointState.DEGRADED);
+    }
+
+    /**
+     * 즉시 DOWN으로 전이 (요청 중 연결 거부 등 명백한 장애)
+     *
+     * @return 상태가 바뀌었으면 true
+     */
+    public boolean markDown() {
+        return transitionTo(EndpointState.DOWN);
+    }
+
+    private boolean transitionTo(EndpointState next) {
+        EndpointState previous = this.state;
+        this.state = next;
+        return previous != next;
+    }
+
+    /**
+     * 설치된 모델 목록 교체 (/api/tags 결과)
+     *
+     * @param modelNames 모델 이름 목록
+     */
+    public void updateInstalledModels(Collection<String> modelNames) {
+        this.installedModels = normalizeAll(modelNames);
+    }
+
+    /**
+     * 로드된 모델 목록 교체 (/api/ps 결과)
+     *
+     * @param modelNames 모델 이름 목록
+     */
+    public void updateLoadedModels(Collection<String> modelNames) {
+        this.loadedModels = normalizeAll(modelNames);
+    }
+
+    /**
+     * 모델을 로드된 것으로 표시 (이 노드에서 생성 요청이 성공한 직후, 다음 /api/ps 조회 전까지 사용)
+     *
+     * @param modelName 모델 이름
+     */
+    public void markLoaded(String modelName) {
+        String normalized = ModelNames.normalize(modelName);
+        Set<String> current = loadedModels;
+        if (normalized == null || current.contains(normalized)) {
+            return;
+        }
+        Set<String> updated = new HashSet<>(current);
+        updated.add(normalized);
+        this.loadedModels = Collections.unmodifiableSet(updated);
+    }
+
+    /**
+     * @param modelName 모델 이름
+     * @return 모델이 설치되어 있거나, 설치 목록을 아직 모르면 true
+     */
+    public boolean hasInstalled(String modelName) {
+        Set<String> installed = installedModels;
+        return installed == null || installed.contains(ModelNames.normalize(modelName));
+    }
+
+    /**
+     * @param modelName 모델 이름
+     * @return 모델이 메모리에 로드되어 있으면 true
+     */
+    public boolean hasLoaded(String modelName) {
+        return loadedModels.contains(ModelNames.normalize(modelName));
+    }
+
+    /**
+     * @return 설치된 모델 이름 (아직 조회하지 않았으면 빈 Set)
+     */
+    public Set<String> getInstalledModels() {
+        Set<String> installed = installedModels;
+        return installed != null ? installed : Collections.emptySet();
+    }
+
+    /**
+     * @return 로드된 모델 이름
+     */
+    public Set<String> getLoadedModels() {
+        return loadedModels;
+    }
+
+    /**
+     * @return 서버 버전 (아직 조회하지 않았으면 null)
+     */
+    public String getServerVersion() {
+        return serverVersion;
+    }
+
+    /**
+     * 서버 버전 기록 (/api/version 결과)
+     *
+     * @param version 서버 버전 (예: "0.5.7")
+     */
+    public void updateServerVersion(String version) {
+        this.serverVersion = version;
+    }
+
+    /**
+     * @param minVersion 최소 버전 (예: "0.5.0")
+     * @return 서버 버전을 알고 있고 최소 버전 이상이면 true
+     */
+    public boolean isVersionAtLeast(String minVersion) {
+        String version = serverVersion;
+        return version != null && compareVersions(version, minVersion) >= 0;
+    }
+
+    /**
+     * 점으로 구분된 버전 비교 (숫자가 아닌 접미사는 무시, 예: "0.5.0-rc1" = "0.5.0")
+     *
+     * @param left 버전
+     * @param right 버전
+     * @return left가 더 높으면 양수, 같으면 0, 낮으면 음수
+     */
+    public static int compareVersions(String left, String right) {
+        String[] leftParts = left.trim().split("\\.");
+        String[] rightParts = right.trim().split("\\.");
+        int length = Math.max(leftParts.length, rightParts.length);
+        for (int i = 0; i < length; i++) {
+            int compared = Integer.compare(
+                    i < leftParts.length ? leadingNumber(leftParts[i]) : 0,
+                    i < rightParts.length ? leadingNumber(rightParts[i]) : 0);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return 0;
+    }
+
+    private static int leadingNumber(String part) {
+        int value = 0;
+        for (int i = 0; i < part.length() && Character.isDigit(part.charAt(i)) && value < 100_000; i++) {
+            value = value * 10 + (part.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static Set<String> normalizeAll(Collection<String> modelNames) {
+        Set<String> normalized = new HashSet<>();
+        if (modelNames != null) {
+            for (String modelName : modelNames) {
+                if (modelName != null) {
+                    normalized.add(ModelNames.normalize(modelName));
+                }
+            }
+        }
+        return Collections.unmodifiableSet(normalized);
+    }
+
+    @Override
+    public String toString() {
+        return baseUrl;
+    }
+}
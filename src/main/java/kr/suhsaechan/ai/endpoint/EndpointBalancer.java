@@ -0,0 +1,164 @@
+package kr.suhsaechan.ai.endpoint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * 여러 AI 서버 간 부하 분산기 (power-of-two-choices)
+ *
+ * <p>정상 노드 중 두 개를 무작위로 고른 뒤 진행 중인 요청 수가 적은 쪽을 선택합니다.
+ * 전체 노드를 비교하는 방식과 달리 동시에 선택하는 호출자들이 한 노드로 몰리지 않습니다.
+ * 두 노드 중 하나만 {@link EndpointState#DEGRADED}이면 {@link EndpointState#UP} 노드를 선택합니다.</p>
+ *
+ * <p>모델을 지정하면 그 모델이 이미 메모리에 로드된 노드를 우선 선택해 콜드 로드(수십 초)를 피합니다.
+ * 로드된 노드가 모두 {@code modelSpilloverThreshold}개 이상의 요청을 처리 중이면 모델이 설치된 노드까지 넓혀 분산하고,
+ * 설치된 노드도 없으면 전체 정상 노드 중에서 선택합니다.</p>
+ *
+ * <p>정상 노드가 하나도 없으면 전체 노드 중에서 선택합니다(fail-open).
+ * 헬스 체크 결과가 잘못되었더라도 요청 자체는 시도해 볼 수 있도록 하기 위함입니다.</p>
+ */
+public class EndpointBalancer {
+
+    private final List<Endpoint> endpoints;
+    private final int modelSpilloverThreshold;
+
+    /**
+     * @param baseUrls 서버 URL 목록 (1개 이상)
+     * @param modelSpilloverThreshold 모델이 로드된 노드의 진행 중인 요청이 이 값 이상이면 다른 노드로 분산 (0 이하이면 분산 안 함)
+     * @throws IllegalArgumentException 목록이 비어 있는 경우
+     */
+    public EndpointBalancer(List<String> baseUrls, int modelSpilloverThreshold) {
+        if (baseUrls == null || baseUrls.isEmpty()) {
+            throw new IllegalArgumentException("AI 서버 URL이 하나 이상 필요합니다");
+        }
+        List<Endpoint> created = new ArrayList<>(baseUrls.size());
+        for (String baseUrl : baseUrls) {
+            created.add(new Endpoint(baseUrl));
+        }
+        this.endpoints = Collections.unmodifiableList(created);
+        this.modelSpilloverThreshold = modelSpilloverThreshold;
+    }
+
+    /**
+     * 요청을 보낼 노드 선택
+     *
+     * @return 선택된 노드
+     */
+    public Endpoint select() {
+        if (endpoints.size() == 1) {
+            return endpoints.get(0);
+        }
+
+        return pickLeastOutstandingOfTwo(routableEndpoints());
+    }
+
+    /**
+     * 모델을 고려해 요청을 보낼 노드 선택
+     * 로드된 노드 → 설치된 노드 → 전체 정상 노드 순서로 후보를 넓힙니다.
+     *
+     * @param model 요청 모델명 (null이면 {@link #select()}와 동일)
+     * @return 선택된 노드
+     */
+    public Endpoint select(String model) {
+        if (endpoints.size() == 1 || model == null) {
+            return select();
+        }
+        return selectFrom(routableEndpoints(), model);
+    }
+
+    /**
+     * 특정 노드를 제외하고 모델을 고려해 노드 선택 (헤징 요청용)
+     *
+     * @param model 요청 모델명
+     * @param excluded 제외할 노드
+     * @return 선택된 노드 (제외한 뒤 정상 노드가 없으면 null)
+     */
+    public Endpoint selectExcluding(String model, Endpoint excluded) {
+        List<Endpoint> routable = filter(endpoints, endpoint -> endpoint != excluded && endpoint.isHealthy());
+        if (routable.isEmpty()) {
+            return null;
+        }
+        return model != null ? selectFrom(routable, model) : pickLeastOutstandingOfTwo(routable);
+    }
+
+    private Endpoint selectFrom(List<Endpoint> routable, String model) {
+        List<Endpoint> loaded = filter(routable, endpoint -> endpoint.hasLoaded(model));
+        if (!loaded.isEmpty()) {
+            Endpoint best = pickLeastOutstandingOfTwo(loaded);
+            if (modelSpilloverThreshold <= 0 || best.getOutstanding() < modelSpilloverThreshold) {
+                return best;
+            }
+        }
+
+        List<Endpoint> installed = filter(routable, endpoint -> endpoint.hasInstalled(model));
+        if (!installed.isEmpty()) {
+            return pickLeastOutstandingOfTwo(installed);
+        }
+        return pickLeastOutstandingOfTwo(routable);
+    }
+
+    /**
+     * 전체 노드 목록
+     *
+     * @return 변경 불가능한 노드 목록
+     */
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * @return 정상 노드가 하나라도 있으면 true
+     */
+    public boolean isAnyHealthy() {
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.isHealthy()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 정상 노드 목록 (하나도 없으면 전체 노드)
+     */
+    private List<Endpoint> routableEndpoints() {
+        List<Endpoint> healthy = filter(endpoints, Endpoint::isHealthy);
+        return healthy.isEmpty() ? endpoints : healthy;
+    }
+
+    private static List<Endpoint> filter(List<Endpoint> source, Predicate<Endpoint> condition) {
+        List<Endpoint> matched = new ArrayList<>(source.size());
+        for (Endpoint endpoint : source) {
+            if (condition.test(endpoint)) {
+                matched.add(endpoint);
+            }
+        }
+        return matched;
+    }
+
+    private static Endpoint pickLeastOutstandingOfTwo(List<Endpoint> candidates) {
+        int size = candidates.size();
+        if (size == 1) {
+            return candidates.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        Endpoint a = candidates.get(first);
+        Endpoint b = candidates.get(second);
+        EndpointState stateA = a.getState();
+        EndpointState stateB = b.getState();
+        if (stateA != stateB) {
+            return stateA.compareTo(stateB) < 0 ? a : b;
+        }
+        return a.getOutstanding() <= b.getOutstanding() ? a : b;
+    }
+}
@@ -0,0 +1,182 @@
+package kr.suhsaechan.ai.endpoint;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * AI 서버 헬스 체크기 (백그라운드 프로버)
+ *
+ * <p>노드마다 헬스 프로브를 실행해 지연과 성공 여부로 {@link EndpointState}를 전이시킵니다.
+ * 연속 실패가 {@code failureThreshold}회 이상이면 DOWN(분산 대상에서 제외), 그보다 적은 실패나
+ * 지연 EWMA가 {@code degradedLatencyMillis}를 넘으면 DEGRADED, 그 외에는 UP입니다.
+ * {@link #start(long)}로 주기 실행을 시작하면 전용 데몬 스레드 하나를 사용하며, 첫 프로브는 즉시 실행됩니다.</p>
+ *
+ * <p>정상으로 확인된 노드에는 {@code refreshModels} 후속 작업(노드별 모델 목록 갱신)을 실행합니다.
+ * 매 프로브마다 실행하지 않고, 처음 정상으로 확인될 때, DOWN에서 복귀할 때, 마지막 갱신 후
+ * {@code modelRefreshIntervalMillis}가 지났을 때만 실행합니다. 실패하면 다음 프로브에서 다시 시도합니다.</p>
+ */
+@Slf4j
+public class EndpointHealthChecker implements Closeable {
+
+    private final EndpointBalancer balancer;
+    private final Predicate<Endpoint> probe;
+    private final Predicate<Endpoint> refreshModels;
+    private final int failureThreshold;
+    private final long degradedLatencyMillis;
+    private final long modelRefreshIntervalNanos;
+
+    /**
+     * 노드별 마지막 모델 목록 갱신 성공 시각 (System.nanoTime 기준)
+     */
+    private final Map<Endpoint, Long> modelsRefreshedAt = new ConcurrentHashMap<>();
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * @param balancer 대상 노드를 가진 부하 분산기
+     * @param probe 노드 하나의 헬스 프로브 (정상이면 true, 타임아웃은 프로브가 처리)
+     * @param refreshModels 정상 노드의 모델 목록 갱신 (성공하면 true, 예외는 실패로 처리)
+     * @param failureThreshold DOWN 판정 기준 연속 실패 횟수 (1 미만이면 1)
+     * @param degradedLatencyMillis DEGRADED 판정 기준 지연 EWMA (0 이하이면 지연으로 판정하지 않음)
+     * @param modelRefreshIntervalMillis 모델 목록 주기 갱신 간격 (0 이하이면 처음 확인 / DOWN 복귀 시에만 갱신)
+     */
+    public EndpointHealthChecker(EndpointBalancer balancer, Predicate<Endpoint> probe, Predicate<Endpoint> refreshModels,
+                                 int failureThreshold, long degradedLatencyMillis, long modelRefreshIntervalMillis) {
+        this.balancer = balancer;
+        this.probe = probe;
+        this.refreshModels = refreshModels;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.degradedLatencyMillis = degradedLatencyMillis;
+        this.modelRefreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, modelRefreshIntervalMillis));
+    }
+
+    /**
+     * 주기적 헬스 체크 시작
+     *
+     * @param intervalSeconds 체크 간격 (초)
+     */
+    public synchronized void start(long intervalSeconds) {
+        if (scheduler != null) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "suh-aider-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkAllQuietly, 0, intervalSeconds, TimeUnit.SECONDS);
+        log.info("AI 서버 헬스 체크 시작 - 노드: {}개, 간격: {}s", balancer.getEndpoints().size(), intervalSeconds);
+    }
+
+    /**
+     * @return 주기적 헬스 체크가 실행 중이면 true
+     */
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * 모든 노드를 즉시 체크하고 상태 갱신
+     *
+     * @return 정상 노드가 하나라도 있으면 true
+     */
+    public boolean checkAll() {
+        for (Endpoint endpoint : balancer.getEndpoints()) {
+            check(endpoint);
+        }
+        return balancer.isAnyHealthy();
+    }
+
+    /**
+     * 노드 하나를 즉시 체크하고 상태 갱신
+     *
+     * @param endpoint 대상 노드
+     * @return 정상이면 true
+     */
+    public boolean check(Endpoint endpoint) {
+        EndpointState previous = endpoint.getState();
+        long startNanos = System.nanoTime();
+        boolean healthy;
+        try {
+            healthy = probe.test(endpoint);
+        } catch (RuntimeException e) {
+            log.debug("헬스 프로브 예외 - {}: {}", endpoint, e.getMessage());
+            healthy = false;
+        }
+        long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        boolean changed = healthy
+                ? endpoint.recordProbeSuccess(latencyMillis, degradedLatencyMillis)
+                : endpoint.recordProbeFailure(failureThreshold);
+        if (changed) {
+            logTransition(endpoint, previous);
+        }
+
+        if (healthy && isModelRefreshDue(endpoint, previous)) {
+            refreshModels(endpoint);
+        }
+        return healthy;
+    }
+
+    /**
+     * 모델 목록 갱신이 필요한지 (처음 정상 확인, DOWN에서 복귀, 갱신 간격 경과)
+     */
+    private boolean isModelRefreshDue(Endpoint endpoint, EndpointState previous) {
+        Long refreshedAt = modelsRefreshedAt.get(endpoint);
+        if (refreshedAt == null || previous == EndpointState.DOWN) {
+            return true;
+        }
+        return modelRefreshIntervalNanos > 0 && System.nanoTime() - refreshedAt >= modelRefreshIntervalNanos;
+    }
+
+    private void refreshModels(Endpoint endpoint) {
+        boolean refreshed;
+        try {
+            refreshed = refreshModels.test(endpoint);
+        } catch (RuntimeException e) {
+            log.debug("노드 모델 목록 갱신 예외 - {}: {}", endpoint, e.getMessage());
+            refreshed = false;
+        }
+        if (refreshed) {
+            modelsRefreshedAt.put(endpoint, System.nanoTime());
+        } else {
+            // 다음 프로브에서 다시 시도
+            modelsRefreshedAt.remove(endpoint);
+        }
+    }
+
+    private void logTransition(Endpoint endpoint, EndpointState previous) {
+        EndpointState current = endpoint.getState();
+        if (current == EndpointState.DOWN) {
+            log.warn("AI 서버 제외 (헬스 체크 실패 {}회) - {}", endpoint.getConsecutiveFailures(), endpoint);
+        } else if (previous == EndpointState.DOWN) {
+            log.info("AI 서버 복귀 - {} ({})", endpoint, current);
+        } else {
+            log.info("AI 서버 상태 변경 - {}: {} → {} (지연 EWMA: {}ms)",
+                    endpoint, previous, current, Math.round(endpoint.getLatencyEwmaMillis()));
+        }
+    }
+
+    private void checkAllQuietly() {
+        try {
+            checkAll();
+        } catch (RuntimeException e) {
+            log.warn("헬스 체크 중 오류: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+}
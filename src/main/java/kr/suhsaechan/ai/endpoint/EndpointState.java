@@ -0,0 +1,22 @@
+package kr.suhsaechan.ai.endpoint;
+
+/**
+ * AI 서버 노드 상태 (백그라운드 헬스 프로브 결과)
+ */
+public enum EndpointState {
+
+    /**
+     * 정상 - 우선 분산 대상
+     */
+    UP,
+
+    /**
+     * 응답은 하지만 느리거나 최근 프로브에 실패함 - 분산 대상이지만 UP 노드보다 후순위
+     */
+    DEGRADED,
+
+    /**
+     * 연속 프로브 실패 또는 연결 거부 - 다시 정상 응답할 때까지 분산 대상에서 제외
+     */
+    DOWN
+}
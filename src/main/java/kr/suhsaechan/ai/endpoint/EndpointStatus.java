@@ -0,0 +1,89 @@
+package kr.suhsaechan.ai.endpoint;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * AI 서버 노드 상태 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndpointStatus {
+
+    /**
+     * 서버 기본 URL
+     */
+    private String baseUrl;
+
+    /**
+     * 부하 분산 대상 여부 (DOWN이 아님)
+     */
+    private boolean healthy;
+
+    /**
+     * 헬스 상태 (UP / DEGRADED / DOWN)
+     */
+    private EndpointState state;
+
+    /**
+     * 프로브 지연 EWMA (밀리초, 측정 전이면 -1)
+     */
+    private double latencyEwmaMillis;
+
+    /**
+     * 연속 프로브 실패 횟수
+     */
+    private int consecutiveFailures;
+
+    /**
+     * 마지막 프로브 시각 (epoch millis, 측정 전이면 0)
+     */
+    private long lastCheckedAt;
+
+    /**
+     * 진행 중인 요청 수
+     */
+    private int outstanding;
+
+    /**
+     * 설치된 모델 (/api/tags)
+     */
+    private Set<String> installedModels;
+
+    /**
+     * 메모리에 로드된 모델 (/api/ps)
+     */
+    private Set<String> loadedModels;
+
+    /**
+     * 서버 버전 (/api/version, 조회 전이면 null)
+     */
+    private String serverVersion;
+
+    /**
+     * 노드 상태 스냅샷 생성
+     *
+     * @param endpoint 대상 노드
+     * @return 상태 DTO
+     */
+    public static EndpointStatus of(Endpoint endpoint) {
+        return EndpointStatus.builder()
+                .baseUrl(endpoint.getBaseUrl())
+                .healthy(endpoint.isHealthy())
+                .state(endpoint.getState())
+                .latencyEwmaMillis(endpoint.getLatencyEwmaMillis())
+                .consecutiveFailures(endpoint.getConsecutiveFailures())
+                .lastCheckedAt(endpoint.getLastCheckedAt())
+                .outstanding(endpoint.getOutstanding())
+                .installedModels(endpoint.getInstalledModels())
+                .loadedModels(endpoint.getLoadedModels())
+                .serverVersion(endpoint.getServerVersion())
+                .build();
+    }
+}
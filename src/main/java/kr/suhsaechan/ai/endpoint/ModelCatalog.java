@@ -0,0 +1,123 @@
+package kr.suhsaechan.ai.endpoint;
+
+import kr.suhsaechan.ai.model.ModelInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용 가능한 모델 목록의 불변 스냅샷
+ *
+ * <p>갱신할 때마다 새 스냅샷을 만들어 통째로 교체하므로 조회 시 잠금이 필요 없습니다.
+ * 이름 색인은 원래 이름과 별칭({@link ModelNames#aliasOf})을 모두 키로 가지며, 태그가 없는 이름과 {@code :latest} 태그 이름을
+ * 같은 모델로 봅니다 (예: {@code gemma3} = {@code gemma3:latest}). 조회는 HashMap 한 번이며 문자열을 새로 만들지 않습니다.</p>
+ */
+public final class ModelCatalog {
+
+    private static final ModelCatalog EMPTY = new ModelCatalog(Collections.emptyList(), Collections.emptyMap(), 0, 0);
+
+    private final List<ModelInfo> models;
+    private final Map<String, ModelInfo> index;
+    private final long version;
+    private final long refreshedAt;
+
+    private ModelCatalog(List<ModelInfo> models, Map<String, ModelInfo> index, long version, long refreshedAt) {
+        this.models = models;
+        this.index = index;
+        this.version = version;
+        this.refreshedAt = refreshedAt;
+    }
+
+    /**
+     * @return 한 번도 갱신되지 않은 빈 카탈로그 (version 0)
+     */
+    public static ModelCatalog empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 이 스냅샷의 다음 버전 생성
+     * 이름이 같은 모델은 먼저 나온 것을 사용합니다.
+     *
+     * @param modelInfos 새 모델 목록 (null 항목과 이름이 없는 항목은 무시)
+     * @return version이 1 증가한 새 카탈로그
+     */
+    public ModelCatalog next(Collection<ModelInfo> modelInfos) {
+        List<ModelInfo> list = new ArrayList<>();
+        Map<String, ModelInfo> names = new HashMap<>();
+        Map<String, ModelInfo> aliases = new HashMap<>();
+        if (modelInfos != null) {
+            for (ModelInfo model : modelInfos) {
+                if (model == null || model.getName() == null || names.containsKey(model.getName())) {
+                    continue;
+                }
+                list.add(model);
+                names.put(model.getName(), model);
+                aliases.putIfAbsent(ModelNames.aliasOf(model.getName()), model);
+            }
+        }
+
+        // 실제 이름이 별칭보다 우선 (예: 서버에 "gemma3"와 "gemma3:latest"가 모두 있는 경우)
+        Map<String, ModelInfo> merged = new HashMap<>(aliases);
+        merged.putAll(names);
+        return new ModelCatalog(Collections.unmodifiableList(list), Collections.unmodifiableMap(merged),
+                version + 1, System.currentTimeMillis());
+    }
+
+    /**
+     * 모델 조회
+     *
+     * @param modelName 모델 이름 (태그 생략 시 {@code :latest}로 간주)
+     * @return 모델 정보 (없으면 null)
+     */
+    public ModelInfo find(String modelName) {
+        return modelName != null ? index.get(modelName) : null;
+    }
+
+    /**
+     * @param modelName 모델 이름 (태그 생략 시 {@code :latest}로 간주)
+     * @return 카탈로그에 있으면 true
+     */
+    public boolean contains(String modelName) {
+        return find(modelName) != null;
+    }
+
+    /**
+     * @return 모델 목록 (불변 리스트, 서버 응답 순서)
+     */
+    public List<ModelInfo> getModels() {
+        return models;
+    }
+
+    /**
+     * @return 모델 수
+     */
+    public int size() {
+        return models.size();
+    }
+
+    /**
+     * @return 모델이 하나도 없으면 true
+     */
+    public boolean isEmpty() {
+        return models.isEmpty();
+    }
+
+    /**
+     * @return 스냅샷 버전 (갱신마다 1 증가, 갱신 전이면 0)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return 마지막 갱신 시각 (epoch millis, 갱신 전이면 0)
+     */
+    public long getRefreshedAt() {
+        return refreshedAt;
+    }
+}
@@ -0,0 +1,45 @@
+package kr.suhsaechan.ai.endpoint;
+
+/**
+ * 모델 이름 규칙
+ *
+ * <p>Ollama는 태그가 없는 이름을 {@code :latest} 태그로 처리하므로 두 이름을 같은 모델로 봅니다
+ * (예: {@code gemma3} = {@code gemma3:latest}). 모델 이름을 키로 쓰는 곳은 모두 이 클래스로 정규화합니다.</p>
+ */
+public final class ModelNames {
+
+    /**
+     * 태그를 생략했을 때 Ollama가 사용하는 기본 태그
+     */
+    public static final String DEFAULT_TAG = ":latest";
+
+    private ModelNames() {
+    }
+
+    /**
+     * 모델 이름 정규화 (태그가 없으면 ":latest" 추가)
+     *
+     * @param modelName 모델 이름
+     * @return 정규화된 이름 (null이면 null)
+     */
+    public static String normalize(String modelName) {
+        if (modelName == null) {
+            return null;
+        }
+        return modelName.indexOf(':') >= 0 ? modelName : modelName + DEFAULT_TAG;
+    }
+
+    /**
+     * 같은 모델을 가리키는 다른 이름
+     * {@code name:latest}이면 {@code name}, 태그가 없으면 {@code name:latest}, 그 외 태그는 자기 자신입니다.
+     *
+     * @param modelName 모델 이름 (null 불가)
+     * @return 별칭
+     */
+    public static String aliasOf(String modelName) {
+        if (modelName.endsWith(DEFAULT_TAG)) {
+            return modelName.substring(0, modelName.length() - DEFAULT_TAG.length());
+        }
+        return normalize(modelName);
+    }
+}
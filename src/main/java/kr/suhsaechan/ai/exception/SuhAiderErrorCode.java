@@ -18,6 +18,10 @@ public enum SuhAiderErrorCode {
     NETWORK_ERROR("네트워크 연결 중 오류가 발생했습니다."),
     CONNECTION_TIMEOUT("서버 연결 시간이 초과되었습니다."),
     READ_TIMEOUT("서버 응답 대기 시간이 초과되었습니다."),
+    OVERLOADED("요청이 많아 처리 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    RATE_LIMITED("요청 속도 제한을 초과했습니다. 잠시 후 다시 시도해주세요."),
+    DEADLINE_EXCEEDED("요청 제한 시간을 초과했습니다."),
+    CIRCUIT_OPEN("서버 장애가 감지되어 요청이 일시적으로 차단되었습니다. 잠시 후 다시 시도해주세요."),
 
     // API 응답 에러
     INVALID_RESPONSE("서버 응답 형식이 올바르지 않습니다."),
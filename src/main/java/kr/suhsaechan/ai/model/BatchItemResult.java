@@ -0,0 +1,42 @@
+package kr.suhsaechan.ai.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 Generate 항목별 결과 DTO
+ * 성공 시 response, 실패 시 error가 채워집니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResult {
+
+    /**
+     * 입력 목록에서의 위치 (0부터 시작)
+     */
+    private int index;
+
+    /**
+     * 성공 여부
+     */
+    private boolean success;
+
+    /**
+     * 생성 응답 (실패 시 null)
+     */
+    private SuhAiderResponse response;
+
+    /**
+     * 실패 원인 (성공 시 null, 주로 SuhAiderException)
+     */
+    private Throwable error;
+
+    /**
+     * 항목 처리 시간 (밀리초, 대기 시간 제외)
+     */
+    private long latencyMillis;
+}
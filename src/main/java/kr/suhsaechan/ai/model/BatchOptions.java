@@ -0,0 +1,37 @@
+package kr.suhsaechan.ai.model;
+
+import kr.suhsaechan.ai.service.BatchProgressListener;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 Generate 실행 옵션
+ *
+ * 사용 예제:
+ * <pre>
+ * BatchOptions options = BatchOptions.builder()
+ *     .maxInFlight(8)
+ *     .progressListener(progress -&gt; log.info("{}/{} 완료, {} items/s",
+ *             progress.getCompleted(), progress.getTotal(), progress.getItemsPerSecond()))
+ *     .build();
+ * </pre>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOptions {
+
+    /**
+     * 동시에 진행할 최대 요청 수
+     * 기본값: null (suh.aider.http-client.max-requests-per-host 값 사용)
+     */
+    private Integer maxInFlight;
+
+    /**
+     * 진행 상황 리스너 (선택적, 항목이 완료될 때마다 호출)
+     */
+    private BatchProgressListener progressListener;
+}
@@ -0,0 +1,51 @@
+package kr.suhsaechan.ai.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 Generate 진행 상황 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchProgress {
+
+    /**
+     * 전체 항목 수
+     */
+    private int total;
+
+    /**
+     * 완료된 항목 수 (성공 + 실패)
+     */
+    private int completed;
+
+    /**
+     * 성공한 항목 수
+     */
+    private int succeeded;
+
+    /**
+     * 실패한 항목 수
+     */
+    private int failed;
+
+    /**
+     * 배치 시작 후 경과 시간 (밀리초)
+     */
+    private long elapsedMillis;
+
+    /**
+     * 처리량 (완료 항목 수 / 경과 초)
+     */
+    private double itemsPerSecond;
+
+    /**
+     * 생성 토큰 처리량 (성공 응답의 evalCount 합 / 경과 초)
+     */
+    private double tokensPerSecond;
+}
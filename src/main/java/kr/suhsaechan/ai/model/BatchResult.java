@@ -0,0 +1,59 @@
+package kr.suhsaechan.ai.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 배치 Generate 결과 DTO
+ * 항목 결과는 입력 순서와 같은 순서로 담깁니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResult {
+
+    /**
+     * 항목별 결과 (입력 순서)
+     */
+    private List<BatchItemResult> items;
+
+    /**
+     * 성공한 항목 수
+     */
+    private int successCount;
+
+    /**
+     * 실패한 항목 수
+     */
+    private int failureCount;
+
+    /**
+     * 배치 전체 소요 시간 (밀리초)
+     */
+    private long elapsedMillis;
+
+    /**
+     * 처리량 (전체 항목 수 / 소요 초)
+     */
+    private double itemsPerSecond;
+
+    /**
+     * 생성 토큰 처리량 (성공 응답의 evalCount 합 / 소요 초, 병렬 처리 효과 포함)
+     */
+    private double tokensPerSecond;
+
+    /**
+     * 서버 생성 속도 (evalCount 합 / evalDuration 합, 요청 하나 기준 토큰/초)
+     */
+    private double generationTokensPerSecond;
+
+    /**
+     * 성공 응답의 evalCount 합
+     */
+    private long totalEvalCount;
+}
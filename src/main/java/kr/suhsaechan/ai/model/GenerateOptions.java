@@ -0,0 +1,130 @@
+package kr.suhsaechan.ai.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Ollama 생성 옵션 DTO (/api/generate의 options)
+ *
+ * <p>지정한 값만 전송되며, 지정하지 않은 값은 서버(모델 Modelfile)의 기본값을 사용합니다.
+ * 엔진은 SuhAiderCustomizer 전역 기본값 → suh.aider.model-options 모델별 기본값 → 요청 순서로 덮어써서 적용합니다.</p>
+ *
+ * <p>사용 예제:</p>
+ * <pre>
+ * GenerateOptions.builder()
+ *     .numPredict(16)      // 분류 작업: 출력 길이 제한
+ *     .numCtx(2048)        // 컨텍스트 축소 (GPU 메모리 절약)
+ *     .temperature(0.0)
+ *     .build();
+ * </pre>
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder(alphabetic = true)  // 캐시 키 계산 시 직렬화 결과가 항상 같도록
+public class GenerateOptions {
+
+    /**
+     * 컨텍스트 창 크기 (토큰 수, 작을수록 GPU 메모리와 프롬프트 처리 시간 감소)
+     */
+    @JsonProperty("num_ctx")
+    private Integer numCtx;
+
+    /**
+     * 최대 생성 토큰 수 (-1이면 무제한)
+     */
+    @JsonProperty("num_predict")
+    private Integer numPredict;
+
+    /**
+     * 샘플링 온도 (0이면 가장 확률이 높은 토큰만 선택)
+     */
+    private Double temperature;
+
+    /**
+     * Top-K 샘플링
+     */
+    @JsonProperty("top_k")
+    private Integer topK;
+
+    /**
+     * Top-P(nucleus) 샘플링
+     */
+    @JsonProperty("top_p")
+    private Double topP;
+
+    /**
+     * Min-P 샘플링
+     */
+    @JsonProperty("min_p")
+    private Double minP;
+
+    /**
+     * 반복 억제 강도
+     */
+    @JsonProperty("repeat_penalty")
+    private Double repeatPenalty;
+
+    /**
+     * 반복 억제에 사용할 직전 토큰 수
+     */
+    @JsonProperty("repeat_last_n")
+    private Integer repeatLastN;
+
+    /**
+     * 난수 시드 (같은 시드 + 같은 프롬프트 → 같은 응답)
+     */
+    private Integer seed;
+
+    /**
+     * 생성 중단 문자열
+     */
+    private List<String> stop;
+
+    /**
+     * 기본값 위에 이 옵션을 덮어쓴 새 옵션 생성 (이 옵션에서 null인 값은 기본값 사용)
+     *
+     * @param base 기본값 (null 가능)
+     * @param override 덮어쓸 옵션 (null 가능)
+     * @return 병합된 옵션 (둘 다 null이면 null, 한쪽만 있으면 그 객체 그대로)
+     */
+    public static GenerateOptions merge(GenerateOptions base, GenerateOptions override) {
+        if (base == null) {
+            return override;
+        }
+        if (override == null) {
+            return base;
+        }
+        return GenerateOptions.builder()
+                .numCtx(override.numCtx != null ? override.numCtx : base.numCtx)
+                .numPredict(override.numPredict != null ? override.numPredict : base.numPredict)
+                .temperature(override.temperature != null ? override.temperature : base.temperature)
+                .topK(override.topK != null ? override.topK : base.topK)
+                .topP(override.topP != null ? override.topP : base.topP)
+                .minP(override.minP != null ? override.minP : base.minP)
+                .repeatPenalty(override.repeatPenalty != null ? override.repeatPenalty : base.repeatPenalty)
+                .repeatLastN(override.repeatLastN != null ? override.repeatLastN : base.repeatLastN)
+                .seed(override.seed != null ? override.seed : base.seed)
+                .stop(override.stop != null ? override.stop : base.stop)
+                .build();
+    }
+
+    /**
+     * @return 지정된 값이 하나도 없으면 true
+     */
+    @JsonIgnore
+    public boolean isEmpty() {
+        return numCtx == null && numPredict == null && temperature == null && topK == null && topP == null
+                && minP == null && repeatPenalty == null && repeatLastN == null && seed == null && stop == null;
+    }
+}
@@ -0,0 +1,18 @@
+package kr.suhsaechan.ai.model;
+
+/**
+ * 요청 우선순위 클래스
+ * 동시성 한도가 가득 차 대기열에서 기다릴 때, INTERACTIVE 요청이 항상 BATCH 요청보다 먼저 실행됩니다.
+ */
+public enum RequestPriority {
+
+    /**
+     * 사용자가 응답을 기다리는 요청 (채팅 등) - 기본값
+     */
+    INTERACTIVE,
+
+    /**
+     * 대량 배치 작업 - 남는 처리 능력만 사용
+     */
+    BATCH
+}
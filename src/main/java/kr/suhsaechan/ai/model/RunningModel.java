@@ -0,0 +1,49 @@
+package kr.suhsaechan.ai.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ollama 메모리에 로드된 모델 정보 DTO (GET /api/ps)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunningModel {
+
+    /**
+     * 모델 이름
+     */
+    private String name;
+
+    /**
+     * 모델 식별자 (name과 동일한 경우가 많음)
+     */
+    private String model;
+
+    /**
+     * 모델 크기 (바이트)
+     */
+    private Long size;
+
+    /**
+     * 모델 다이제스트 (해시값)
+     */
+    private String digest;
+
+    /**
+     * 메모리에서 내려가는 예정 시각 (ISO 8601 형식)
+     */
+    @JsonProperty("expires_at")
+    private String expiresAt;
+
+    /**
+     * GPU 메모리 사용량 (바이트)
+     */
+    @JsonProperty("size_vram")
+    private Long sizeVram;
+}
@@ -0,0 +1,23 @@
+package kr.suhsaechan.ai.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Ollama 로드된 모델 목록 API 응답 DTO (GET /api/ps)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunningModelListResponse {
+
+    /**
+     * 현재 메모리에 로드된 모델 목록
+     */
+    private List<RunningModel> models;
+}
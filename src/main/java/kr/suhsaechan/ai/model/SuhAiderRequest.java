@@ -1,6 +1,8 @@
 package kr.suhsaechan.ai.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -32,6 +34,33 @@ public class SuhAiderRequest {
     @Builder.Default
     private Boolean stream = false;
 
+    /**
+     * 생성 후 모델을 메모리에 유지할 시간 (Ollama keep_alive, 예: "5m", "1h", 음수이면 영구 유지 "-1m", "0"이면 즉시 언로드)
+     * 기본값: null (suh.aider.preload.models에 있는 모델은 suh.aider.preload.keep-alive, 그 외는 서버 기본값 5분)
+     */
+    @JsonProperty("keep_alive")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String keepAlive;
+
+    /**
+     * 생성 옵션 (num_ctx, num_predict, temperature, seed 등)
+     * 지정한 값이 SuhAiderCustomizer.defaultOptions, suh.aider.model-options 모델별 기본값보다 우선합니다.
+     * 기본값: null (서버 기본값)
+     *
+     * @see GenerateOptions
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private GenerateOptions options;
+
+    /**
+     * 구조화 출력 형식 (Ollama format - "json" 또는 JSON Schema 객체)
+     * suh.aider.structured-output.mode가 NATIVE(또는 AUTO로 NATIVE 판정)이면 엔진이 responseSchema로부터 설정합니다.
+     * 직접 지정하면 그대로 전송됩니다.
+     * 기본값: null
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Object format;
+
     /**
      * JSON 응답 강제를 위한 스키마 정의
      * 이 필드가 설정되면 프롬프트에 JSON 형식 지시문이 자동으로 추가됩니다.
@@ -49,4 +78,38 @@ public class SuhAiderRequest {
      */
     @JsonIgnore  // Ollama API로 전송하지 않음 (내부 처리용)
     private JsonSchema responseSchema;
+
+    /**
+     * 응답 캐시 / 요청 병합 우회 여부
+     * true이면 캐시를 조회하지도, 결과를 저장하지도 않고, 진행 중인 동일 요청에 합류하지도 않고 항상 서버에 요청합니다.
+     * 기본값: false (suh.aider.cache.enabled 또는 suh.aider.coalescing.enabled=true일 때만 의미 있음)
+     */
+    @JsonIgnore  // Ollama API로 전송하지 않음 (내부 처리용)
+    @Builder.Default
+    private Boolean skipCache = false;
+
+    /**
+     * 요청 우선순위
+     * 동시성 한도를 넘어 대기할 때 INTERACTIVE 요청이 BATCH 요청보다 먼저 실행됩니다.
+     * 기본값: null (INTERACTIVE, generateBatch 항목은 BATCH, suh.aider.concurrency-limit.enabled=true일 때만 의미 있음)
+     */
+    @JsonIgnore  // Ollama API로 전송하지 않음 (내부 처리용)
+    private RequestPriority priority;
+
+    /**
+     * 테넌트 키 (사용자, 팀, 서비스 이름 등)
+     * 같은 우선순위의 대기 요청은 테넌트별 가중치(suh.aider.scheduling.tenant-weights)에 비례해 공정하게 실행됩니다.
+     * 기본값: null (모두 하나의 기본 테넌트)
+     */
+    @JsonIgnore  // Ollama API로 전송하지 않음 (내부 처리용)
+    private String tenant;
+
+    /**
+     * 요청 전체 제한 시간 (밀리초)
+     * 속도 제한 대기, 동시성 대기열, 재시도 대기, HTTP 호출을 모두 포함한 마감 시간이며,
+     * 남은 시간보다 긴 재시도 대기는 하지 않고 DEADLINE_EXCEEDED로 실패합니다.
+     * 기본값: null (비스트리밍 생성은 SuhAiderCustomizer.customReadTimeout, 없으면 제한 없음)
+     */
+    @JsonIgnore  // Ollama API로 전송하지 않음 (내부 처리용)
+    private Long timeoutMillis;
 }
@@ -10,7 +10,7 @@ import lombok.NoArgsConstructor;
  * SUH-AIDER Generate API 응답 DTO
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class SuhAiderResponse {
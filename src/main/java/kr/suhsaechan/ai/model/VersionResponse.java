@@ -0,0 +1,21 @@
+package kr.suhsaechan.ai.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ollama 서버 버전 API 응답 DTO (GET /api/version)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VersionResponse {
+
+    /**
+     * 서버 버전 (예: "0.5.7")
+     */
+    private String version;
+}
@@ -0,0 +1,139 @@
+package kr.suhsaechan.ai.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 기반 속도 제한기
+ *
+ * <p>토큰 버킷과 같은 동작을 "이론적 도착 시각(TAT)" 하나로 표현합니다.
+ * 단위 하나를 쓸 때마다 TAT가 {@code 1/rate}만큼 뒤로 밀리고, TAT가 현재 시각보다 {@code burst}개 분량 이상 앞서면 거부합니다.
+ * 상태가 long 하나이므로 잠금 없이 CAS 한 번으로 판정하며, 동시 호출이 많아도 경합 지점이 되지 않습니다.</p>
+ *
+ * <p>대기를 허용하면 미래의 TAT를 미리 예약하고, 호출자는 반환된 시간만큼 기다린 뒤 실행합니다.</p>
+ */
+public class GcraRateLimiter {
+
+    private final String name;
+    private final String unit;
+    private final double ratePerSecond;
+    private final long burst;
+    private final long emissionIntervalNanos;
+    private final long burstWindowNanos;
+    private final LongSupplier clock;
+
+    /**
+     * 이론적 도착 시각 (나노초, 현재 시각 이하이면 버킷이 가득 찬 상태)
+     */
+    private final AtomicLong theoreticalArrival;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong delayedCount = new AtomicLong();
+
+    /**
+     * @param name 제한기 이름 (상태 조회용)
+     * @param unit 단위 ("requests" / "tokens")
+     * @param ratePerSecond 초당 허용량 (0보다 커야 함)
+     * @param burst 한 번에 쓸 수 있는 최대량 (1 미만이면 1)
+     */
+    public GcraRateLimiter(String name, String unit, double ratePerSecond, long burst) {
+        this(name, unit, ratePerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     * 테스트용 생성자 (시각 주입)
+     */
+    GcraRateLimiter(String name, String unit, double ratePerSecond, long burst, LongSupplier clock) {
+        this.name = name;
+        this.unit = unit;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = Math.max(1, burst);
+        this.emissionIntervalNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / ratePerSecond));
+        this.burstWindowNanos = emissionIntervalNanos * this.burst;
+        this.clock = clock;
+        this.theoreticalArrival = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * 사용량 예약
+     * {@code burst}보다 큰 사용량은 {@code burst}로 계산합니다 (버킷이 가득 차면 통과).
+     *
+     * @param cost 사용량
+     * @param maxWaitNanos 허용 대기 시간 (0이면 대기 없이 판정)
+     * @return 실행 전에 기다려야 할 시간 (나노초, 즉시 실행이면 0), 허용 대기 시간을 넘으면 -1 (예약하지 않음)
+     */
+    public long tryReserve(long cost, long maxWaitNanos) {
+        long increment = Math.min(Math.max(cost, 0), burst) * emissionIntervalNanos;
+        while (true) {
+            long now = clock.getAsLong();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + increment;
+            long waitNanos = next - now - burstWindowNanos;
+            if (waitNanos > maxWaitNanos) {
+                rejectedCount.incrementAndGet();
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                if (waitNanos > 0) {
+                    delayedCount.incrementAndGet();
+                    return waitNanos;
+                }
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 사용량 보정 (예상 사용량과 실제 사용량의 차이 반영)
+     * 양수면 한도와 관계없이 추가로 사용하고(이후 요청이 그만큼 늦어짐), 음수면 돌려받습니다.
+     *
+     * @param delta 보정량
+     */
+    public void adjust(long delta) {
+        if (delta == 0) {
+            return;
+        }
+        long change = delta * emissionIntervalNanos;
+        while (true) {
+            long now = clock.getAsLong();
+            long current = theoreticalArrival.get();
+            long next = delta > 0 ? Math.max(current, now) + change : current + change;
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 예약 취소 ({@link #tryReserve}로 예약한 사용량 반환)
+     *
+     * @param cost 예약했던 사용량
+     */
+    public void refund(long cost) {
+        adjust(-Math.min(Math.max(cost, 0), burst));
+    }
+
+    /**
+     * @return 지금 바로 쓸 수 있는 양
+     */
+    public long getAvailable() {
+        long ahead = Math.max(0, theoreticalArrival.get() - clock.getAsLong());
+        return Math.max(0, (burstWindowNanos - ahead) / emissionIntervalNanos);
+    }
+
+    /**
+     * @return 상태 스냅샷
+     */
+    public RateLimitStatus getStatus() {
+        return RateLimitStatus.builder()
+                .name(name)
+                .unit(unit)
+                .ratePerSecond(ratePerSecond)
+                .burst(burst)
+                .available(getAvailable())
+                .rejectedCount(rejectedCount.get())
+                .delayedCount(delayedCount.get())
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package kr.suhsaechan.ai.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 요청 하나의 속도 제한 예약
+ * {@link #complete(long)} 또는 {@link #cancel()} 중 처음 호출된 하나만 반영됩니다.
+ */
+public final class RateLimitReservation {
+
+    private final List<GcraRateLimiter> requestLimiters;
+    private final List<GcraRateLimiter> tokenLimiters;
+    private final long estimatedTokens;
+    private final long delayNanos;
+    private final AtomicBoolean settled = new AtomicBoolean();
+
+    RateLimitReservation(List<GcraRateLimiter> requestLimiters, List<GcraRateLimiter> tokenLimiters,
+                         long estimatedTokens, long delayNanos) {
+        this.requestLimiters = requestLimiters;
+        this.tokenLimiters = tokenLimiters;
+        this.estimatedTokens = estimatedTokens;
+        this.delayNanos = delayNanos;
+    }
+
+    /**
+     * @return 실행 전에 기다려야 할 시간 (나노초, 즉시 실행이면 0)
+     */
+    public long getDelayNanos() {
+        return delayNanos;
+    }
+
+    /**
+     * @return 예약한 예상 토큰 수
+     */
+    public long getEstimatedTokens() {
+        return estimatedTokens;
+    }
+
+    /**
+     * 요청 완료 - 실제 토큰 수로 토큰 사용량 보정
+     *
+     * @param actualTokens 실제 토큰 수 (0 이하이면 보정하지 않음)
+     */
+    public void complete(long actualTokens) {
+        if (!settled.compareAndSet(false, true) || actualTokens <= 0) {
+            return;
+        }
+        for (GcraRateLimiter limiter : tokenLimiters) {
+            limiter.adjust(actualTokens - estimatedTokens);
+        }
+    }
+
+    /**
+     * 실행하지 않은 요청의 예약 취소 (사용량 반환)
+     */
+    public void cancel() {
+        if (!settled.compareAndSet(false, true)) {
+            return;
+        }
+        for (GcraRateLimiter limiter : requestLimiters) {
+            limiter.refund(1);
+        }
+        for (GcraRateLimiter limiter : tokenLimiters) {
+            limiter.refund(estimatedTokens);
+        }
+    }
+}
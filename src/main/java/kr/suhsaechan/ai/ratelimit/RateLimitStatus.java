@@ -0,0 +1,51 @@
+package kr.suhsaechan.ai.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 속도 제한기 상태 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitStatus {
+
+    /**
+     * 제한기 이름 (예: "model:gemma3:4b", "api-key")
+     */
+    private String name;
+
+    /**
+     * 단위 ("requests" / "tokens")
+     */
+    private String unit;
+
+    /**
+     * 초당 허용량
+     */
+    private double ratePerSecond;
+
+    /**
+     * 한 번에 쓸 수 있는 최대량
+     */
+    private long burst;
+
+    /**
+     * 지금 바로 쓸 수 있는 양
+     */
+    private long available;
+
+    /**
+     * 한도 초과로 거부된 수
+     */
+    private long rejectedCount;
+
+    /**
+     * 대기 후 실행된 수
+     */
+    private long delayedCount;
+}
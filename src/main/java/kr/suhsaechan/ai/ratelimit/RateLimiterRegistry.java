@@ -0,0 +1,144 @@
+package kr.suhsaechan.ai.ratelimit;
+
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import kr.suhsaechan.ai.endpoint.ModelNames;
+import kr.suhsaechan.ai.exception.SuhAiderErrorCode;
+import kr.suhsaechan.ai.exception.SuhAiderException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모델별 / API 키별 속도 제한기 저장소
+ *
+ * <p>요청 하나는 설정된 제한기(모델 요청 수, 모델 토큰 수, 키 요청 수, 키 토큰 수)를 모두 통과해야 합니다.
+ * 하나라도 거부하면 앞서 예약한 사용량은 돌려받습니다.</p>
+ */
+public class RateLimiterRegistry {
+
+    /**
+     * 토큰 수 추정에 사용하는 토큰당 글자 수 (실제 토큰 수로 보정되므로 대략적인 값)
+     */
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private final SuhAiderConfig.RateLimit settings;
+    private final long maxWaitNanos;
+    private final Map<String, SuhAiderConfig.RateLimit.Quota> modelQuotas = new HashMap<>();
+    private final ConcurrentMap<String, QuotaLimiters> modelLimiters = new ConcurrentHashMap<>();
+    private final QuotaLimiters apiKeyLimiters;
+
+    /**
+     * @param settings 속도 제한 설정
+     * @param apiKeyName API 키 제한기 이름 (상태 조회용, 키 값은 마스킹해서 전달)
+     */
+    public RateLimiterRegistry(SuhAiderConfig.RateLimit settings, String apiKeyName) {
+        this.settings = settings;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, settings.getMaxWaitMillis()));
+        if (settings.getModels() != null) {
+            settings.getModels().forEach((model, quota) -> modelQuotas.put(ModelNames.normalize(model), quota));
+        }
+        this.apiKeyLimiters = new QuotaLimiters(apiKeyName, settings.getApiKey());
+    }
+
+    /**
+     * 요청 하나의 사용량 예약
+     *
+     * @param model 요청 모델명
+     * @param prompt 프롬프트 (토큰 수 추정용)
+     * @return 예약 (대기가 필요하면 {@link RateLimitReservation#getDelayNanos()} > 0)
+     * @throws SuhAiderException RATE_LIMITED - 허용 대기 시간 안에 한도가 회복되지 않는 경우
+     */
+    public RateLimitReservation reserve(String model, String prompt) {
+        long estimatedTokens = (prompt != null ? (prompt.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN : 0)
+                + Math.max(0, settings.getEstimatedOutputTokens());
+        String normalized = ModelNames.normalize(model);
+        QuotaLimiters forModel = modelLimiters.computeIfAbsent(normalized, key ->
+                new QuotaLimiters("model:" + key, modelQuotas.getOrDefault(key, settings.getDefaultModel())));
+
+        List<GcraRateLimiter> requestLimiters = new ArrayList<>(2);
+        List<GcraRateLimiter> tokenLimiters = new ArrayList<>(2);
+        long delayNanos = 0;
+        for (QuotaLimiters limiters : List.of(forModel, apiKeyLimiters)) {
+            if (limiters.requests != null) {
+                long wait = limiters.requests.tryReserve(1, maxWaitNanos);
+                if (wait < 0) {
+                    release(requestLimiters, tokenLimiters, estimatedTokens);
+                    throw rejected(limiters.requests.getStatus(), model);
+                }
+                requestLimiters.add(limiters.requests);
+                delayNanos = Math.max(delayNanos, wait);
+            }
+            if (limiters.tokens != null) {
+                long wait = limiters.tokens.tryReserve(estimatedTokens, maxWaitNanos);
+                if (wait < 0) {
+                    release(requestLimiters, tokenLimiters, estimatedTokens);
+                    throw rejected(limiters.tokens.getStatus(), model);
+                }
+                tokenLimiters.add(limiters.tokens);
+                delayNanos = Math.max(delayNanos, wait);
+            }
+        }
+        return new RateLimitReservation(requestLimiters, tokenLimiters, estimatedTokens, delayNanos);
+    }
+
+    /**
+     * @return 생성된 모든 제한기의 상태
+     */
+    public List<RateLimitStatus> getStatuses() {
+        List<RateLimitStatus> statuses = new ArrayList<>();
+        apiKeyLimiters.addStatuses(statuses);
+        for (QuotaLimiters limiters : modelLimiters.values()) {
+            limiters.addStatuses(statuses);
+        }
+        return statuses;
+    }
+
+    private static void release(List<GcraRateLimiter> requestLimiters, List<GcraRateLimiter> tokenLimiters,
+                                long estimatedTokens) {
+        for (GcraRateLimiter limiter : requestLimiters) {
+            limiter.refund(1);
+        }
+        for (GcraRateLimiter limiter : tokenLimiters) {
+            limiter.refund(estimatedTokens);
+        }
+    }
+
+    private static SuhAiderException rejected(RateLimitStatus status, String model) {
+        return new SuhAiderException(SuhAiderErrorCode.RATE_LIMITED,
+                status.getName() + " " + status.getUnit() + " (모델: " + model + ")");
+    }
+
+    /**
+     * 한도 하나(Quota)에 해당하는 요청 수 / 토큰 수 제한기 (설정하지 않은 쪽은 null)
+     */
+    private static final class QuotaLimiters {
+        private final GcraRateLimiter requests;
+        private final GcraRateLimiter tokens;
+
+        private QuotaLimiters(String name, SuhAiderConfig.RateLimit.Quota quota) {
+            double requestsPerSecond = quota != null ? quota.getRequestsPerSecond() : 0;
+            long tokensPerMinute = quota != null ? quota.getTokensPerMinute() : 0;
+            this.requests = requestsPerSecond > 0
+                    ? new GcraRateLimiter(name, "requests", requestsPerSecond,
+                            quota.getRequestBurst() > 0 ? quota.getRequestBurst() : (long) Math.ceil(requestsPerSecond))
+                    : null;
+            this.tokens = tokensPerMinute > 0
+                    ? new GcraRateLimiter(name, "tokens", tokensPerMinute / 60.0, tokensPerMinute)
+                    : null;
+        }
+
+        private void addStatuses(List<RateLimitStatus> statuses) {
+            if (requests != null) {
+                statuses.add(requests.getStatus());
+            }
+            if (tokens != null) {
+                statuses.add(tokens.getStatus());
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package kr.suhsaechan.ai.retry;
+
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * 헤징 실행기 (tail latency 감소)
+ *
+ * <p>첫 요청(primary)이 헤징 지연 시간 안에 끝나지 않으면 다른 노드로 같은 요청(hedge)을 하나 더 보내고,
+ * 먼저 성공한 응답을 사용한 뒤 나머지 요청은 취소합니다. 헤징 지연은 고정값 또는 키(모델)별로 관측된 p95 응답 시간입니다.</p>
+ *
+ * <p>추가 요청은 {@link RetryBudget}과 같은 토큰 버킷으로 전체 요청의 {@code budgetPercent} 비율 이하로 제한해
+ * GPU 부하가 두 배로 늘지 않도록 합니다. 두 요청이 모두 실패하면 첫 번째로 실패한 예외로 완료됩니다.</p>
+ *
+ * <p>추가 요청은 헤징 지연 후 생성자로 받은 {@link Executor}에서 시작합니다.</p>
+ */
+@Slf4j
+public class Hedger {
+
+    private static final int LATENCY_SAMPLES = 128;
+    private static final double HEDGE_PERCENTILE = 0.95;
+
+    private final long fixedDelayMillis;
+    private final int minSamples;
+    private final RetryBudget budget;
+    private final Executor executor;
+    private final ConcurrentMap<String, LatencyTracker> latencies = new ConcurrentHashMap<>();
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong hedgedCount = new AtomicLong();
+    private final AtomicLong hedgeWinCount = new AtomicLong();
+    private final AtomicLong budgetExhaustedCount = new AtomicLong();
+
+    /**
+     * @param settings 헤징 설정
+     * @param executor 추가 요청을 시작할 Executor
+     */
+    public Hedger(SuhAiderConfig.Hedging settings, Executor executor) {
+        this.fixedDelayMillis = settings.getDelayMillis();
+        this.minSamples = Math.max(1, settings.getMinSamples());
+        this.budget = new RetryBudget(settings.getBudgetPercent() / 100.0, settings.getBudgetBurst());
+        this.executor = executor;
+    }
+
+    /**
+     * 헤징 실행
+     *
+     * @param key 응답 시간 분포를 구분할 키 (모델명)
+     * @param attempt 시도 생성 함수 (0 = primary, 1 = hedge, hedge를 보낼 수 없으면 null 반환)
+     * @return 먼저 성공한 시도의 결과 (cancel 시 모든 시도 취소)
+     */
+    public <T> CompletableFuture<T> execute(String key, IntFunction<CompletableFuture<T>> attempt) {
+        requestCount.incrementAndGet();
+        budget.onRequest();
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicReferenceArray<CompletableFuture<T>> attempts = new AtomicReferenceArray<>(2);
+        AtomicInteger pending = new AtomicInteger(1);
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        LatencyTracker tracker = latencies.computeIfAbsent(key, ignored -> new LatencyTracker(LATENCY_SAMPLES));
+
+        result.whenComplete((value, error) -> cancelAll(attempts));
+        launch(0, attempt, result, attempts, pending, firstError, tracker);
+
+        long delayMillis = fixedDelayMillis > 0 ? fixedDelayMillis : tracker.percentile(HEDGE_PERCENTILE, minSamples);
+        if (delayMillis >= 0 && !result.isDone()) {
+            CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, executor).execute(() -> {
+                if (result.isDone()) {
+                    return;
+                }
+                if (!budget.tryAcquire()) {
+                    budgetExhaustedCount.incrementAndGet();
+                    return;
+                }
+                pending.incrementAndGet();
+                log.debug("헤징 요청 전송 - {} ({}ms 경과)", key, delayMillis);
+                if (launch(1, attempt, result, attempts, pending, firstError, tracker)) {
+                    hedgedCount.incrementAndGet();
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * @return 헤징 통계
+     */
+    public HedgingStats getStats() {
+        return HedgingStats.builder()
+                .requestCount(requestCount.get())
+                .hedgedCount(hedgedCount.get())
+                .hedgeWinCount(hedgeWinCount.get())
+                .budgetExhaustedCount(budgetExhaustedCount.get())
+                .build();
+    }
+
+    /**
+     * 시도 하나 시작
+     *
+     * @return 시도를 시작했으면 true (hedge 대상 노드가 없으면 false)
+     */
+    private <T> boolean launch(int index, IntFunction<CompletableFuture<T>> attempt, CompletableFuture<T> result,
+                               AtomicReferenceArray<CompletableFuture<T>> attempts, AtomicInteger pending,
+                               AtomicReference<Throwable> firstError, LatencyTracker tracker) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = attempt.apply(index);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        if (future == null) {
+            onAttemptFailed(result, pending, firstError, null);
+            return false;
+        }
+        attempts.set(index, future);
+        if (result.isDone()) {
+            future.cancel(true);
+            return true;
+        }
+
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                tracker.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                if (result.complete(value) && index > 0) {
+                    hedgeWinCount.incrementAndGet();
+                }
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            onAttemptFailed(result, pending, firstError, cause);
+        });
+        return true;
+    }
+
+    private <T> void onAttemptFailed(CompletableFuture<T> result, AtomicInteger pending,
+                                     AtomicReference<Throwable> firstError, Throwable error) {
+        if (error != null) {
+            firstError.compareAndSet(null, error);
+        }
+        if (pending.decrementAndGet() == 0 && firstError.get() != null) {
+            result.completeExceptionally(firstError.get());
+        }
+    }
+
+    private static <T> void cancelAll(AtomicReferenceArray<CompletableFuture<T>> attempts) {
+        for (int i = 0; i < attempts.length(); i++) {
+            CompletableFuture<T> future = attempts.get(i);
+            if (future != null && !future.isDone()) {
+                future.cancel(true);
+            }
+        }
+    }
+}
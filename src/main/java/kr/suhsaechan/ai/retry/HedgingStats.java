@@ -0,0 +1,45 @@
+package kr.suhsaechan.ai.retry;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 헤징(hedged request) 통계 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HedgingStats {
+
+    /**
+     * 헤징 대상이 된 요청 수
+     */
+    private long requestCount;
+
+    /**
+     * 지연으로 인해 추가 요청(hedge)을 보낸 수
+     */
+    private long hedgedCount;
+
+    /**
+     * 추가 요청이 먼저 성공한 수
+     */
+    private long hedgeWinCount;
+
+    /**
+     * 헤징 예산이 부족해 추가 요청을 보내지 않은 수
+     */
+    private long budgetExhaustedCount;
+
+    /**
+     * 헤징 비율 (0.0 ~ 1.0)
+     *
+     * @return 요청이 없으면 0.0
+     */
+    public double getHedgeRate() {
+        return requestCount == 0 ? 0.0 : (double) hedgedCount / requestCount;
+    }
+}
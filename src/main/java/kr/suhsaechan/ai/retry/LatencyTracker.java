@@ -0,0 +1,56 @@
+package kr.suhsaechan.ai.retry;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 분포 추적기 (고정 크기 링 버퍼)
+ *
+ * <p>최근 {@code capacity}개 샘플만 보관하므로 부하 변화에 따라 백분위수가 따라 움직입니다.
+ * 백분위수는 조회 시 샘플을 복사해 정렬하며, 샘플 수가 작아 비용이 무시할 만합니다.</p>
+ */
+public class LatencyTracker {
+
+    private final long[] samples;
+    private int index;
+    private int count;
+
+    /**
+     * @param capacity 보관할 최근 샘플 수
+     */
+    public LatencyTracker(int capacity) {
+        this.samples = new long[Math.max(1, capacity)];
+    }
+
+    /**
+     * 응답 시간 샘플 기록
+     *
+     * @param latencyMillis 응답 시간 (밀리초)
+     */
+    public synchronized void record(long latencyMillis) {
+        samples[index] = latencyMillis;
+        index = (index + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    /**
+     * 백분위수 조회
+     *
+     * @param percentile 백분위 (0.0 ~ 1.0, 예: 0.95)
+     * @param minSamples 최소 샘플 수
+     * @return 백분위수 응답 시간 (샘플이 부족하면 -1)
+     */
+    public long percentile(double percentile, int minSamples) {
+        long[] snapshot;
+        synchronized (this) {
+            if (count == 0 || count < minSamples) {
+                return -1;
+            }
+            snapshot = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(snapshot);
+        int rank = (int) Math.ceil(percentile * snapshot.length) - 1;
+        return snapshot[Math.min(snapshot.length - 1, Math.max(0, rank))];
+    }
+}
@@ -0,0 +1,215 @@
+package kr.suhsaechan.ai.retry;
+
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import kr.suhsaechan.ai.exception.SuhAiderErrorCode;
+import kr.suhsaechan.ai.exception.SuhAiderException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 일시적 오류 재시도기 (지수 백오프 + full jitter + 재시도 예산)
+ *
+ * <p>{@link SuhAiderException}의 에러 코드가 재시도 대상이고, 시도 횟수가 남아 있고, {@link RetryBudget}에 토큰이 있을 때만
+ * {@code random(0, min(maxBackoff, initialBackoff * multiplier^(n-1)))} 만큼 기다린 뒤 다시 시도합니다.
+ * 마지막 시도의 예외를 그대로 전달합니다.</p>
+ *
+ * <p>마감 시각(deadline)을 지정하면 대기 후 마감 시각을 넘기게 되는 재시도는 하지 않습니다.</p>
+ *
+ * <p>비동기 재시도는 대기 후 생성자로 받은 {@link Executor}에서 다음 시도를 시작합니다.</p>
+ */
+@Slf4j
+public class Retrier {
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final double multiplier;
+    private final Set<SuhAiderErrorCode> retryableErrorCodes;
+    private final RetryBudget budget;
+    private final Executor executor;
+
+    /**
+     * @param settings 재시도 설정
+     * @param executor 비동기 재시도를 시작할 Executor
+     */
+    public Retrier(SuhAiderConfig.Retry settings, Executor executor) {
+        this.maxAttempts = Math.max(1, settings.getMaxAttempts());
+        this.initialBackoffMillis = Math.max(0, settings.getInitialBackoffMillis());
+        this.maxBackoffMillis = Math.max(initialBackoffMillis, settings.getMaxBackoffMillis());
+        this.multiplier = Math.max(1.0, settings.getMultiplier());
+        this.retryableErrorCodes = settings.getRetryableErrorCodes().isEmpty()
+                ? EnumSet.noneOf(SuhAiderErrorCode.class)
+                : EnumSet.copyOf(settings.getRetryableErrorCodes());
+        this.budget = new RetryBudget(settings.getBudgetPercent() / 100.0, settings.getBudgetBurst());
+        this.executor = executor;
+    }
+
+    /**
+     * 동기 실행 (재시도 대기 중에는 현재 스레드가 sleep)
+     *
+     * @param operation 로그용 작업명
+     * @param attempt 시도 한 번 (매번 새로 호출됨)
+     * @return 성공한 시도의 결과
+     */
+    public <T> T execute(String operation, Supplier<T> attempt) {
+        return execute(operation, 0, attempt);
+    }
+
+    /**
+     * 마감 시각이 있는 동기 실행
+     *
+     * @param operation 로그용 작업명
+     * @param deadlineNanos 마감 시각 ({@link System#nanoTime()} 기준, 0이면 없음)
+     * @param attempt 시도 한 번 (매번 새로 호출됨)
+     * @return 성공한 시도의 결과
+     */
+    public <T> T execute(String operation, long deadlineNanos, Supplier<T> attempt) {
+        budget.onRequest();
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return attempt.get();
+            } catch (RuntimeException e) {
+                long delayMillis = nextDelayMillis(operation, attemptNumber, e, deadlineNanos);
+                if (delayMillis < 0) {
+                    throw e;
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(delayMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 비동기 실행 (재시도 대기 중에는 스레드를 점유하지 않음)
+     * 반환된 Future를 취소하면 진행 중인 시도도 취소되고 이후 재시도는 하지 않습니다.
+     *
+     * @param operation 로그용 작업명
+     * @param attempt 시도 한 번 (매번 새로 호출됨)
+     * @return 성공한 시도의 결과 또는 마지막 시도의 예외로 완료되는 Future
+     */
+    public <T> CompletableFuture<T> executeAsync(String operation, Supplier<CompletableFuture<T>> attempt) {
+        return executeAsync(operation, 0, attempt);
+    }
+
+    /**
+     * 마감 시각이 있는 비동기 실행
+     *
+     * @param operation 로그용 작업명
+     * @param deadlineNanos 마감 시각 ({@link System#nanoTime()} 기준, 0이면 없음)
+     * @param attempt 시도 한 번 (매번 새로 호출됨)
+     * @return 성공한 시도의 결과 또는 마지막 시도의 예외로 완료되는 Future
+     */
+    public <T> CompletableFuture<T> executeAsync(String operation, long deadlineNanos,
+                                                 Supplier<CompletableFuture<T>> attempt) {
+        budget.onRequest();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<T>> current = new AtomicReference<>();
+        result.whenComplete((value, error) -> {
+            CompletableFuture<T> running = current.get();
+            if (result.isCancelled() && running != null) {
+                running.cancel(true);
+            }
+        });
+        runAttempt(operation, deadlineNanos, attempt, 1, result, current);
+        return result;
+    }
+
+    private <T> void runAttempt(String operation, long deadlineNanos, Supplier<CompletableFuture<T>> attempt,
+                                int attemptNumber, CompletableFuture<T> result,
+                                AtomicReference<CompletableFuture<T>> current) {
+        if (result.isDone()) {
+            return;
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = attempt.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        current.set(future);
+        if (result.isCancelled()) {
+            future.cancel(true);
+            return;
+        }
+
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            long delayMillis = result.isDone() ? -1 : nextDelayMillis(operation, attemptNumber, cause, deadlineNanos);
+            if (delayMillis < 0) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, executor)
+                    .execute(() -> runAttempt(operation, deadlineNanos, attempt, attemptNumber + 1, result, current));
+        });
+    }
+
+    /**
+     * 재시도 여부와 대기 시간 결정
+     *
+     * @return 대기 시간 (재시도하지 않으면 -1)
+     */
+    private long nextDelayMillis(String operation, int attemptNumber, Throwable error, long deadlineNanos) {
+        if (attemptNumber >= maxAttempts || !isRetryable(error)) {
+            return -1;
+        }
+
+        double ceiling = Math.min(maxBackoffMillis, initialBackoffMillis * Math.pow(multiplier, attemptNumber - 1));
+        long delayMillis = ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong((long) ceiling + 1);
+        if (deadlineNanos != 0 && deadlineNanos - System.nanoTime() <= TimeUnit.MILLISECONDS.toNanos(delayMillis)) {
+            log.warn("{} 재시도 생략 - 마감 시각 초과 ({}회 시도 후): {}", operation, attemptNumber, error.getMessage());
+            return -1;
+        }
+        if (!budget.tryAcquire()) {
+            log.warn("{} 재시도 생략 - 재시도 예산 소진 ({}회 시도 후): {}", operation, attemptNumber, error.getMessage());
+            return -1;
+        }
+        log.warn("{} 재시도 {}/{} - {}ms 후 ({})", operation, attemptNumber + 1, maxAttempts, delayMillis, error.getMessage());
+        return delayMillis;
+    }
+
+    /**
+     * @param error 발생한 예외
+     * @return 재시도 대상 에러 코드의 SuhAiderException이면 true
+     */
+    public boolean isRetryable(Throwable error) {
+        return !(error instanceof CancellationException)
+                && error instanceof SuhAiderException
+                && retryableErrorCodes.contains(((SuhAiderException) error).getErrorCode());
+    }
+
+    /**
+     * @return 최대 시도 횟수 (첫 시도 포함)
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return 재시도 예산
+     */
+    public RetryBudget getBudget() {
+        return budget;
+    }
+}
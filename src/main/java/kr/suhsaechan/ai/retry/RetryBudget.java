@@ -0,0 +1,66 @@
+package kr.suhsaechan.ai.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 예산 (토큰 버킷)
+ *
+ * <p>원 요청마다 {@code ratio}만큼 토큰이 쌓이고 재시도마다 토큰 1개를 사용합니다.
+ * 따라서 장기적으로 재시도는 전체 요청의 {@code ratio} 비율을 넘지 못하고, 서버 장애 시 재시도 폭주(retry storm)를 막습니다.
+ * 버킷은 {@code burst}개로 가득 찬 상태에서 시작하므로 트래픽이 적을 때도 가끔 발생하는 오류는 재시도할 수 있습니다.</p>
+ *
+ * <p>토큰은 1/1000 단위 정수로 관리하며 CAS로 갱신합니다.</p>
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    /**
+     * @param ratio 원 요청 하나당 허용할 재시도 비율 (예: 0.2 = 20%)
+     * @param burst 버킷 최대 토큰 수 (최소 1)
+     */
+    public RetryBudget(double ratio, int burst) {
+        this.depositPerRequest = Math.max(0, Math.round(ratio * SCALE));
+        this.capacity = Math.max(1, burst) * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * 원 요청 하나 시작 시 호출 (토큰 적립)
+     */
+    public void onRequest() {
+        long current;
+        long next;
+        do {
+            current = balance.get();
+            next = Math.min(capacity, current + depositPerRequest);
+        } while (current != next && !balance.compareAndSet(current, next));
+    }
+
+    /**
+     * 재시도 전 호출 (토큰 1개 사용)
+     *
+     * @return 토큰이 있으면 true (재시도 가능)
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    /**
+     * @return 남은 재시도 토큰 수
+     */
+    public double getAvailableTokens() {
+        return balance.get() / (double) SCALE;
+    }
+}
@@ -0,0 +1,239 @@
+package kr.suhsaechan.ai.service;
+
+import kr.suhsaechan.ai.model.BatchItemResult;
+import kr.suhsaechan.ai.model.BatchProgress;
+import kr.suhsaechan.ai.model.BatchResult;
+import kr.suhsaechan.ai.model.SuhAiderRequest;
+import kr.suhsaechan.ai.model.SuhAiderResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 배치 Generate 실행기 (배치 한 번에 하나 생성)
+ *
+ * <p>최대 {@code maxInFlight}개의 요청만 동시에 진행하고, 하나가 끝날 때마다 다음 요청을 시작합니다(슬라이딩 윈도우).
+ * 요청 실패는 항목 결과로만 기록하며 배치 전체를 실패시키지 않습니다.</p>
+ *
+ * <p>캐시 히트처럼 즉시 완료되는 요청이 이어져도 호출 스택이 깊어지지 않도록,
+ * 다음 요청 시작은 한 스레드가 모아서 처리합니다(trampoline).</p>
+ */
+@Slf4j
+final class BatchExecution {
+
+    private final List<SuhAiderRequest> requests;
+    private final Function<SuhAiderRequest, CompletableFuture<SuhAiderResponse>> generator;
+    private final int maxInFlight;
+    private final BatchProgressListener progressListener;
+
+    private final BatchItemResult[] results;
+    private final AtomicReferenceArray<CompletableFuture<SuhAiderResponse>> running;
+    private final CompletableFuture<BatchResult> result = new CompletableFuture<>();
+
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final AtomicInteger pendingLaunches = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final LongAdder evalCount = new LongAdder();
+    private final LongAdder evalDurationNanos = new LongAdder();
+
+    private long startNanos;
+
+    /**
+     * @param requests 입력 요청 목록
+     * @param generator 요청 하나를 실행하는 함수 (보통 generateAsync)
+     * @param maxInFlight 최대 동시 진행 수
+     * @param progressListener 진행 상황 리스너 (null 가능)
+     */
+    BatchExecution(List<SuhAiderRequest> requests,
+                   Function<SuhAiderRequest, CompletableFuture<SuhAiderResponse>> generator,
+                   int maxInFlight,
+                   BatchProgressListener progressListener) {
+        this.requests = requests;
+        this.generator = generator;
+        this.maxInFlight = maxInFlight;
+        this.progressListener = progressListener;
+        this.results = new BatchItemResult[requests.size()];
+        this.running = new AtomicReferenceArray<>(requests.size());
+    }
+
+    /**
+     * 배치 실행 시작
+     *
+     * @return 모든 항목이 끝나면 완료되는 Future (cancel 시 진행 중인 요청도 취소)
+     */
+    CompletableFuture<BatchResult> start() {
+        startNanos = System.nanoTime();
+
+        if (requests.isEmpty()) {
+            result.complete(buildResult());
+            return result;
+        }
+
+        result.whenComplete((batchResult, error) -> {
+            if (result.isCancelled()) {
+                cancelRunning();
+            }
+        });
+
+        int initial = Math.min(maxInFlight, requests.size());
+        for (int i = 0; i < initial; i++) {
+            requestLaunch();
+        }
+        return result;
+    }
+
+    /**
+     * 다음 요청 시작 요청 (이미 다른 호출이 시작 루프를 돌고 있으면 그쪽에 맡김)
+     */
+    private void requestLaunch() {
+        if (pendingLaunches.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            launchNext();
+        } while (pendingLaunches.decrementAndGet() != 0);
+    }
+
+    private void launchNext() {
+        if (result.isDone()) {
+            return;
+        }
+
+        int index = nextIndex.getAndIncrement();
+        if (index >= requests.size()) {
+            return;
+        }
+
+        long itemStartNanos = System.nanoTime();
+        CompletableFuture<SuhAiderResponse> future;
+        try {
+            future = generator.apply(requests.get(index));
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        running.set(index, future);
+        if (result.isCancelled()) {
+            // 배치 취소와 요청 시작이 겹친 경우
+            future.cancel(true);
+        }
+        future.whenComplete((response, error) -> onItemComplete(index, itemStartNanos, response, error));
+    }
+
+    private void onItemComplete(int index, long itemStartNanos, SuhAiderResponse response, Throwable error) {
+        running.set(index, null);
+
+        Throwable cause = unwrap(error);
+        results[index] = BatchItemResult.builder()
+                .index(index)
+                .success(cause == null)
+                .response(cause == null ? response : null)
+                .error(cause)
+                .latencyMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - itemStartNanos))
+                .build();
+
+        if (cause == null) {
+            succeeded.incrementAndGet();
+            if (response != null && response.getEvalCount() != null) {
+                evalCount.add(response.getEvalCount());
+            }
+            if (response != null && response.getEvalDuration() != null) {
+                evalDurationNanos.add(response.getEvalDuration());
+            }
+        } else {
+            log.debug("배치 항목 실패 - index: {}, error: {}", index, cause.getMessage());
+        }
+
+        int done = completed.incrementAndGet();
+        notifyProgress();
+
+        if (done == requests.size()) {
+            result.complete(buildResult());
+        } else {
+            requestLaunch();
+        }
+    }
+
+    /**
+     * 진행 상황 알림 (리스너가 항상 증가하는 completed 값을 보도록 직렬화)
+     */
+    private synchronized void notifyProgress() {
+        if (progressListener == null) {
+            return;
+        }
+
+        int done = completed.get();
+        int ok = succeeded.get();
+        long elapsedNanos = System.nanoTime() - startNanos;
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+
+        BatchProgress progress = BatchProgress.builder()
+                .total(requests.size())
+                .completed(done)
+                .succeeded(ok)
+                .failed(done - ok)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .itemsPerSecond(perSecond(done, elapsedSeconds))
+                .tokensPerSecond(perSecond(evalCount.sum(), elapsedSeconds))
+                .build();
+
+        try {
+            progressListener.onProgress(progress);
+        } catch (RuntimeException e) {
+            log.warn("배치 진행 리스너 예외 (무시): {}", e.getMessage());
+        }
+    }
+
+    private BatchResult buildResult() {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        long tokens = evalCount.sum();
+        long evalNanos = evalDurationNanos.sum();
+        int ok = succeeded.get();
+
+        List<BatchItemResult> items = new ArrayList<>(results.length);
+        for (BatchItemResult item : results) {
+            items.add(item);
+        }
+
+        return BatchResult.builder()
+                .items(items)
+                .successCount(ok)
+                .failureCount(results.length - ok)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .itemsPerSecond(perSecond(results.length, elapsedSeconds))
+                .tokensPerSecond(perSecond(tokens, elapsedSeconds))
+                .generationTokensPerSecond(perSecond(tokens, evalNanos / 1_000_000_000.0))
+                .totalEvalCount(tokens)
+                .build();
+    }
+
+    private void cancelRunning() {
+        for (int i = 0; i < running.length(); i++) {
+            CompletableFuture<SuhAiderResponse> future = running.get(i);
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private static double perSecond(long count, double seconds) {
+        return seconds > 0 ? count / seconds : 0.0;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+}
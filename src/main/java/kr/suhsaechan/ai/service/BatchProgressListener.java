@@ -0,0 +1,23 @@
+package kr.suhsaechan.ai.service;
+
+import kr.suhsaechan.ai.model.BatchProgress;
+
+/**
+ * 배치 Generate 진행 상황 리스너
+ * 항목이 하나 완료될 때마다(성공/실패 모두) 호출됩니다.
+ *
+ * <p>OkHttp 응답 처리 스레드 또는 비동기 Executor 스레드에서 호출되므로 오래 걸리는 작업을 하지 마세요.
+ * 리스너에서 발생한 예외는 로그만 남기고 배치는 계속 진행합니다.</p>
+ *
+ * @see SuhAiderEngine#generateBatch(java.util.List, kr.suhsaechan.ai.model.BatchOptions)
+ */
+@FunctionalInterface
+public interface BatchProgressListener {
+
+    /**
+     * 항목 완료 시 호출됩니다.
+     *
+     * @param progress 현재 진행 상황
+     */
+    void onProgress(BatchProgress progress);
+}
@@ -0,0 +1,66 @@
+package kr.suhsaechan.ai.service;
+
+/**
+ * 재시도용 스트리밍 콜백 래퍼
+ *
+ * <p>첫 청크가 전달되기 전에 발생한 오류는 원본 콜백에 전달하지 않고 보관해, 호출자가 재시도 여부를 판단할 수 있게 합니다.
+ * 첫 청크 이후의 오류는 이미 일부 응답이 전달되었으므로 재시도하지 않고 그대로 전달합니다.</p>
+ */
+class StreamRetryCallback implements StreamCallback {
+
+    private final StreamCallback delegate;
+    private volatile boolean started;
+    private volatile RuntimeException withheldError;
+
+    StreamRetryCallback(StreamCallback delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * 시도 시작 시 호출 (이전 시도의 보관된 오류 제거)
+     */
+    void beginAttempt() {
+        withheldError = null;
+    }
+
+    /**
+     * 보관된 오류를 꺼내고 비움
+     *
+     * @return 첫 청크 전에 발생한 오류 (없으면 null)
+     */
+    RuntimeException takeWithheldError() {
+        RuntimeException error = withheldError;
+        withheldError = null;
+        return error;
+    }
+
+    /**
+     * 보관된 오류가 있으면 던짐
+     */
+    void throwWithheldError() {
+        RuntimeException error = takeWithheldError();
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    @Override
+    public void onNext(String chunk) {
+        started = true;
+        delegate.onNext(chunk);
+    }
+
+    @Override
+    public void onComplete() {
+        delegate.onComplete();
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        if (!started && error instanceof RuntimeException) {
+            withheldError = (RuntimeException) error;
+            return;
+        }
+        delegate.onError(error);
+    }
+}
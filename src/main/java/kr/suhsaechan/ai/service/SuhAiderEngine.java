@@ -1,27 +1,62 @@
 package kr.suhsaechan.ai.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.suhsaechan.ai.cache.CacheStats;
+import kr.suhsaechan.ai.cache.ResponseCache;
+import kr.suhsaechan.ai.cache.ResponseCacheKey;
+import kr.suhsaechan.ai.circuit.CircuitBreaker;
+import kr.suhsaechan.ai.circuit.CircuitBreakerRegistry;
+import kr.suhsaechan.ai.circuit.CircuitBreakerStatus;
+import kr.suhsaechan.ai.concurrent.AdaptiveConcurrencyLimiter;
+import kr.suhsaechan.ai.concurrent.ConcurrencyLimitStatus;
+import kr.suhsaechan.ai.concurrent.ConcurrencyLimiterRegistry;
+import kr.suhsaechan.ai.concurrent.QueueWaitStats;
+import kr.suhsaechan.ai.concurrent.SingleFlight;
+import kr.suhsaechan.ai.concurrent.SingleFlightStats;
+import kr.suhsaechan.ai.concurrent.SuhAiderAsyncExecutor;
 import kr.suhsaechan.ai.config.SuhAiderConfig;
 import kr.suhsaechan.ai.config.SuhAiderCustomizer;
+import kr.suhsaechan.ai.endpoint.Endpoint;
+import kr.suhsaechan.ai.endpoint.EndpointBalancer;
+import kr.suhsaechan.ai.endpoint.EndpointHealthChecker;
+import kr.suhsaechan.ai.endpoint.EndpointStatus;
+import kr.suhsaechan.ai.endpoint.ModelCatalog;
+import kr.suhsaechan.ai.endpoint.ModelNames;
 import kr.suhsaechan.ai.exception.SuhAiderErrorCode;
 import kr.suhsaechan.ai.exception.SuhAiderException;
+import kr.suhsaechan.ai.model.BatchItemResult;
+import kr.suhsaechan.ai.model.BatchOptions;
+import kr.suhsaechan.ai.model.BatchResult;
+import kr.suhsaechan.ai.model.GenerateOptions;
 import kr.suhsaechan.ai.model.JsonSchema;
 import kr.suhsaechan.ai.model.ModelInfo;
 import kr.suhsaechan.ai.model.ModelListResponse;
+import kr.suhsaechan.ai.model.RequestPriority;
+import kr.suhsaechan.ai.model.RunningModel;
+import kr.suhsaechan.ai.model.RunningModelListResponse;
 import kr.suhsaechan.ai.model.SuhAiderRequest;
 import kr.suhsaechan.ai.model.SuhAiderResponse;
+import kr.suhsaechan.ai.model.VersionResponse;
+import kr.suhsaechan.ai.ratelimit.RateLimitReservation;
+import kr.suhsaechan.ai.ratelimit.RateLimitStatus;
+import kr.suhsaechan.ai.ratelimit.RateLimiterRegistry;
+import kr.suhsaechan.ai.retry.Hedger;
+import kr.suhsaechan.ai.retry.HedgingStats;
+import kr.suhsaechan.ai.retry.Retrier;
+import kr.suhsaechan.ai.util.GenerateStreamDecoder;
+import kr.suhsaechan.ai.util.JsonRequestBody;
 import kr.suhsaechan.ai.util.JsonResponseCleaner;
+import kr.suhsaechan.ai.util.JsonSchemaFormatConverter;
 import kr.suhsaechan.ai.util.PromptEnhancer;
 import lombok.extern.slf4j.Slf4j;
-import okhttp3.MediaType;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
-import okio.BufferedSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.lang.Nullable;
@@ -29,13 +64,30 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
+import java.net.ConnectException;
 import java.net.SocketTimeoutException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * SUH-AIDER AI 서버와 통신하는 엔진
@@ -49,20 +101,88 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class SuhAiderEngine {
 
+    /**
+     * Ollama 루트 경로(/) 응답 문구 (소문자로 비교)
+     */
+    private static final String OLLAMA_RUNNING_BANNER = "ollama is running";
+
     private final OkHttpClient httpClient;
     private final ObjectMapper objectMapper;
     private final SuhAiderConfig config;
+    private final SuhAiderAsyncExecutor asyncExecutor;
+    private final ResponseCache responseCache;
     private final SuhAiderCustomizer customizer;
 
     /**
-     * 캐싱된 사용 가능한 모델 목록
+     * 동일 Generate 요청 병합기 (suh.aider.coalescing.enabled=false이면 null)
      */
-    private List<ModelInfo> availableModels = new ArrayList<>();
+    private final SingleFlight<String, SuhAiderResponse> singleFlight;
 
     /**
-     * 모델 목록 초기화 완료 여부
+     * AI 서버 노드 부하 분산기 (endpoints 미설정 시 baseUrl 하나)
+     */
+    private final EndpointBalancer endpointBalancer;
+
+    /**
+     * 노드 헬스 체크기 (백그라운드 프로브, UP / DEGRADED / DOWN 상태 전이)
+     */
+    private final EndpointHealthChecker healthChecker;
+
+    /**
+     * 노드별 회로 차단기 (suh.aider.circuit-breaker.enabled=false이면 null)
+     */
+    private final CircuitBreakerRegistry circuitBreakers;
+
+    /**
+     * 일시적 오류 재시도기 (suh.aider.retry.enabled=false이면 null)
+     */
+    private final Retrier retrier;
+
+    /**
+     * 헤징 실행기 (suh.aider.hedging.enabled=false이거나 노드가 하나이면 null)
+     */
+    private final Hedger hedger;
+
+    /**
+     * 서버+모델별 적응형 동시성 제한기 (suh.aider.concurrency-limit.enabled=false이면 null)
+     */
+    private final ConcurrencyLimiterRegistry concurrencyLimiters;
+
+    /**
+     * 모델별 / API 키별 속도 제한기 (suh.aider.rate-limit.enabled=false이면 null)
+     */
+    private final RateLimiterRegistry rateLimiters;
+
+    /**
+     * 헬스 프로브 전용 클라이언트 (httpClient와 커넥션 풀 공유, 프로브 타임아웃 적용)
+     * 헬스 체크 스레드에서 실행하는 노드별 모델 목록 갱신도 이 클라이언트를 사용해, 응답 없는 노드 하나가 다른 노드의 프로브를 막지 않도록 합니다.
+     */
+    private final OkHttpClient probeClient;
+
+    /**
+     * 캐싱된 사용 가능한 모델 목록 (갱신 시 불변 스냅샷을 통째로 교체, version 0이면 아직 로드되지 않음)
+     */
+    private final AtomicReference<ModelCatalog> modelCatalog = new AtomicReference<>(ModelCatalog.empty());
+
+    /**
+     * 첫 모델 목록 로드 완료 시 완료되는 Future (종료 시 로드 전이면 취소)
+     */
+    private final CompletableFuture<ModelCatalog> modelsReady = new CompletableFuture<>();
+
+    /**
+     * 종료 여부 (백그라운드 모델 목록 로드 / 모델 재고정 중단용)
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * 사전 로드 대상 모델 (정규화된 이름, suh.aider.preload.models)
+     */
+    private final Set<String> preloadModels;
+
+    /**
+     * 모델별 기본 생성 옵션 (키: 정규화된 모델명, suh.aider.model-options.models)
      */
-    private volatile boolean modelsInitialized = false;
+    private final Map<String, GenerateOptions> modelOptions;
 
     /**
      * 생성자 주입 (Customizer는 선택적)
@@ -71,12 +191,45 @@ public class SuhAiderEngine {
             @Qualifier("suhAiderHttpClient") OkHttpClient httpClient,
             @Qualifier("suhAiderObjectMapper") ObjectMapper objectMapper,
             SuhAiderConfig config,
+            @Qualifier("suhAiderAsyncExecutor") SuhAiderAsyncExecutor asyncExecutor,
+            @Nullable @Autowired(required = false) ResponseCache responseCache,
             @Nullable @Autowired(required = false) SuhAiderCustomizer customizer
     ) {
         this.httpClient = httpClient;
         this.objectMapper = objectMapper;
         this.config = config;
+        this.asyncExecutor = asyncExecutor;
+        this.responseCache = responseCache;
         this.customizer = customizer;
+        this.singleFlight = config.getCoalescing().isEnabled()
+                ? new SingleFlight<>(response -> response.toBuilder().build())
+                : null;
+        this.endpointBalancer = new EndpointBalancer(config.resolveEndpoints(),
+                config.getLoadBalancer().getModelSpilloverThreshold());
+        this.circuitBreakers = config.getCircuitBreaker().isEnabled()
+                ? new CircuitBreakerRegistry(config.getCircuitBreaker())
+                : null;
+        this.retrier = config.getRetry().isEnabled() ? new Retrier(config.getRetry(), asyncExecutor) : null;
+        this.hedger = config.getHedging().isEnabled() && endpointBalancer.getEndpoints().size() > 1
+                ? new Hedger(config.getHedging(), asyncExecutor)
+                : null;
+        this.concurrencyLimiters = config.getConcurrencyLimit().isEnabled()
+                ? new ConcurrencyLimiterRegistry(config.getConcurrencyLimit(), config.getScheduling(), asyncExecutor)
+                : null;
+        this.rateLimiters = config.getRateLimit().isEnabled()
+                ? new RateLimiterRegistry(config.getRateLimit(), hasSecurityHeader()
+                        ? "api-key:" + maskSensitiveValue(config.getSecurity().getApiKey())
+                        : "api-key")
+                : null;
+        this.probeClient = httpClient.newBuilder()
+                .callTimeout(Duration.ofMillis(config.getLoadBalancer().getHealthCheckTimeoutMillis()))
+                .build();
+        this.healthChecker = new EndpointHealthChecker(endpointBalancer, this::probe, this::refreshEndpointModelsQuietly,
+                config.getLoadBalancer().getHealthCheckFailureThreshold(),
+                config.getLoadBalancer().getDegradedLatencyMillis(),
+                TimeUnit.SECONDS.toMillis(config.getLoadBalancer().getEndpointModelRefreshIntervalSeconds()));
+        this.preloadModels = normalizeModelNames(config.getPreload().getModels());
+        this.modelOptions = normalizeModelKeys(config.getModelOptions().getModels());
     }
 
     /**
@@ -84,7 +237,7 @@ public class SuhAiderEngine {
      */
     @PostConstruct
     public void init() {
-        log.info("SuhAiderEngine 초기화 - baseUrl: {}", config.getBaseUrl());
+        log.info("SuhAiderEngine 초기화 - endpoints: {}", endpointBalancer.getEndpoints());
 
         // Security Header 설정 여부 확인 (선택적)
         if (!hasSecurityHeader()) {
@@ -96,7 +249,11 @@ public class SuhAiderEngine {
 
         // 모델 목록 초기화 (설정에 따라)
         if (config.getModelRefresh().isLoadOnStartup()) {
-            initializeModels();
+            if (config.getModelRefresh().isAsyncWarmUp()) {
+                scheduleModelWarmUp(1, 0);
+            } else {
+                initializeModels();
+            }
         } else {
             log.info("모델 목록 초기화 건너뜀 (load-on-startup: false)");
         }
@@ -108,25 +265,272 @@ public class SuhAiderEngine {
                     config.getModelRefresh().getTimezone());
         }
 
+        if (config.getHedging().isEnabled() && hedger == null) {
+            log.warn("헤징이 설정되었지만 AI 서버가 하나뿐이라 사용하지 않습니다 (suh.aider.endpoints 2개 이상 필요)");
+        }
+
+        // 백그라운드 헬스 체크 (노드 상태 갱신, DOWN 노드 제외)
+        int healthCheckInterval = config.getLoadBalancer().getHealthCheckIntervalSeconds();
+        if (healthCheckInterval > 0) {
+            healthChecker.start(healthCheckInterval);
+        }
+
+        // 모델 사전 로드 + 주기적 keep_alive 갱신 (백그라운드)
+        if (!preloadModels.isEmpty()) {
+            log.info("모델 사전 로드 시작 - 모델: {}, keep_alive: {}, 재고정 주기: {}s",
+                    preloadModels, config.getPreload().getKeepAlive(), config.getPreload().getRepinIntervalSeconds());
+            schedulePreload(0);
+        }
+
         log.info("SuhAiderEngine 초기화 완료");
     }
 
+    /**
+     * 종료 시 헬스 체크 스레드 정리
+     */
+    @PreDestroy
+    public void destroy() {
+        closed = true;
+        modelsReady.cancel(false);
+        healthChecker.close();
+    }
+
+    /**
+     * 백그라운드 모델 목록 로드 예약
+     * 첫 로드에 성공하거나 종료될 때까지 지수 백오프(지터 포함)로 재시도합니다.
+     *
+     * @param attempt 시도 번호 (1부터)
+     * @param delayMillis 시작 전 대기 시간
+     */
+    private void scheduleModelWarmUp(int attempt, long delayMillis) {
+        Runnable warmUp = () -> {
+            if (closed || modelsReady.isDone()) {
+                return;
+            }
+            if (initializeModels()) {
+                log.info("백그라운드 모델 목록 로드 완료 - 시도: {}회", attempt);
+                return;
+            }
+            long nextDelay = warmUpBackoffMillis(attempt);
+            log.warn("백그라운드 모델 목록 로드 실패 - {}ms 후 재시도 (시도: {}회)", nextDelay, attempt);
+            scheduleModelWarmUp(attempt + 1, nextDelay);
+        };
+
+        try {
+            if (delayMillis <= 0) {
+                asyncExecutor.execute(warmUp);
+            } else {
+                CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, asyncExecutor).execute(warmUp);
+            }
+            if (attempt == 1) {
+                log.info("모델 목록 백그라운드 로드 시작 (async-warm-up: true)");
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("백그라운드 모델 목록 로드 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 모델 사전 로드 예약
+     * 실행 후 재고정 주기가 있으면 다음 실행을 다시 예약합니다.
+     *
+     * @param delaySeconds 시작 전 대기 시간 (초)
+     */
+    private void schedulePreload(long delaySeconds) {
+        Runnable preload = () -> {
+            if (closed) {
+                return;
+            }
+            try {
+                preloadAll();
+            } finally {
+                long interval = config.getPreload().getRepinIntervalSeconds();
+                if (interval > 0) {
+                    schedulePreload(interval);
+                }
+            }
+        };
+
+        try {
+            if (delaySeconds <= 0) {
+                asyncExecutor.execute(preload);
+            } else {
+                CompletableFuture.delayedExecutor(delaySeconds, TimeUnit.SECONDS, asyncExecutor).execute(preload);
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("모델 사전 로드 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사전 로드 대상 모델을 설치된 모든 정상 노드에 로드 (이미 로드된 모델은 keep_alive만 갱신)
+     */
+    private void preloadAll() {
+        int pinned = 0;
+        int failed = 0;
+        for (Endpoint endpoint : endpointBalancer.getEndpoints()) {
+            if (!endpoint.isHealthy()) {
+                continue;
+            }
+            for (String model : preloadModels) {
+                if (closed) {
+                    return;
+                }
+                if (!endpoint.hasInstalled(model)) {
+                    continue;
+                }
+                if (preload(endpoint, model)) {
+                    pinned++;
+                } else {
+                    failed++;
+                }
+            }
+        }
+        log.debug("모델 사전 로드 완료 - 성공: {}, 실패: {}", pinned, failed);
+    }
+
+    /**
+     * 노드 하나에 빈 프롬프트 생성 요청을 보내 모델을 로드하고 keep_alive 갱신
+     *
+     * @param endpoint 대상 노드
+     * @param model 모델명
+     * @return 성공하면 true
+     */
+    private boolean preload(Endpoint endpoint, String model) {
+        SuhAiderRequest preloadRequest = SuhAiderRequest.builder()
+                .model(model)
+                .keepAlive(config.getPreload().getKeepAlive())
+                .build();
+        Request httpRequest = addSecurityHeader(new Request.Builder())
+                .url(endpoint.url("/api/generate"))
+                .addHeader("Content-Type", "application/json")
+                .post(JsonRequestBody.of(objectMapper, preloadRequest))
+                .build();
+
+        endpoint.acquire();
+        try (Response response = httpClient.newCall(httpRequest).execute()) {
+            if (!response.isSuccessful()) {
+                log.warn("모델 사전 로드 실패 - {} {}: HTTP {}", endpoint, model, response.code());
+                return false;
+            }
+            endpoint.markLoaded(model);
+            return true;
+        } catch (IOException e) {
+            ejectOnConnectFailure(endpoint, e);
+            log.warn("모델 사전 로드 실패 - {} {}: {}", endpoint, model, e.getMessage());
+            return false;
+        } finally {
+            endpoint.release();
+        }
+    }
+
+    /**
+     * 요청에 적용할 keep_alive 결정
+     * 요청에 없고 사전 로드 대상 모델이면 suh.aider.preload.keep-alive를 사용합니다
+     * (서버 기본값 5분으로 되돌아가 고정이 풀리지 않도록).
+     *
+     * @param request 요청
+     * @return keep_alive (없으면 null)
+     */
+    private String resolveKeepAlive(SuhAiderRequest request) {
+        if (request.getKeepAlive() != null || preloadModels.isEmpty()
+                || !preloadModels.contains(ModelNames.normalize(request.getModel()))) {
+            return request.getKeepAlive();
+        }
+        return config.getPreload().getKeepAlive();
+    }
+
+    /**
+     * 요청에 적용할 생성 옵션 결정
+     * 전역 기본값(customizer) → 모델별 기본값(suh.aider.model-options) → 요청의 options 순서로 값 단위로 덮어씁니다.
+     *
+     * @param request 요청
+     * @return 최종 옵션 (지정된 값이 없으면 null)
+     */
+    private GenerateOptions resolveOptions(SuhAiderRequest request) {
+        GenerateOptions options = customizer != null ? customizer.getDefaultOptions() : null;
+        if (!modelOptions.isEmpty()) {
+            options = GenerateOptions.merge(options, modelOptions.get(ModelNames.normalize(request.getModel())));
+        }
+        options = GenerateOptions.merge(options, request.getOptions());
+        return options != null && !options.isEmpty() ? options : null;
+    }
+
+    private static Map<String, GenerateOptions> normalizeModelKeys(Map<String, GenerateOptions> optionsByModel) {
+        Map<String, GenerateOptions> normalized = new HashMap<>();
+        if (optionsByModel != null) {
+            optionsByModel.forEach((modelName, options) -> {
+                if (StringUtils.hasText(modelName) && options != null) {
+                    normalized.put(ModelNames.normalize(modelName.trim()), options);
+                }
+            });
+        }
+        return Collections.unmodifiableMap(normalized);
+    }
+
+    private static Set<String> normalizeModelNames(List<String> modelNames) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (modelNames != null) {
+            for (String modelName : modelNames) {
+                if (StringUtils.hasText(modelName)) {
+                    normalized.add(ModelNames.normalize(modelName.trim()));
+                }
+            }
+        }
+        return Collections.unmodifiableSet(normalized);
+    }
+
+    /**
+     * 백그라운드 로드 재시도 대기 시간 (지수 증가, 상한 적용, 절반 구간 지터)
+     *
+     * @param failures 지금까지의 실패 횟수 (1부터)
+     * @return 대기 시간 (밀리초)
+     */
+    private long warmUpBackoffMillis(int failures) {
+        long initial = Math.max(1, config.getModelRefresh().getWarmUpInitialBackoffMillis());
+        long max = Math.max(initial, config.getModelRefresh().getWarmUpMaxBackoffMillis());
+        long backoff = initial << Math.min(failures - 1, 30);
+        backoff = backoff <= 0 ? max : Math.min(backoff, max);
+        long half = backoff / 2;
+        return half + ThreadLocalRandom.current().nextLong(backoff - half + 1);
+    }
+
     /**
      * 서버에서 모델 목록을 가져와서 캐싱
      * 초기화 시점 또는 스케줄링에 의해 호출됩니다.
+     * 노드마다 설치/로드된 모델을 갱신하고, 전체 노드의 설치 모델 합집합을 사용 가능한 모델 목록으로 사용합니다.
+     *
+     * @return 모델 목록을 새로 반영했으면 true (조회 실패 또는 빈 목록이면 false)
      */
-    private void initializeModels() {
+    private boolean initializeModels() {
         try {
             log.info("사용 가능한 모델 목록 로딩 중...");
 
-            ModelListResponse response = getModels();
+            Map<String, ModelInfo> merged = new LinkedHashMap<>();
+            SuhAiderException lastFailure = null;
+            int succeeded = 0;
+            for (Endpoint endpoint : endpointBalancer.getEndpoints()) {
+                try {
+                    ModelListResponse response = refreshEndpointModels(httpClient, endpoint);
+                    succeeded++;
+                    if (response.getModels() != null) {
+                        response.getModels().forEach(model -> merged.putIfAbsent(model.getName(), model));
+                    }
+                } catch (SuhAiderException e) {
+                    log.warn("노드 모델 목록 조회 실패 - {}: {}", endpoint, e.getMessage());
+                    lastFailure = e;
+                }
+            }
+            if (succeeded == 0 && lastFailure != null) {
+                throw lastFailure;
+            }
 
-            if (response.getModels() != null && !response.getModels().isEmpty()) {
-                this.availableModels = new ArrayList<>(response.getModels());
-                this.modelsInitialized = true;
+            if (!merged.isEmpty()) {
+                ModelCatalog catalog = modelCatalog.updateAndGet(current -> current.next(merged.values()));
+                modelsReady.complete(catalog);
 
-                log.info("모델 목록 로드 완료 - 총 {}개", availableModels.size());
-                availableModels.forEach(model ->
+                log.info("모델 목록 로드 완료 - 총 {}개 (버전: {})", catalog.size(), catalog.getVersion());
+                catalog.getModels().forEach(model ->
                         log.debug("  - {}: {} ({})",
                                 model.getName(),
                                 model.getDetails() != null ?
@@ -134,6 +538,7 @@ public class SuhAiderEngine {
                                 formatSize(model.getSize())
                         )
                 );
+                return true;
             } else {
                 log.warn("서버에서 모델 목록을 가져왔으나 비어있습니다");
             }
@@ -142,6 +547,7 @@ public class SuhAiderEngine {
             log.error("모델 목록 초기화 실패: {}", e.getMessage());
             log.warn("모델 검증 없이 진행합니다 (요청 시 서버에서 검증됨)");
         }
+        return false;
     }
 
     /**
@@ -150,35 +556,57 @@ public class SuhAiderEngine {
      * @return 모델 목록 (불변 리스트, 빈 리스트 가능)
      */
     public List<ModelInfo> getAvailableModels() {
-        return Collections.unmodifiableList(availableModels);
+        return modelCatalog.get().getModels();
+    }
+
+    /**
+     * 현재 모델 카탈로그 스냅샷 반환
+     * 버전과 마지막 갱신 시각을 포함하며, 반환된 스냅샷은 이후 갱신되어도 바뀌지 않습니다.
+     *
+     * @return 모델 카탈로그 (아직 로드되지 않았으면 version 0인 빈 카탈로그)
+     */
+    public ModelCatalog getModelCatalog() {
+        return modelCatalog.get();
+    }
+
+    /**
+     * 첫 모델 목록 로드 완료 대기용 Future 반환
+     * 동기 로드, 백그라운드 로드(async-warm-up), 수동/스케줄 갱신 중 처음 성공한 시점에 완료됩니다.
+     *
+     * <p>사용 예제 (readiness 체크):</p>
+     * <pre>
+     * boolean ready = suhAiderEngine.whenModelsReady().isDone();
+     * </pre>
+     *
+     * @return 첫 로드된 모델 카탈로그를 담은 Future (호출자가 완료/취소해도 엔진 상태에 영향 없음, 로드 전 종료되면 취소됨)
+     */
+    public CompletableFuture<ModelCatalog> whenModelsReady() {
+        return modelsReady.copy();
     }
 
     /**
      * 특정 모델이 사용 가능한지 확인
      *
-     * @param modelName 모델명
+     * @param modelName 모델명 (태그 생략 시 :latest로 간주)
      * @return 사용 가능하면 true, 목록이 초기화되지 않았으면 항상 true (서버에서 검증)
      */
     public boolean isModelAvailable(String modelName) {
-        if (!modelsInitialized) {
+        ModelCatalog catalog = modelCatalog.get();
+        if (catalog.getVersion() == 0) {
             log.debug("모델 목록이 초기화되지 않았습니다 - 서버에서 검증됩니다");
             return true;
         }
-
-        return availableModels.stream()
-                .anyMatch(model -> model.getName().equals(modelName));
+        return catalog.contains(modelName);
     }
 
     /**
      * 모델 이름으로 상세 정보 가져오기
      *
-     * @param modelName 모델명
+     * @param modelName 모델명 (태그 생략 시 :latest로 간주)
      * @return 모델 정보 (없으면 empty)
      */
     public Optional<ModelInfo> getModelInfo(String modelName) {
-        return availableModels.stream()
-                .filter(model -> model.getName().equals(modelName))
-                .findFirst();
+        return Optional.ofNullable(modelCatalog.get().find(modelName));
     }
 
     /**
@@ -191,7 +619,7 @@ public class SuhAiderEngine {
         log.info("모델 목록 수동 갱신 시작");
         try {
             initializeModels();
-            return modelsInitialized;
+            return isModelsInitialized();
         } catch (Exception e) {
             log.error("모델 목록 갱신 실패: {}", e.getMessage());
             return false;
@@ -204,7 +632,107 @@ public class SuhAiderEngine {
      * @return 초기화 완료되었으면 true
      */
     public boolean isModelsInitialized() {
-        return modelsInitialized;
+        return modelCatalog.get().getVersion() > 0;
+    }
+
+    /**
+     * 비동기 작업 전용 Executor 반환
+     * 대기열 깊이({@code getQueueSize()}), 실행 중인 작업 수({@code getActiveCount()}) 등 상태 조회에 사용합니다.
+     *
+     * @return SuhAiderAsyncExecutor
+     */
+    public SuhAiderAsyncExecutor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * OkHttp 비동기 호출(generateAsync / generateStreamAsync) 전용 Executor 반환
+     * 스트림을 읽는 스레드 수({@code getActiveCount()}), 풀 크기({@code getPoolSize()}) 등 상태 조회에 사용합니다.
+     *
+     * @return SuhAiderAsyncExecutor (OkHttpClient의 Dispatcher가 다른 Executor를 사용하면 Optional.empty())
+     */
+    public Optional<SuhAiderAsyncExecutor> getHttpExecutor() {
+        ExecutorService executor = httpClient.dispatcher().executorService();
+        return executor instanceof SuhAiderAsyncExecutor
+                ? Optional.of((SuhAiderAsyncExecutor) executor)
+                : Optional.empty();
+    }
+
+    /**
+     * 응답 캐시 통계 조회
+     *
+     * @return 캐시 통계 (캐시를 사용하지 않으면 empty)
+     */
+    public Optional<CacheStats> getCacheStats() {
+        return Optional.ofNullable(responseCache).map(ResponseCache::getStats);
+    }
+
+    /**
+     * 동일 요청 병합 통계 조회
+     * deduplicatedCount는 진행 중인 요청에 합류해 서버 호출을 생략한 호출 수입니다.
+     *
+     * @return 병합 통계 (suh.aider.coalescing.enabled=false이면 empty)
+     */
+    public Optional<SingleFlightStats> getCoalescingStats() {
+        return Optional.ofNullable(singleFlight).map(SingleFlight::getStats);
+    }
+
+    /**
+     * 회로 차단기 상태 조회
+     * 요청이 한 번이라도 지나간 서버(perModel=true이면 서버+모델)의 차단기만 포함됩니다.
+     *
+     * @return 차단기 상태 목록 (suh.aider.circuit-breaker.enabled=false이면 빈 리스트)
+     */
+    public List<CircuitBreakerStatus> getCircuitBreakerStatuses() {
+        return circuitBreakers != null ? circuitBreakers.getStatuses() : Collections.emptyList();
+    }
+
+    /**
+     * 헤징 통계 조회
+     *
+     * @return 헤징 통계 (헤징을 사용하지 않으면 empty)
+     */
+    public Optional<HedgingStats> getHedgingStats() {
+        return Optional.ofNullable(hedger).map(Hedger::getStats);
+    }
+
+    /**
+     * 적응형 동시성 제한 상태 조회
+     * Generate 요청이 한 번이라도 지나간 서버+모델의 제한기만 포함됩니다.
+     *
+     * @return 제한기 상태 목록 (suh.aider.concurrency-limit.enabled=false이면 빈 리스트)
+     */
+    public List<ConcurrencyLimitStatus> getConcurrencyLimitStatuses() {
+        return concurrencyLimiters != null ? concurrencyLimiters.getStatuses() : Collections.emptyList();
+    }
+
+    /**
+     * 우선순위별 동시성 제한 대기열 통계 조회 (허가/거부/시간 초과 수, 평균/최대 대기 시간)
+     *
+     * @return 대기열 통계 (suh.aider.concurrency-limit.enabled=false이면 빈 리스트)
+     */
+    public List<QueueWaitStats> getQueueWaitStats() {
+        return concurrencyLimiters != null ? concurrencyLimiters.getQueueWaitStats() : Collections.emptyList();
+    }
+
+    /**
+     * 속도 제한기 상태 조회
+     * API 키 한도와, 요청이 한 번이라도 지나간 모델의 한도만 포함됩니다 (설정하지 않은 한도는 제외).
+     *
+     * @return 제한기 상태 목록 (suh.aider.rate-limit.enabled=false이면 빈 리스트)
+     */
+    public List<RateLimitStatus> getRateLimitStatuses() {
+        return rateLimiters != null ? rateLimiters.getStatuses() : Collections.emptyList();
+    }
+
+    /**
+     * 응답 캐시 전체 비우기 (캐시를 사용하지 않으면 아무 동작도 하지 않음)
+     */
+    public void clearCache() {
+        if (responseCache != null) {
+            responseCache.invalidateAll();
+            log.info("응답 캐시 비움");
+        }
     }
 
     /**
@@ -230,34 +758,63 @@ public class SuhAiderEngine {
 
     /**
      * AI 서버 Health Check
-     * Ollama 서버의 기본 엔드포인트(/)에 GET 요청을 보내 "Ollama is running" 문구 확인
+     * 백그라운드 헬스 체크가 실행 중이면 마지막 프로브 결과만 읽으므로 네트워크 호출 없이 즉시 반환합니다.
+     * 주기적 체크가 꺼져 있으면(health-check-interval-seconds &lt;= 0) 모든 노드를 즉시 프로브합니다.
      *
-     * @return 서버가 정상 작동 중이면 true, 아니면 false
+     * @return DOWN이 아닌 노드가 하나라도 있으면 true, 아니면 false
      */
     public boolean isHealthy() {
-        log.debug("AI 서버 Health Check 시작: {}", config.getBaseUrl());
+        if (healthChecker.isRunning()) {
+            return endpointBalancer.isAnyHealthy();
+        }
+        boolean anyHealthy = healthChecker.checkAll();
+        log.info("Health Check 결과: {}", anyHealthy ? "정상" : "비정상");
+        return anyHealthy;
+    }
+
+    /**
+     * 노드별 상태 조회 (헬스 상태, 진행 중인 요청 수, 설치/로드된 모델)
+     *
+     * @return 노드 상태 목록 (설정 순서)
+     */
+    public List<EndpointStatus> getEndpointStatuses() {
+        List<EndpointStatus> statuses = new ArrayList<>();
+        for (Endpoint endpoint : endpointBalancer.getEndpoints()) {
+            statuses.add(EndpointStatus.of(endpoint));
+        }
+        return statuses;
+    }
+
+    /**
+     * 노드 하나의 Health Check 프로브
+     *
+     * @param endpoint 대상 노드
+     * @return "Ollama is running" 응답이면 true
+     */
+    private boolean probe(Endpoint endpoint) {
+        log.debug("AI 서버 Health Check 시작: {}", endpoint);
 
         try {
             Request request = addSecurityHeader(new Request.Builder())
-                    .url(config.getBaseUrl())
+                    .url(endpoint.getBaseUrl())
                     .get()
                     .build();
 
-            try (Response response = httpClient.newCall(request).execute()) {
+            try (Response response = probeClient.newCall(request).execute()) {
                 if (!response.isSuccessful()) {
-                    log.warn("Health Check 실패 - HTTP {}", response.code());
+                    log.warn("Health Check 실패 - {}: HTTP {}", endpoint, response.code());
                     return false;
                 }
 
                 String responseBody = response.body() != null ? response.body().string() : "";
-                boolean isHealthy = responseBody.toLowerCase().contains("ollama is running");
+                boolean isHealthy = responseBody.toLowerCase().contains(OLLAMA_RUNNING_BANNER);
 
-                log.info("Health Check 결과: {}", isHealthy ? "정상" : "비정상");
+                log.debug("Health Check 결과 - {}: {}", endpoint, isHealthy ? "정상" : "비정상");
                 return isHealthy;
             }
 
         } catch (IOException e) {
-            log.error("Health Check 중 네트워크 오류: {}", e.getMessage());
+            log.warn("Health Check 중 네트워크 오류 - {}: {}", endpoint, e.getMessage());
             return false;
         }
     }
@@ -272,392 +829,1917 @@ public class SuhAiderEngine {
     public ModelListResponse getModels() {
         log.debug("모델 목록 조회 시작");
 
-        String url = config.getBaseUrl() + "/api/tags";
-
-        try {
-            Request request = addSecurityHeader(new Request.Builder())
-                    .url(url)
-                    .get()
-                    .build();
-
-            try (Response response = httpClient.newCall(request).execute()) {
-                String responseBody = response.body() != null ? response.body().string() : "";
+        ModelListResponse modelList = withRetry("모델 목록 조회", () -> fetchJson(httpClient, endpointBalancer.select(), "/api/tags",
+                ModelListResponse.class, "모델 목록 조회"));
+        log.info("모델 목록 조회 완료 - 모델 개수: {}",
+                modelList.getModels() != null ? modelList.getModels().size() : 0);
+        return modelList;
+    }
 
-                if (!response.isSuccessful()) {
-                    log.error("모델 목록 조회 실패 - HTTP {}: {}", response.code(), responseBody);
-                    handleHttpError(response.code(), responseBody);
-                }
+    /**
+     * 메모리에 로드된 모델 목록 조회
+     * GET /api/ps
+     *
+     * @return 로드된 모델 목록 (노드 하나 기준)
+     * @throws SuhAiderException 네트워크 오류 또는 파싱 오류 시
+     */
+    public RunningModelListResponse getRunningModels() {
+        return withRetry("로드된 모델 조회", () -> fetchJson(httpClient, endpointBalancer.select(), "/api/ps",
+                RunningModelListResponse.class, "로드된 모델 조회"));
+    }
 
-                if (!StringUtils.hasText(responseBody)) {
-                    throw new SuhAiderException(SuhAiderErrorCode.EMPTY_RESPONSE);
-                }
+    /**
+     * 노드 하나의 설치된 모델(/api/tags)과 로드된 모델(/api/ps)을 조회해 라우팅 정보 갱신
+     *
+     * @param client 조회에 사용할 클라이언트 (헬스 체크 스레드에서는 probeClient)
+     * @param endpoint 대상 노드
+     * @return 설치된 모델 목록
+     * @throws SuhAiderException 네트워크 오류 또는 파싱 오류 시
+     */
+    private ModelListResponse refreshEndpointModels(OkHttpClient client, Endpoint endpoint) {
+        ModelListResponse installed = fetchJson(client, endpoint, "/api/tags", ModelListResponse.class, "모델 목록 조회");
+        List<String> installedNames = new ArrayList<>();
+        if (installed.getModels() != null) {
+            installed.getModels().forEach(model -> installedNames.add(model.getName()));
+        }
+        endpoint.updateInstalledModels(installedNames);
+
+        RunningModelListResponse running = fetchJson(client, endpoint, "/api/ps",
+                RunningModelListResponse.class, "로드된 모델 조회");
+        List<String> loadedNames = new ArrayList<>();
+        if (running.getModels() != null) {
+            for (RunningModel model : running.getModels()) {
+                loadedNames.add(model.getName());
+            }
+        }
+        endpoint.updateLoadedModels(loadedNames);
 
-                ModelListResponse modelList = objectMapper.readValue(responseBody, ModelListResponse.class);
-                log.info("모델 목록 조회 완료 - 모델 개수: {}",
-                        modelList.getModels() != null ? modelList.getModels().size() : 0);
+        if (endpoint.getServerVersion() == null) {
+            refreshServerVersion(client, endpoint);
+        }
 
-                return modelList;
-            }
+        log.debug("노드 모델 갱신 - {}: 설치 {}개, 로드 {}", endpoint, installedNames.size(), loadedNames);
+        return installed;
+    }
 
-        } catch (SocketTimeoutException e) {
-            log.error("모델 목록 조회 타임아웃: {}", e.getMessage());
-            throw new SuhAiderException(SuhAiderErrorCode.READ_TIMEOUT, e);
-        } catch (JsonProcessingException e) {
-            log.error("JSON 파싱 실패: {}", e.getMessage());
-            throw new SuhAiderException(SuhAiderErrorCode.JSON_PARSE_ERROR, e);
-        } catch (IOException e) {
-            log.error("네트워크 오류: {}", e.getMessage());
-            throw new SuhAiderException(SuhAiderErrorCode.NETWORK_ERROR, e);
+    /**
+     * 노드의 서버 버전 조회 (구조화 출력 AUTO 모드 판정용, 실패하면 다음 갱신 때 다시 조회)
+     *
+     * @param client 조회에 사용할 클라이언트
+     * @param endpoint 대상 노드
+     */
+    private void refreshServerVersion(OkHttpClient client, Endpoint endpoint) {
+        try {
+            VersionResponse version = fetchJson(client, endpoint, "/api/version", VersionResponse.class, "서버 버전 조회");
+            endpoint.updateServerVersion(version.getVersion());
+            log.debug("서버 버전 - {}: {}", endpoint, version.getVersion());
+        } catch (SuhAiderException e) {
+            log.debug("서버 버전 조회 실패 - {}: {}", endpoint, e.getMessage());
         }
     }
 
     /**
-     * AI 텍스트 생성 (Generate API)
-     * POST /api/generate
+     * 헬스 체크 후속 작업용 모델 갱신 (프로브 타임아웃 적용, 실패해도 기존 정보 유지)
      *
-     * @param request SuhAiderRequest (model, prompt, stream, responseSchema)
-     * @return SuhAiderResponse (생성된 텍스트 포함)
-     * @throws SuhAiderException 네트워크 오류 또는 파싱 오류 시
+     * @param endpoint 정상으로 확인된 노드
+     * @return 갱신에 성공하면 true
      */
-    public SuhAiderResponse generate(SuhAiderRequest request) {
+    private boolean refreshEndpointModelsQuietly(Endpoint endpoint) {
+        try {
+            refreshEndpointModels(probeClient, endpoint);
+            return true;
+        } catch (SuhAiderException e) {
+            log.debug("노드 모델 갱신 실패 - {}: {}", endpoint, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 노드 하나에 GET 요청을 보내 JSON 응답 파싱
+     *
+     * @param client 요청에 사용할 클라이언트
+     * @param endpoint 대상 노드
+     * @param path API 경로
+     * @param type 응답 타입
+     * @param operation 로그/에러 메시지용 작업명
+     * @return 파싱된 응답
+     * @throws SuhAiderException 네트워크 오류 또는 파싱 오류 시
+     */
+    private <T> T fetchJson(OkHttpClient client, Endpoint endpoint, String path, Class<T> type, String operation) {
+        endpoint.acquire();
+        try {
+            Request request = addSecurityHeader(new Request.Builder())
+                    .url(endpoint.url(path))
+                    .get()
+                    .build();
+
+            try (Response response = client.newCall(request).execute()) {
+                return readJsonBody(response, type, operation);
+            }
+
+        } catch (ConnectException e) {
+            ejectOnConnectFailure(endpoint, e);
+            log.error("네트워크 오류: {}", e.getMessage());
+            throw new SuhAiderException(SuhAiderErrorCode.NETWORK_ERROR, e);
+        } catch (SocketTimeoutException e) {
+            log.error("{} 타임아웃: {}", operation, e.getMessage());
+            throw new SuhAiderException(SuhAiderErrorCode.READ_TIMEOUT, e);
+        } catch (JsonProcessingException e) {
+            log.error("JSON 파싱 실패: {}", e.getMessage());
+            throw new SuhAiderException(SuhAiderErrorCode.JSON_PARSE_ERROR, e);
+        } catch (IOException e) {
+            log.error("네트워크 오류: {}", e.getMessage());
+            throw new SuhAiderException(SuhAiderErrorCode.NETWORK_ERROR, e);
+        } finally {
+            endpoint.release();
+        }
+    }
+
+    /**
+     * AI 텍스트 생성 (Generate API)
+     * POST /api/generate
+     *
+     * @param request SuhAiderRequest (model, prompt, stream, responseSchema)
+     * @return SuhAiderResponse (생성된 텍스트 포함)
+     * @throws SuhAiderException 네트워크 오류 또는 파싱 오류 시
+     */
+    public SuhAiderResponse generate(SuhAiderRequest request) {
         log.debug("Generate 호출 - 모델: {}, 프롬프트 길이: {}, responseSchema: {}",
                 request.getModel(),
                 request.getPrompt() != null ? request.getPrompt().length() : 0,
                 request.getResponseSchema() != null ? "있음" : "없음");
 
-        // 파라미터 검증
+        // ✅ 1~2. 파라미터 검증 + 전역 기본 스키마 적용 + 프롬프트 자동 증강
+        PreparedGenerate prepared = prepareGenerate(request);
+
+        // ✅ 3. 응답 캐시 조회 (JSON 정제가 끝난 응답이 저장되어 있음)
+        SuhAiderResponse cached = lookupCache(prepared);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (prepared.coalescingKey == null) {
+            return dispatchGenerate(prepared);
+        }
+
+        // ✅ 4. 동일 요청이 진행 중이면 합류 (첫 호출자는 현재 스레드에서 직접 실행)
+        CompletableFuture<SuhAiderResponse> shared = singleFlight.execute(prepared.coalescingKey,
+                () -> CompletableFuture.completedFuture(dispatchGenerate(prepared)));
+        return awaitResult(withDeadline(shared, prepared.deadlineNanos, "Generate"));
+    }
+
+    /**
+     * 재시도/헤징 정책을 적용해 Generate 실행 (동기)
+     * 헤징을 사용하면 비동기 호출 두 개를 경쟁시키고 현재 스레드는 결과를 기다립니다.
+     *
+     * @param prepared 준비된 요청
+     * @return JSON 정제가 끝난 응답
+     */
+    private SuhAiderResponse dispatchGenerate(PreparedGenerate prepared) {
+        RateLimitReservation reservation = reserveRateLimit(prepared.wireRequest);
+        awaitReservation(reservation, prepared.deadlineNanos);
+
+        SuhAiderResponse response;
+        try {
+            response = hedger != null
+                    ? awaitResult(withRetryAsync("Generate", prepared.deadlineNanos, () -> executeGenerateHedged(prepared)))
+                    : withRetry("Generate", prepared.deadlineNanos, () -> executeGenerate(prepared));
+        } catch (RuntimeException e) {
+            settleReservation(reservation, null, e);
+            throw e;
+        }
+        settleReservation(reservation, response, null);
+        return response;
+    }
+
+    /**
+     * 재시도/헤징 정책을 적용해 Generate 실행 (비동기)
+     *
+     * @param prepared 준비된 요청
+     * @return 응답을 담은 CompletableFuture (cancel 시 진행 중인 HTTP 호출 취소)
+     */
+    private CompletableFuture<SuhAiderResponse> dispatchGenerateAsync(PreparedGenerate prepared) {
+        RateLimitReservation reservation;
+        CompletableFuture<SuhAiderResponse> future;
+        try {
+            reservation = reserveRateLimit(prepared.wireRequest);
+            future = startAfterReservation(reservation, prepared.deadlineNanos,
+                    () -> withRetryAsync("Generate Async", prepared.deadlineNanos,
+                            () -> hedger != null ? executeGenerateHedged(prepared) : executeGenerateAsync(prepared)));
+        } catch (SuhAiderException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (reservation != null) {
+            future.whenComplete((response, error) -> settleReservation(reservation, response, error));
+        }
+        return future;
+    }
+
+    /**
+     * 헤징 Generate 실행
+     * 첫 요청이 헤징 지연 시간 안에 끝나지 않으면 다른 노드로 같은 요청을 보내고, 먼저 성공한 응답을 사용합니다.
+     * 진 요청은 OkHttp Call 취소로 서버 연결을 끊습니다.
+     *
+     * @param prepared 준비된 요청
+     * @return 먼저 성공한 응답을 담은 CompletableFuture
+     */
+    private CompletableFuture<SuhAiderResponse> executeGenerateHedged(PreparedGenerate prepared) {
+        String model = prepared.wireRequest.getModel();
+        AtomicReference<Endpoint> primaryEndpoint = new AtomicReference<>();
+        return hedger.execute(model, attemptIndex -> {
+            if (attemptIndex == 0) {
+                RoutedCall routed = route(model);
+                primaryEndpoint.set(routed.endpoint);
+                return executeGenerateAsync(prepared, routed);
+            }
+            RoutedCall routed = routeExcluding(model, primaryEndpoint.get());
+            return routed != null ? executeGenerateAsync(prepared, routed) : null;
+        });
+    }
+
+    /**
+     * Generate HTTP 호출 실행 (동기)
+     *
+     * @param prepared 준비된 요청
+     * @return JSON 정제가 끝난 응답
+     * @throws SuhAiderException 네트워크 오류 또는 파싱 오류 시
+     */
+    private SuhAiderResponse executeGenerate(PreparedGenerate prepared) {
+        checkDeadline(prepared.deadlineNanos, "Generate");
+        RoutedCall routed = route(prepared.wireRequest.getModel());
+        AdaptiveConcurrencyLimiter.Permit limitPermit = awaitConcurrencyPermit(routed, prepared);
+        Endpoint endpoint = routed.endpoint;
+        endpoint.acquire();
+        SuhAiderResponse result = null;
+        Throwable failure = null;
+        try {
+            Request httpRequest = buildGenerateHttpRequest(prepared, endpoint);
+
+            try (Response response = newCall(httpRequest, prepared.deadlineNanos).execute()) {
+                // 응답 파싱 + JSON 후처리
+                SuhAiderResponse suhAiderResponse = readGenerateResponse(response, prepared.schema);
+                endpoint.markLoaded(prepared.wireRequest.getModel());
+
+                // 응답 캐시 저장
+                storeInCache(prepared, suhAiderResponse);
+                result = suhAiderResponse;
+                return suhAiderResponse;
+            }
+
+        } catch (IOException e) {
+            ejectOnConnectFailure(endpoint, e);
+            SuhAiderException translated = translateIOException("Generate", e, prepared.deadlineNanos);
+            failure = translated;
+            throw translated;
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            endpoint.release();
+            recordCircuitOutcome(routed, failure);
+            recordConcurrencyOutcome(limitPermit, result, failure);
+        }
+    }
+
+    /**
+     * AI 텍스트 생성 (비동기 Generate API)
+     * POST /api/generate
+     *
+     * <p>OkHttp {@code Call.enqueue()} 기반으로 동작하므로 호출 스레드를 점유하지 않습니다.
+     * 동시 실행 개수는 OkHttp Dispatcher 설정(maxRequests, maxRequestsPerHost)으로 제한되며,
+     * 한도를 초과한 요청은 스레드 없이 Dispatcher 대기열에서 대기합니다.</p>
+     *
+     * <p>스키마 기반 프롬프트 증강과 JSON 응답 정제는 {@link #generate(SuhAiderRequest)}와 동일하게 적용됩니다.
+     * 반환된 Future를 {@code cancel()}하면 진행 중인 HTTP 호출도 취소됩니다.
+     * 요청 병합이 켜져 있으면 같은 요청을 기다리는 모든 호출자가 취소한 경우에만 HTTP 호출이 취소됩니다.</p>
+     *
+     * <p>사용 예제:</p>
+     * <pre>
+     * suhAiderEngine.generateAsync(request)
+     *     .thenAccept(response -&gt; log.info(response.getResponse()))
+     *     .exceptionally(error -&gt; {
+     *         log.error("생성 실패", error);
+     *         return null;
+     *     });
+     * </pre>
+     *
+     * @param request SuhAiderRequest (model, prompt, responseSchema)
+     * @return SuhAiderResponse를 담은 CompletableFuture (실패 시 SuhAiderException으로 완료)
+     */
+    public CompletableFuture<SuhAiderResponse> generateAsync(SuhAiderRequest request) {
+        log.debug("Generate Async 호출 - 모델: {}, 프롬프트 길이: {}, responseSchema: {}",
+                request.getModel(),
+                request.getPrompt() != null ? request.getPrompt().length() : 0,
+                request.getResponseSchema() != null ? "있음" : "없음");
+
+        PreparedGenerate prepared;
+        try {
+            prepared = prepareGenerate(request);
+        } catch (SuhAiderException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        SuhAiderResponse cached = lookupCache(prepared);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        if (prepared.coalescingKey == null) {
+            return withDeadline(dispatchGenerateAsync(prepared), prepared.deadlineNanos, "Generate Async");
+        }
+        return withDeadline(singleFlight.execute(prepared.coalescingKey, () -> dispatchGenerateAsync(prepared)),
+                prepared.deadlineNanos, "Generate Async");
+    }
+
+    /**
+     * Generate HTTP 호출 실행 (비동기, Call.enqueue)
+     *
+     * @param prepared 준비된 요청
+     * @return 응답을 담은 CompletableFuture (cancel 시 HTTP 호출 취소)
+     */
+    private CompletableFuture<SuhAiderResponse> executeGenerateAsync(PreparedGenerate prepared) {
+        RoutedCall routed;
+        try {
+            checkDeadline(prepared.deadlineNanos, "Generate Async");
+            routed = route(prepared.wireRequest.getModel());
+        } catch (SuhAiderException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return executeGenerateAsync(prepared, routed);
+    }
+
+    /**
+     * Generate HTTP 호출 실행 (비동기, 노드 선택 완료)
+     * 동시성 제한을 사용하면 허가를 받은 뒤 호출을 시작하며, 대기 중에는 스레드를 점유하지 않습니다.
+     *
+     * @param prepared 준비된 요청
+     * @param routed 선택된 노드와 회로 차단기 허가
+     * @return 응답을 담은 CompletableFuture (cancel 시 대기열에서 빠지거나 HTTP 호출 취소)
+     */
+    private CompletableFuture<SuhAiderResponse> executeGenerateAsync(PreparedGenerate prepared, RoutedCall routed) {
+        if (concurrencyLimiters == null) {
+            return sendGenerateAsync(prepared, routed, null);
+        }
+
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> admission = concurrencyLimiters
+                .forEndpoint(routed.endpoint, prepared.wireRequest.getModel())
+                .acquire(prepared.wireRequest.getPriority(), prepared.wireRequest.getTenant());
+        failAtDeadline(admission, prepared.deadlineNanos, "Generate Async");
+        CompletableFuture<SuhAiderResponse> future = new CompletableFuture<>();
+        admission.whenComplete((limitPermit, error) -> {
+            if (error != null) {
+                routed.releaseWithoutRecord();
+                future.completeExceptionally(error);
+                return;
+            }
+            if (future.isDone()) {
+                limitPermit.release();
+                routed.releaseWithoutRecord();
+                return;
+            }
+            CompletableFuture<SuhAiderResponse> call = sendGenerateAsync(prepared, routed, limitPermit);
+            call.whenComplete((response, callError) -> {
+                if (callError != null) {
+                    future.completeExceptionally(callError);
+                } else {
+                    future.complete(response);
+                }
+            });
+            future.whenComplete((response, ignored) -> {
+                if (future.isCancelled()) {
+                    call.cancel(true);
+                }
+            });
+        });
+        future.whenComplete((response, error) -> {
+            if (future.isCancelled()) {
+                admission.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Generate HTTP 호출 전송 (Call.enqueue)
+     *
+     * @param prepared 준비된 요청
+     * @param routed 선택된 노드와 회로 차단기 허가
+     * @param limitPermit 동시성 제한 허가 (제한 미사용 시 null)
+     * @return 응답을 담은 CompletableFuture (cancel 시 HTTP 호출 취소)
+     */
+    private CompletableFuture<SuhAiderResponse> sendGenerateAsync(PreparedGenerate prepared, RoutedCall routed,
+                                                                  AdaptiveConcurrencyLimiter.Permit limitPermit) {
+        CompletableFuture<SuhAiderResponse> future = new CompletableFuture<>();
+        Endpoint endpoint = routed.endpoint;
+
+        Request httpRequest;
+        try {
+            httpRequest = buildGenerateHttpRequest(prepared, endpoint);
+        } catch (IOException e) {
+            routed.releaseWithoutRecord();
+            recordConcurrencyOutcome(limitPermit, null, null);
+            future.completeExceptionally(translateIOException("Generate Async", e));
+            return future;
+        }
+
+        endpoint.acquire();
+        Call call = newCall(httpRequest, prepared.deadlineNanos);
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                endpoint.release();
+                if (call.isCanceled()) {
+                    routed.releaseWithoutRecord();
+                    recordConcurrencyOutcome(limitPermit, null, null);
+                    future.completeExceptionally(translateIOException("Generate Async", e));
+                    return;
+                }
+                ejectOnConnectFailure(endpoint, e);
+                SuhAiderException translated = translateIOException("Generate Async", e, prepared.deadlineNanos);
+                recordCircuitOutcome(routed, translated);
+                recordConcurrencyOutcome(limitPermit, null, translated);
+                future.completeExceptionally(translated);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                SuhAiderResponse result = null;
+                Throwable failure = null;
+                try (response) {
+                    SuhAiderResponse suhAiderResponse = readGenerateResponse(response, prepared.schema);
+                    endpoint.markLoaded(prepared.wireRequest.getModel());
+                    storeInCache(prepared, suhAiderResponse);
+                    result = suhAiderResponse;
+                } catch (IOException e) {
+                    failure = translateIOException("Generate Async", e, prepared.deadlineNanos);
+                } catch (RuntimeException e) {
+                    failure = e;
+                } finally {
+                    endpoint.release();
+                    if (call.isCanceled()) {
+                        routed.releaseWithoutRecord();
+                        recordConcurrencyOutcome(limitPermit, null, null);
+                    } else {
+                        recordCircuitOutcome(routed, failure);
+                        recordConcurrencyOutcome(limitPermit, result, failure);
+                    }
+                }
+                // 허가를 먼저 반환해야 완료 콜백에서 시작한 다음 요청이 같은 한도를 바로 사용할 수 있음
+                if (failure != null) {
+                    future.completeExceptionally(failure);
+                } else {
+                    future.complete(result);
+                }
+            }
+        });
+
+        cancelCallOnFutureCancel(future, call);
+        return future;
+    }
+
+    /**
+     * 간편 비동기 Generate 메서드
+     *
+     * @param model 모델명 (예: "llama2", "mistral")
+     * @param prompt 프롬프트 텍스트
+     * @return 생성된 응답 텍스트를 담은 CompletableFuture
+     */
+    public CompletableFuture<String> generateAsync(String model, String prompt) {
+        SuhAiderRequest request = SuhAiderRequest.builder()
+                .model(model)
+                .prompt(prompt)
+                .stream(false)
+                .build();
+
+        return generateAsync(request).thenApply(SuhAiderResponse::getResponse);
+    }
+
+    /**
+     * 배치 Generate (동기)
+     * 여러 요청을 제한된 동시성으로 실행하고 입력 순서대로 결과를 반환합니다.
+     *
+     * <p>항목별 실패는 {@link BatchItemResult#getError()}로 기록되며 배치 전체를 실패시키지 않습니다.</p>
+     *
+     * <p>사용 예제:</p>
+     * <pre>
+     * BatchResult result = suhAiderEngine.generateBatch(requests, BatchOptions.builder()
+     *     .maxInFlight(8)
+     *     .build());
+     *
+     * for (BatchItemResult item : result.getItems()) {
+     *     if (item.isSuccess()) {
+     *         save(item.getIndex(), item.getResponse().getResponse());
+     *     }
+     * }
+     * log.info("{} items/s, {} tokens/s", result.getItemsPerSecond(), result.getTokensPerSecond());
+     * </pre>
+     *
+     * @param requests 요청 목록
+     * @param options 실행 옵션 (null이면 기본값)
+     * @return 입력 순서의 항목 결과와 처리량 통계
+     * @throws SuhAiderException 요청 목록 또는 옵션이 잘못된 경우
+     */
+    public BatchResult generateBatch(List<SuhAiderRequest> requests, BatchOptions options) {
+        return awaitResult(generateBatchAsync(requests, options));
+    }
+
+    /**
+     * 배치 Generate (비동기)
+     * 최대 {@code maxInFlight}개의 {@link #generateAsync(SuhAiderRequest)} 호출만 동시에 진행하며,
+     * 하나가 끝날 때마다 다음 요청을 시작합니다. 응답 캐시와 요청 병합도 그대로 적용됩니다.
+     *
+     * <p>반환된 Future를 {@code cancel()}하면 아직 시작하지 않은 요청은 시작하지 않고, 진행 중인 요청도 취소합니다.</p>
+     *
+     * <p>우선순위를 지정하지 않은 항목은 {@link RequestPriority#BATCH}로 실행됩니다.</p>
+     *
+     * @param requests 요청 목록
+     * @param options 실행 옵션 (null이면 기본값)
+     * @return 모든 항목이 끝나면 완료되는 CompletableFuture
+     */
+    public CompletableFuture<BatchResult> generateBatchAsync(List<SuhAiderRequest> requests, BatchOptions options) {
+        if (requests == null) {
+            return CompletableFuture.failedFuture(
+                    new SuhAiderException(SuhAiderErrorCode.INVALID_PARAMETER, "배치 요청 목록이 null입니다"));
+        }
+
+        BatchOptions effectiveOptions = options != null ? options : new BatchOptions();
+        int maxInFlight = effectiveOptions.getMaxInFlight() != null
+                ? effectiveOptions.getMaxInFlight()
+                : config.getHttpClient().getMaxRequestsPerHost();
+        if (maxInFlight < 1) {
+            return CompletableFuture.failedFuture(
+                    new SuhAiderException(SuhAiderErrorCode.INVALID_PARAMETER, "maxInFlight는 1 이상이어야 합니다"));
+        }
+
+        log.info("배치 Generate 시작 - 항목: {}개, maxInFlight: {}", requests.size(), maxInFlight);
+
+        // 우선순위를 지정하지 않은 배치 항목은 BATCH로 실행 (대화형 요청이 먼저 처리되도록)
+        BatchExecution execution = new BatchExecution(
+                new ArrayList<>(requests),
+                request -> generateAsync(request != null && request.getPriority() == null
+                        ? request.toBuilder().priority(RequestPriority.BATCH).build()
+                        : request),
+                maxInFlight,
+                effectiveOptions.getProgressListener()
+        );
+
+        // 실행 Future를 그대로 반환해야 호출자의 cancel()이 배치 취소로 이어짐 (로그는 별도 분기)
+        CompletableFuture<BatchResult> batch = execution.start();
+        batch.whenComplete((result, error) -> {
+            if (result != null) {
+                log.info("배치 Generate 완료 - 성공: {}, 실패: {}, 소요: {}ms, {} items/s, {} tokens/s",
+                        result.getSuccessCount(),
+                        result.getFailureCount(),
+                        result.getElapsedMillis(),
+                        String.format("%.2f", result.getItemsPerSecond()),
+                        String.format("%.1f", result.getTokensPerSecond()));
+            }
+        });
+        return batch;
+    }
+
+    /**
+     * 동기 API에서 비동기 결과 대기 (SuhAiderException은 그대로 다시 던짐)
+     *
+     * @param future 대기할 Future
+     * @return 결과
+     * @throws SuhAiderException 작업 실패 시
+     */
+    private <T> T awaitResult(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof SuhAiderException) {
+                throw (SuhAiderException) e.getCause();
+            }
+            throw new SuhAiderException(SuhAiderErrorCode.NETWORK_ERROR, e.getCause());
+        }
+    }
+
+    /**
+     * Generate 요청 파라미터 검증
+     *
+     * @param request 검증할 요청
+     * @throws SuhAiderException 모델명 또는 프롬프트가 비어있는 경우
+     */
+    private void validateGenerateRequest(SuhAiderRequest request) {
         if (!StringUtils.hasText(request.getModel())) {
             throw new SuhAiderException(SuhAiderErrorCode.INVALID_PARAMETER, "모델명이 비어있습니다");
         }
-        if (!StringUtils.hasText(request.getPrompt())) {
-            throw new SuhAiderException(SuhAiderErrorCode.INVALID_PARAMETER, "프롬프트가 비어있습니다");
+        if (!StringUtils.hasText(request.getPrompt())) {
+            throw new SuhAiderException(SuhAiderErrorCode.INVALID_PARAMETER, "프롬프트가 비어있습니다");
+        }
+    }
+
+    /**
+     * 네이티브 구조화 출력(format) 사용 여부 (suh.aider.structured-output.mode)
+     * AUTO이면 모든 노드의 서버 버전이 확인되었고 min-native-version 이상일 때만 사용합니다.
+     *
+     * @return format 필드로 스키마를 보내면 true, 프롬프트 증강을 사용하면 false
+     */
+    private boolean useNativeFormat() {
+        SuhAiderConfig.StructuredOutput structuredOutput = config.getStructuredOutput();
+        switch (structuredOutput.getMode()) {
+            case NATIVE:
+                return true;
+            case AUTO:
+                for (Endpoint endpoint : endpointBalancer.getEndpoints()) {
+                    if (!endpoint.isVersionAtLeast(structuredOutput.getMinNativeVersion())) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 요청에 적용할 responseSchema 결정
+     * 요청에 스키마가 없으면 customizer의 전역 기본 스키마를 사용합니다.
+     *
+     * @param request 요청
+     * @return 적용할 스키마 (없으면 null)
+     */
+    private JsonSchema resolveEffectiveSchema(SuhAiderRequest request) {
+        JsonSchema effectiveSchema = request.getResponseSchema();
+        if (effectiveSchema == null && customizer != null) {
+            effectiveSchema = customizer.getDefaultResponseSchema();
+            log.debug("전역 기본 responseSchema 적용");
+        }
+        return effectiveSchema;
+    }
+
+    /**
+     * Generate 요청을 서버 전송 직전 상태로 준비
+     * 파라미터 검증, 전역 기본 스키마 적용, 프롬프트 증강, 캐시/병합 키 계산을 수행합니다.
+     *
+     * @param request 원본 요청
+     * @return 준비된 요청
+     * @throws SuhAiderException 파라미터가 잘못된 경우
+     */
+    private PreparedGenerate prepareGenerate(SuhAiderRequest request) {
+        validateGenerateRequest(request);
+
+        // 전역 기본 스키마 적용 (customizer가 있고, 요청에 스키마가 없으면)
+        JsonSchema effectiveSchema = resolveEffectiveSchema(request);
+
+        // 네이티브 구조화 출력이면 스키마를 format으로 전송 (서버가 디코딩 문법을 제한하므로 증강/정제 불필요)
+        boolean nativeFormat = effectiveSchema != null && request.getFormat() == null && useNativeFormat();
+
+        // 프롬프트 자동 증강 (스키마가 있고 네이티브 구조화 출력이 아니면)
+        String finalPrompt = request.getPrompt();
+        if (effectiveSchema != null && !nativeFormat) {
+            finalPrompt = PromptEnhancer.enhance(request.getPrompt(), effectiveSchema);
+            log.debug("프롬프트 증강 완료 - 원본 {}자 → 증강 {}자",
+                    request.getPrompt().length(), finalPrompt.length());
+        }
+
+        // 증강된 프롬프트 사용, responseSchema는 제외
+        SuhAiderRequest wireRequest = request.toBuilder()
+                .prompt(finalPrompt)
+                .keepAlive(resolveKeepAlive(request))
+                .options(resolveOptions(request))
+                .format(nativeFormat ? JsonSchemaFormatConverter.convert(effectiveSchema) : request.getFormat())
+                .responseSchema(null)  // Ollama API로 전송 안 함
+                .build();
+
+        // 캐시와 요청 병합은 같은 키를 사용 (skipCache이면 둘 다 우회)
+        String requestKey = null;
+        if ((responseCache != null || singleFlight != null) && !Boolean.TRUE.equals(request.getSkipCache())) {
+            requestKey = ResponseCacheKey.of(wireRequest.getModel(), finalPrompt, effectiveSchema,
+                    wireRequest.getFormat(), wireRequest.getOptions(), objectMapper);
+        }
+
+        return new PreparedGenerate(
+                wireRequest,
+                nativeFormat ? null : effectiveSchema,  // 네이티브 구조화 출력은 응답 정제/검증 생략
+                responseCache != null ? requestKey : null,
+                singleFlight != null ? requestKey : null,
+                resolveDeadline(request, true)
+        );
+    }
+
+    /**
+     * Generate HTTP 요청 생성
+     *
+     * @param prepared 준비된 요청
+     * @param endpoint 요청을 보낼 노드
+     * @return OkHttp Request
+     * @throws JsonProcessingException 디버그 로그용 페이로드 직렬화 실패 시
+     */
+    private Request buildGenerateHttpRequest(PreparedGenerate prepared, Endpoint endpoint) throws JsonProcessingException {
+        String url = endpoint.url("/api/generate");
+
+        // JSON 페이로드는 전송 시점에 소켓으로 직접 직렬화 (중간 문자열 생성 없음)
+        if (log.isDebugEnabled()) {
+            log.debug("Generate 요청 페이로드: {}", objectMapper.writeValueAsString(prepared.wireRequest));
+        }
+
+        RequestBody body = JsonRequestBody.of(objectMapper, prepared.wireRequest);
+
+        return addSecurityHeader(new Request.Builder())
+                .url(url)
+                .addHeader("Content-Type", "application/json")
+                .post(body)
+                .build();
+    }
+
+    /**
+     * 응답 캐시 조회
+     *
+     * @param prepared 준비된 요청
+     * @return 캐시된 응답 (캐시 미사용 또는 미스면 null)
+     */
+    private SuhAiderResponse lookupCache(PreparedGenerate prepared) {
+        if (prepared.cacheKey == null) {
+            return null;
+        }
+
+        SuhAiderResponse cached = responseCache.get(prepared.cacheKey);
+        if (cached != null) {
+            log.debug("응답 캐시 히트 - 모델: {}", prepared.wireRequest.getModel());
+        }
+        return cached;
+    }
+
+    /**
+     * 응답 캐시 저장 (정상 완료된 응답만)
+     *
+     * @param prepared 준비된 요청
+     * @param response JSON 정제가 끝난 응답
+     */
+    private void storeInCache(PreparedGenerate prepared, SuhAiderResponse response) {
+        if (prepared.cacheKey == null || !Boolean.TRUE.equals(response.getDone())) {
+            return;
+        }
+
+        try {
+            responseCache.put(prepared.cacheKey, response);
+        } catch (RuntimeException e) {
+            log.warn("응답 캐시 저장 실패 (무시): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * HTTP 응답 본문을 바이트 스트림에서 바로 역직렬화
+     * 본문 전체를 String으로 만들지 않고 Jackson이 스트림을 직접 읽습니다.
+     * 에러 응답인 경우에만 본문을 문자열로 읽어 예외 메시지에 포함합니다.
+     *
+     * @param response OkHttp Response
+     * @param type 역직렬화 대상 타입
+     * @param operation 로그용 작업명
+     * @return 역직렬화된 객체
+     * @throws IOException 응답 읽기 또는 파싱 실패 시
+     */
+    private <T> T readJsonBody(Response response, Class<T> type, String operation) throws IOException {
+        ResponseBody body = response.body();
+
+        if (!response.isSuccessful()) {
+            String errorBody = body != null ? body.string() : "";
+            log.error("{} 실패 - HTTP {}: {}", operation, response.code(), errorBody);
+            handleHttpError(response.code(), errorBody);
+        }
+
+        if (body == null || body.source().exhausted()) {
+            throw new SuhAiderException(SuhAiderErrorCode.EMPTY_RESPONSE);
+        }
+
+        return objectMapper.readValue(body.byteStream(), type);
+    }
+
+    /**
+     * Generate HTTP 응답 파싱 및 JSON 후처리
+     *
+     * @param response OkHttp Response
+     * @param effectiveSchema 적용된 스키마 (있으면 응답 JSON 정제)
+     * @return SuhAiderResponse
+     * @throws IOException 응답 읽기 또는 파싱 실패 시
+     */
+    private SuhAiderResponse readGenerateResponse(Response response, JsonSchema effectiveSchema) throws IOException {
+        SuhAiderResponse suhAiderResponse = readJsonBody(response, SuhAiderResponse.class, "Generate");
+
+        // JSON 응답 후처리 (스키마가 있었으면)
+        if (effectiveSchema != null) {
+            String rawJsonResponse = suhAiderResponse.getResponse();
+            String cleanedJson = JsonResponseCleaner.clean(rawJsonResponse);
+            suhAiderResponse.setResponse(cleanedJson);
+
+            log.debug("JSON 응답 정제 완료 - 원본 {}자 → 정제 {}자",
+                    rawJsonResponse != null ? rawJsonResponse.length() : 0,
+                    cleanedJson.length());
+
+            // 검증
+            if (!JsonResponseCleaner.isValidJson(cleanedJson, objectMapper)) {
+                log.warn("AI가 유효하지 않은 JSON 반환 (원본 유지): {}",
+                        cleanedJson.substring(0, Math.min(100, cleanedJson.length())));
+            } else {
+                log.debug("JSON 유효성 검증 성공");
+            }
+        }
+
+        log.info("Generate 완료 - 응답 길이: {}, 처리 시간: {}ms",
+                suhAiderResponse.getResponse() != null ? suhAiderResponse.getResponse().length() : 0,
+                suhAiderResponse.getTotalDuration() != null ? suhAiderResponse.getTotalDuration() / 1_000_000 : 0);
+
+        return suhAiderResponse;
+    }
+
+    /**
+     * 간편 Generate 메서드
+     * 모델명과 프롬프트만으로 바로 응답 텍스트를 받을 수 있습니다.
+     *
+     * @param model 모델명 (예: "llama2", "mistral")
+     * @param prompt 프롬프트 텍스트
+     * @return 생성된 응답 텍스트
+     */
+    public String generate(String model, String prompt) {
+        SuhAiderRequest request = SuhAiderRequest.builder()
+                .model(model)
+                .prompt(prompt)
+                .stream(false)
+                .build();
+
+        SuhAiderResponse response = generate(request);
+        return response.getResponse();
+    }
+
+    /**
+     * AI 텍스트 생성 (스트리밍)
+     * POST /api/generate (stream: true)
+     *
+     * <p>AI가 토큰을 생성할 때마다 실시간으로 콜백이 호출됩니다.
+     * ChatGPT, Claude처럼 한 글자씩 표시되는 효과를 구현할 때 사용합니다.</p>
+     *
+     * <p><b>주의사항:</b> 스트리밍 모드에서는 부분 텍스트만 받기 때문에 프롬프트 증강과 JSON 정제를 하지 않습니다.
+     * 요청의 {@code responseSchema}는 네이티브 구조화 출력(suh.aider.structured-output.mode)일 때만
+     * {@code format}으로 전송되고, 그 외에는 무시됩니다. 전역 기본 responseSchema는 적용하지 않습니다.
+     * JSON 형식 응답이 필요하면 {@link #generate(SuhAiderRequest)} 메서드를 사용하세요.</p>
+     *
+     * <p>사용 예제:</p>
+     * <pre>
+     * suhAiderEngine.generateStream(request, new StreamCallback() {
+     *     &#64;Override
+     *     public void onNext(String chunk) {
+     *         System.out.print(chunk);  // 실시간 출력
+     *     }
+     *
+     *     &#64;Override
+     *     public void onComplete() {
+     *         System.out.println("\n완료!");
+     *     }
+     *
+     *     &#64;Override
+     *     public void onError(Throwable error) {
+     *         System.err.println("에러: " + error.getMessage());
+     *     }
+     * });
+     * </pre>
+     *
+     * @param request SuhAiderRequest (model, prompt 필수, responseSchema는 네이티브 구조화 출력일 때만 적용)
+     * @param callback 스트리밍 콜백 (onNext, onComplete, onError)
+     */
+    public void generateStream(SuhAiderRequest request, StreamCallback callback) {
+        log.debug("Generate Stream 호출 - 모델: {}, 프롬프트 길이: {}",
+                request.getModel(),
+                request.getPrompt() != null ? request.getPrompt().length() : 0);
+
+        // 파라미터 검증
+        if (!StringUtils.hasText(request.getModel())) {
+            callback.onError(new SuhAiderException(SuhAiderErrorCode.INVALID_PARAMETER, "모델명이 비어있습니다"));
+            return;
+        }
+        if (!StringUtils.hasText(request.getPrompt())) {
+            callback.onError(new SuhAiderException(SuhAiderErrorCode.INVALID_PARAMETER, "프롬프트가 비어있습니다"));
+            return;
+        }
+
+        // ⚠️ 스트리밍 모드에서는 네이티브 구조화 출력일 때만 responseSchema를 적용합니다
+        // 이유: 부분 텍스트만 받기 때문에 JSON 정제가 불가능하고, 실시간 표시 목적과 충돌합니다.
+        warnIgnoredStreamSchema(request, "generate");
+
+        // 스트림에는 요청에 직접 지정한 제한 시간만 적용 (긴 생성이 customReadTimeout에 끊기지 않도록)
+        long deadlineNanos = resolveDeadline(request, false);
+
+        // 스트림은 최종 청크의 토큰 수를 받지 않으므로 예상 토큰 수로만 제한
+        StreamCallback settlingCallback;
+        try {
+            RateLimitReservation reservation = reserveRateLimit(request);
+            awaitReservation(reservation, deadlineNanos);
+            settlingCallback = settleReservationOnStreamEnd(callback, reservation);
+        } catch (SuhAiderException e) {
+            callback.onError(e);
+            return;
+        }
+
+        if (retrier == null) {
+            executeStream(request, settlingCallback, deadlineNanos);
+            return;
+        }
+
+        // 첫 청크 전달 전의 오류는 콜백에 전달하지 않고 재시도 여부를 판단
+        StreamRetryCallback retryCallback = new StreamRetryCallback(settlingCallback);
+        try {
+            retrier.execute("Generate Stream", deadlineNanos, () -> {
+                retryCallback.beginAttempt();
+                executeStream(request, retryCallback, deadlineNanos);
+                retryCallback.throwWithheldError();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            settlingCallback.onError(e);
+        }
+    }
+
+    /**
+     * 스트리밍 HTTP 호출 실행 (동기, 시도 한 번)
+     *
+     * @param request 검증된 요청
+     * @param callback 스트리밍 콜백
+     */
+    private void executeStream(SuhAiderRequest request, StreamCallback callback, long deadlineNanos) {
+        RoutedCall routed;
+        try {
+            checkDeadline(deadlineNanos, "Generate Stream");
+            routed = route(request.getModel());
+        } catch (SuhAiderException e) {
+            callback.onError(e);
+            return;
+        }
+        Endpoint endpoint = routed.endpoint;
+        StreamCallback trackedCallback = trackCircuitOutcome(callback, routed);
+
+        endpoint.acquire();
+        try {
+            Request httpRequest = buildStreamHttpRequest(request, endpoint);
+
+            try (Response response = newCall(httpRequest, deadlineNanos).execute()) {
+                if (response.isSuccessful()) {
+                    endpoint.markLoaded(request.getModel());
+                }
+                consumeStream(response, trackedCallback);
+            }
+
+        } catch (IOException e) {
+            ejectOnConnectFailure(endpoint, e);
+            trackedCallback.onError(translateIOException("Generate Stream", e, deadlineNanos));
+        } finally {
+            endpoint.release();
+            routed.releaseWithoutRecord();
+        }
+    }
+
+    /**
+     * 스트리밍 요청에서 적용되지 않는 스키마 경고
+     * 요청의 responseSchema는 format이 따로 지정되지 않았고 네이티브 구조화 출력일 때만 format으로 전송되며
+     * ({@link #buildStreamHttpRequest}), 전역 기본 responseSchema는 스트리밍에 적용하지 않습니다.
+     *
+     * @param request 요청
+     * @param alternative 대신 사용할 비스트리밍 메서드명 (로그 안내용)
+     */
+    private void warnIgnoredStreamSchema(SuhAiderRequest request, String alternative) {
+        if (request.getResponseSchema() == null) {
+            if (customizer != null && customizer.getDefaultResponseSchema() != null) {
+                log.warn("전역 기본 responseSchema가 설정되어 있지만, 스트리밍 모드에서는 적용되지 않습니다.");
+            }
+            return;
+        }
+        if (request.getFormat() != null) {
+            log.warn("format이 지정되어 있어 스트리밍 요청의 responseSchema는 무시됩니다.");
+        } else if (!useNativeFormat()) {
+            log.warn("네이티브 구조화 출력이 아니면 스트리밍 모드에서는 responseSchema가 무시됩니다. " +
+                    "JSON 형식 응답이 필요하면 {}() 메서드를 사용하세요.", alternative);
+        }
+    }
+
+    /**
+     * 스트리밍 HTTP 요청 생성
+     * 원본 프롬프트를 그대로 사용하며 stream: true를 강제합니다.
+     * 네이티브 구조화 출력이면 요청의 responseSchema를 format으로 전송합니다.
+     *
+     * @param request 원본 요청
+     * @param endpoint 요청을 보낼 노드
+     * @return OkHttp Request
+     * @throws JsonProcessingException 디버그 로그용 페이로드 직렬화 실패 시
+     */
+    private Request buildStreamHttpRequest(SuhAiderRequest request, Endpoint endpoint) throws JsonProcessingException {
+        // stream: true 강제 설정 (원본 프롬프트 그대로 사용, 증강하지 않음)
+        SuhAiderRequest streamRequest = request.toBuilder()
+                .stream(true)
+                .keepAlive(resolveKeepAlive(request))
+                .options(resolveOptions(request))
+                .format(request.getFormat() == null && request.getResponseSchema() != null && useNativeFormat()
+                        ? JsonSchemaFormatConverter.convert(request.getResponseSchema())
+                        : request.getFormat())
+                .responseSchema(null)
+                .build();
+
+        String url = endpoint.url("/api/generate");
+
+        if (log.isDebugEnabled()) {
+            log.debug("Generate Stream 요청 페이로드: {}", objectMapper.writeValueAsString(streamRequest));
+        }
+
+        RequestBody body = JsonRequestBody.of(objectMapper, streamRequest);
+
+        return addSecurityHeader(new Request.Builder())
+                .url(url)
+                .addHeader("Content-Type", "application/json")
+                .post(body)
+                .build();
+    }
+
+    /**
+     * 스트리밍 응답을 읽어 콜백으로 전달
+     * 동기/비동기 스트리밍이 공통으로 사용합니다.
+     *
+     * @param response OkHttp Response (호출자가 close 책임)
+     * @param callback 스트리밍 콜백
+     * @throws IOException 스트림 읽기 실패 시
+     */
+    private void consumeStream(Response response, StreamCallback callback) throws IOException {
+        if (!response.isSuccessful()) {
+            String responseBody = response.body() != null ? response.body().string() : "";
+            log.error("Generate Stream 실패 - HTTP {}: {}", response.code(), responseBody);
+            handleHttpErrorForCallback(response.code(), responseBody, callback);
+            return;
+        }
+
+        ResponseBody responseBody = response.body();
+        if (responseBody == null) {
+            callback.onError(new SuhAiderException(SuhAiderErrorCode.EMPTY_RESPONSE));
+            return;
+        }
+
+        // 스트림 처리 (하나의 JsonParser로 NDJSON을 토큰 단위로 디코딩)
+        try (GenerateStreamDecoder decoder = new GenerateStreamDecoder(
+                objectMapper.getFactory(), responseBody.source().inputStream())) {
+
+            while (decoder.next()) {
+                if (decoder.getError() != null) {
+                    log.error("Generate Stream 서버 오류: {}", decoder.getError());
+                    callback.onError(new SuhAiderException(SuhAiderErrorCode.SERVER_ERROR, decoder.getError()));
+                    return;
+                }
+
+                String chunk = decoder.getChunk();
+                if (!chunk.isEmpty()) {
+                    callback.onNext(chunk);
+                }
+
+                if (decoder.isDone()) {
+                    log.info("Generate Stream 완료");
+                    callback.onComplete();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 간편 스트리밍 메서드
+     * 모델명과 프롬프트만으로 스트리밍 응답을 받을 수 있습니다.
+     *
+     * @param model 모델명 (예: "llama2", "mistral")
+     * @param prompt 프롬프트 텍스트
+     * @param callback 스트리밍 콜백
+     */
+    public void generateStream(String model, String prompt, StreamCallback callback) {
+        SuhAiderRequest request = SuhAiderRequest.builder()
+                .model(model)
+                .prompt(prompt)
+                .stream(true)
+                .build();
+
+        generateStream(request, callback);
+    }
+
+    /**
+     * 비동기 스트리밍 메서드
+     * OkHttp {@code Call.enqueue()}로 요청을 전송하고, 응답이 도착하면 OkHttp Dispatcher 전용 Executor에서 스트림을 처리합니다.
+     * 호출 스레드와 공용 ForkJoinPool을 점유하지 않으며, Spring MVC의 SseEmitter와 함께 사용할 때 유용합니다.
+     * 반환된 Future를 {@code cancel()}하면 진행 중인 스트림도 중단됩니다.
+     *
+     * <p>스트림 하나는 끝날 때까지 Dispatcher 스레드 하나(VIRTUAL 모드에서는 가상 스레드 하나)를 점유하고,
+     * Dispatcher의 동시 실행 한도(maxRequests, maxRequestsPerHost)도 하나 차지합니다.
+     * 장시간 스트림이 많으면 한도를 그만큼 늘려야 다른 비동기 호출이 대기열에서 밀리지 않습니다.</p>
+     *
+     * <p>사용 예제 (Spring MVC + SseEmitter):</p>
+     * <pre>
+     * &#64;GetMapping(value = "/ai/stream", produces = TEXT_EVENT_STREAM_VALUE)
+     * public SseEmitter streamGenerate(&#64;RequestParam String prompt) {
+     *     SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
+     *
+     *     suhAiderEngine.generateStreamAsync(request, new StreamCallback() {
+     *         &#64;Override
+     *         public void onNext(String chunk) {
+     *             try {
+     *                 emitter.send(SseEmitter.event().data(chunk));
+     *             } catch (IOException e) {
+     *                 emitter.completeWithError(e);
+     *             }
+     *         }
+     *
+     *         &#64;Override
+     *         public void onComplete() {
+     *             emitter.complete();
+     *         }
+     *
+     *         &#64;Override
+     *         public void onError(Throwable error) {
+     *             emitter.completeWithError(error);
+     *         }
+     *     });
+     *
+     *     return emitter;
+     * }
+     * </pre>
+     *
+     * @param request SuhAiderRequest (model, prompt 필수)
+     * @param callback 스트리밍 콜백
+     * @return CompletableFuture (완료 시점 추적용)
+     */
+    public CompletableFuture<Void> generateStreamAsync(SuhAiderRequest request, StreamCallback callback) {
+        log.debug("Generate Stream Async 호출 - 모델: {}, 프롬프트 길이: {}",
+                request.getModel(),
+                request.getPrompt() != null ? request.getPrompt().length() : 0);
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        // 파라미터 검증
+        if (!StringUtils.hasText(request.getModel())) {
+            callback.onError(new SuhAiderException(SuhAiderErrorCode.INVALID_PARAMETER, "모델명이 비어있습니다"));
+            future.complete(null);
+            return future;
+        }
+        if (!StringUtils.hasText(request.getPrompt())) {
+            callback.onError(new SuhAiderException(SuhAiderErrorCode.INVALID_PARAMETER, "프롬프트가 비어있습니다"));
+            future.complete(null);
+            return future;
+        }
+
+        warnIgnoredStreamSchema(request, "generateAsync");
+
+        long deadlineNanos = resolveDeadline(request, false);
+        CompletableFuture<Void> started;
+        try {
+            RateLimitReservation reservation = reserveRateLimit(request);
+            StreamCallback settlingCallback = settleReservationOnStreamEnd(callback, reservation);
+            started = startAfterReservation(reservation, deadlineNanos, () -> retrier == null
+                    ? executeStreamAsync(request, settlingCallback, deadlineNanos)
+                    : retryStreamAsync(request, settlingCallback, deadlineNanos));
+        } catch (SuhAiderException e) {
+            callback.onError(e);
+            future.complete(null);
+            return future;
+        }
+        return started;
+    }
+
+    /**
+     * 재시도 정책을 적용해 스트리밍 실행 (비동기)
+     * 첫 청크 전달 전의 오류는 콜백에 전달하지 않고 재시도 여부를 판단합니다.
+     *
+     * @param request 검증된 요청
+     * @param callback 스트리밍 콜백
+     * @param deadlineNanos 마감 시각 (0이면 없음)
+     * @return 스트림 종료 시 완료되는 CompletableFuture (cancel 시 진행 중인 시도도 취소)
+     */
+    private CompletableFuture<Void> retryStreamAsync(SuhAiderRequest request, StreamCallback callback,
+                                                     long deadlineNanos) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        StreamRetryCallback retryCallback = new StreamRetryCallback(callback);
+        CompletableFuture<Void> retried = retrier.executeAsync("Generate Stream Async", deadlineNanos, () -> {
+            retryCallback.beginAttempt();
+            CompletableFuture<Void> attempt = executeStreamAsync(request, retryCallback, deadlineNanos);
+            CompletableFuture<Void> checked = new CompletableFuture<>();
+            attempt.whenComplete((ignored, error) -> {
+                RuntimeException withheld = retryCallback.takeWithheldError();
+                if (withheld != null) {
+                    checked.completeExceptionally(withheld);
+                } else {
+                    checked.complete(null);
+                }
+            });
+            checked.whenComplete((ignored, error) -> {
+                if (checked.isCancelled()) {
+                    attempt.cancel(true);
+                }
+            });
+            return checked;
+        });
+
+        retried.whenComplete((ignored, error) -> {
+            if (error != null && !future.isCancelled()) {
+                callback.onError(error);
+            }
+            future.complete(null);
+        });
+        future.whenComplete((ignored, error) -> {
+            if (future.isCancelled()) {
+                retried.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 스트리밍 HTTP 호출 실행 (비동기, 시도 한 번)
+     *
+     * @param request 검증된 요청
+     * @param callback 스트리밍 콜백
+     * @param deadlineNanos 마감 시각 (0이면 없음)
+     * @return 스트림 종료 시 완료되는 CompletableFuture (cancel 시 HTTP 호출 취소)
+     */
+    private CompletableFuture<Void> executeStreamAsync(SuhAiderRequest request, StreamCallback callback,
+                                                       long deadlineNanos) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        RoutedCall routed;
+        try {
+            checkDeadline(deadlineNanos, "Generate Stream Async");
+            routed = route(request.getModel());
+        } catch (SuhAiderException e) {
+            callback.onError(e);
+            future.complete(null);
+            return future;
+        }
+        Endpoint endpoint = routed.endpoint;
+        StreamCallback trackedCallback = trackCircuitOutcome(callback, routed);
+
+        Request httpRequest;
+        try {
+            httpRequest = buildStreamHttpRequest(request, endpoint);
+        } catch (IOException e) {
+            routed.releaseWithoutRecord();
+            callback.onError(translateIOException("Generate Stream Async", e));
+            future.complete(null);
+            return future;
+        }
+
+        endpoint.acquire();
+        Call call = newCall(httpRequest, deadlineNanos);
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                endpoint.release();
+                if (!future.isCancelled()) {
+                    ejectOnConnectFailure(endpoint, e);
+                    trackedCallback.onError(translateIOException("Generate Stream Async", e, deadlineNanos));
+                }
+                routed.releaseWithoutRecord();
+                future.complete(null);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    if (response.isSuccessful()) {
+                        endpoint.markLoaded(request.getModel());
+                    }
+                    consumeStream(response, trackedCallback);
+                } catch (IOException e) {
+                    if (!future.isCancelled()) {
+                        trackedCallback.onError(translateIOException("Generate Stream Async", e, deadlineNanos));
+                    }
+                } catch (RuntimeException e) {
+                    trackedCallback.onError(e);
+                } finally {
+                    endpoint.release();
+                    routed.releaseWithoutRecord();
+                    future.complete(null);
+                }
+            }
+        });
+
+        cancelCallOnFutureCancel(future, call);
+        return future;
+    }
+
+    /**
+     * 간편 비동기 스트리밍 메서드
+     *
+     * @param model 모델명 (예: "llama2", "mistral")
+     * @param prompt 프롬프트 텍스트
+     * @param callback 스트리밍 콜백
+     * @return CompletableFuture (완료 시점 추적용)
+     */
+    public CompletableFuture<Void> generateStreamAsync(String model, String prompt, StreamCallback callback) {
+        SuhAiderRequest request = SuhAiderRequest.builder()
+                .model(model)
+                .prompt(prompt)
+                .stream(true)
+                .build();
+
+        return generateStreamAsync(request, callback);
+    }
+
+    /**
+     * 재시도 정책을 적용해 동기 실행 (재시도 비활성화 시 한 번만 실행)
+     *
+     * @param operation 로그용 작업명
+     * @param attempt 시도 한 번
+     * @return 결과
+     */
+    private <T> T withRetry(String operation, Supplier<T> attempt) {
+        return withRetry(operation, 0, attempt);
+    }
+
+    /**
+     * 재시도 정책을 적용해 동기 실행 (마감 시각을 넘기는 재시도는 하지 않음)
+     *
+     * @param operation 로그용 작업명
+     * @param deadlineNanos 마감 시각 (0이면 없음)
+     * @param attempt 시도 한 번
+     * @return 결과
+     */
+    private <T> T withRetry(String operation, long deadlineNanos, Supplier<T> attempt) {
+        return retrier != null ? retrier.execute(operation, deadlineNanos, attempt) : attempt.get();
+    }
+
+    /**
+     * 재시도 정책을 적용해 비동기 실행 (재시도 비활성화 시 한 번만 실행)
+     *
+     * @param operation 로그용 작업명
+     * @param deadlineNanos 마감 시각 (0이면 없음, 마감 시각을 넘기는 재시도는 하지 않음)
+     * @param attempt 시도 한 번
+     * @return 결과 Future (cancel 시 진행 중인 시도도 취소)
+     */
+    private <T> CompletableFuture<T> withRetryAsync(String operation, long deadlineNanos,
+                                                    Supplier<CompletableFuture<T>> attempt) {
+        return retrier != null ? retrier.executeAsync(operation, deadlineNanos, attempt) : attempt.get();
+    }
+
+    /**
+     * 요청을 보낼 노드 선택 + 회로 차단기 허가 획득
+     * 선택된 노드의 회로가 열려 있으면 다른 정상 노드를 순서대로 시도하고, 모두 열려 있으면 즉시 실패합니다.
+     *
+     * @param model 요청 모델명
+     * @return 선택된 노드와 허가
+     * @throws SuhAiderException CIRCUIT_OPEN - 사용할 수 있는 노드의 회로가 모두 열린 경우
+     */
+    private RoutedCall route(String model) {
+        Endpoint selected = endpointBalancer.select(model);
+        if (circuitBreakers == null) {
+            return new RoutedCall(selected, null);
+        }
+
+        CircuitBreaker.Permit permit = circuitBreakers.forEndpoint(selected, model).tryAcquire();
+        if (permit != null) {
+            return new RoutedCall(selected, permit);
+        }
+        for (Endpoint candidate : endpointBalancer.getEndpoints()) {
+            if (candidate == selected || !candidate.isHealthy()) {
+                continue;
+            }
+            permit = circuitBreakers.forEndpoint(candidate, model).tryAcquire();
+            if (permit != null) {
+                log.debug("회로가 열린 노드 우회 - {} → {}", selected, candidate);
+                return new RoutedCall(candidate, permit);
+            }
+        }
+
+        log.warn("회로 차단으로 요청 거부 - 노드: {}, 모델: {}", selected, model);
+        throw new SuhAiderException(SuhAiderErrorCode.CIRCUIT_OPEN, selected + " (" + model + ")");
+    }
+
+    /**
+     * 속도 제한 사용량 예약
+     *
+     * @param request 요청 (모델명, 프롬프트)
+     * @return 예약 (속도 제한 미사용 시 null)
+     * @throws SuhAiderException RATE_LIMITED - 허용 대기 시간 안에 한도가 회복되지 않는 경우
+     */
+    private RateLimitReservation reserveRateLimit(SuhAiderRequest request) {
+        if (rateLimiters == null) {
+            return null;
+        }
+        RateLimitReservation reservation = rateLimiters.reserve(request.getModel(), request.getPrompt());
+        if (reservation.getDelayNanos() > 0) {
+            log.debug("속도 제한 대기 - 모델: {}, {}ms", request.getModel(),
+                    TimeUnit.NANOSECONDS.toMillis(reservation.getDelayNanos()));
+        }
+        return reservation;
+    }
+
+    /**
+     * 속도 제한 예약 시각까지 대기 (동기 경로)
+     *
+     * @param reservation 예약 (null이면 대기하지 않음)
+     * @param deadlineNanos 마감 시각 (0이면 없음)
+     * @throws SuhAiderException RATE_LIMITED - 대기 중 인터럽트된 경우,
+     *                           DEADLINE_EXCEEDED - 대기가 마감 시각을 넘기는 경우 (둘 다 예약은 취소됨)
+     */
+    private void awaitReservation(RateLimitReservation reservation, long deadlineNanos) {
+        if (reservation == null || reservation.getDelayNanos() <= 0) {
+            return;
+        }
+        if (deadlineNanos != 0 && remainingNanos(deadlineNanos) <= reservation.getDelayNanos()) {
+            reservation.cancel();
+            throw deadlineExceeded("속도 제한 대기");
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(reservation.getDelayNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reservation.cancel();
+            throw new SuhAiderException(SuhAiderErrorCode.RATE_LIMITED, "속도 제한 대기 중 인터럽트됨");
+        }
+    }
+
+    /**
+     * 속도 제한 예약 시각 이후 작업 시작 (비동기 경로, 대기 중 스레드 점유 없음)
+     *
+     * @param reservation 예약 (null이면 즉시 시작)
+     * @param deadlineNanos 마감 시각 (0이면 없음)
+     * @param task 시작할 작업
+     * @return 작업 결과 Future (대기 중 cancel하면 작업을 시작하지 않고 예약을 취소, 시작 후에는 작업도 취소)
+     * @throws SuhAiderException DEADLINE_EXCEEDED - 대기가 마감 시각을 넘기는 경우 (예약은 취소됨)
+     */
+    private <T> CompletableFuture<T> startAfterReservation(RateLimitReservation reservation, long deadlineNanos,
+                                                           Supplier<CompletableFuture<T>> task) {
+        if (reservation == null || reservation.getDelayNanos() <= 0) {
+            return task.get();
+        }
+        if (deadlineNanos != 0 && remainingNanos(deadlineNanos) <= reservation.getDelayNanos()) {
+            reservation.cancel();
+            throw deadlineExceeded("속도 제한 대기");
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicBoolean started = new AtomicBoolean();
+        Runnable start = () -> {
+            if (result.isDone() || !started.compareAndSet(false, true)) {
+                return;
+            }
+            CompletableFuture<T> running;
+            try {
+                running = task.get();
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            running.whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    running.cancel(true);
+                }
+            });
+        };
+        CompletableFuture.delayedExecutor(reservation.getDelayNanos(), TimeUnit.NANOSECONDS, asyncExecutor)
+                .execute(start);
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled() && started.compareAndSet(false, true)) {
+                reservation.cancel();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 요청 결과로 속도 제한 예약 정산
+     * 성공하면 실제 토큰 수(prompt_eval_count + eval_count)로 보정하고, 서버가 생성을 시작하지 않은 실패
+     * ({@link #isRejectedBeforeGeneration})이면 예약을 취소해 사용량을 돌려줍니다.
+     * 그 외의 실패(타임아웃, 5xx 등)는 서버가 생성했을 수 있으므로 예상 토큰 수를 그대로 사용량으로 남깁니다.
+     *
+     * @param reservation 예약 (null이면 아무 동작도 하지 않음)
+     * @param response 응답 (실패 시 null)
+     * @param failure 실패 예외 (성공 시 null)
+     */
+    private static void settleReservation(RateLimitReservation reservation, SuhAiderResponse response,
+                                          Throwable failure) {
+        if (reservation == null) {
+            return;
+        }
+        if (failure == null && response != null) {
+            long actualTokens = (response.getPromptEvalCount() != null ? response.getPromptEvalCount() : 0)
+                    + (response.getEvalCount() != null ? response.getEvalCount() : 0);
+            reservation.complete(actualTokens);
+        } else if (isRejectedBeforeGeneration(failure)) {
+            reservation.cancel();
+        } else {
+            reservation.complete(0);
+        }
+    }
+
+    /**
+     * 서버가 생성을 시작하지 않은 실패인지 (연결 거부, 회로 차단/과부하/속도 제한으로 요청 전 거부, 인증/모델 오류)
+     *
+     * @param failure 실패 예외
+     * @return 사용량을 돌려줘도 되는 실패이면 true
+     */
+    private static boolean isRejectedBeforeGeneration(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (!(cause instanceof SuhAiderException)) {
+            return false;
+        }
+        switch (((SuhAiderException) cause).getErrorCode()) {
+            case CIRCUIT_OPEN:
+            case OVERLOADED:
+            case RATE_LIMITED:
+            case UNAUTHORIZED:
+            case FORBIDDEN:
+            case MODEL_NOT_FOUND:
+            case INVALID_PARAMETER:
+                return true;
+            case NETWORK_ERROR:
+                return cause.getCause() instanceof ConnectException;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 특정 노드를 제외하고 노드 선택 + 회로 차단기 허가 획득 (헤징 요청용)
+     *
+     * @param model 요청 모델명
+     * @param excluded 제외할 노드 (첫 요청을 보낸 노드)
+     * @return 선택된 노드와 허가 (보낼 수 있는 다른 노드가 없으면 null)
+     */
+    private RoutedCall routeExcluding(String model, Endpoint excluded) {
+        Endpoint selected = endpointBalancer.selectExcluding(model, excluded);
+        if (selected == null) {
+            return null;
+        }
+        if (circuitBreakers == null) {
+            return new RoutedCall(selected, null);
+        }
+        CircuitBreaker.Permit permit = circuitBreakers.forEndpoint(selected, model).tryAcquire();
+        return permit != null ? new RoutedCall(selected, permit) : null;
+    }
+
+    /**
+     * 호출 결과를 회로 차단기에 기록
+     * 네트워크 오류, 타임아웃, 5xx만 실패로 기록하고 4xx 등 서버가 정상 응답한 경우는 성공으로 기록합니다.
+     *
+     * @param routed 선택된 노드와 허가
+     * @param failure 발생한 예외 (성공이면 null)
+     */
+    private void recordCircuitOutcome(RoutedCall routed, Throwable failure) {
+        if (routed.permit == null) {
+            return;
+        }
+        if (isDeadlineExceeded(failure)) {
+            // 호출자 마감으로 끊긴 요청은 노드 장애가 아님
+            routed.releaseWithoutRecord();
+            return;
         }
-
-        // ✅ 1. 전역 기본 스키마 적용 (customizer가 있고, 요청에 스키마가 없으면)
-        JsonSchema effectiveSchema = request.getResponseSchema();
-        if (effectiveSchema == null && customizer != null) {
-            effectiveSchema = customizer.getDefaultResponseSchema();
-            log.debug("전역 기본 responseSchema 적용");
+        if (failure != null && isCircuitFailure(failure)) {
+            routed.permit.onError();
+        } else {
+            routed.permit.onSuccess();
         }
+    }
 
-        // ✅ 2. 프롬프트 자동 증강 (스키마가 있으면)
-        String finalPrompt = request.getPrompt();
-        if (effectiveSchema != null) {
-            finalPrompt = PromptEnhancer.enhance(request.getPrompt(), effectiveSchema);
-            log.debug("프롬프트 증강 완료 - 원본 {}자 → 증강 {}자",
-                    request.getPrompt().length(), finalPrompt.length());
+    /**
+     * 동시성 제한 허가 대기 (동기 경로)
+     * 허가를 받지 못하면 회로 차단기 허가도 기록 없이 반환합니다.
+     *
+     * @param routed 선택된 노드와 회로 차단기 허가
+     * @param prepared 준비된 요청 (모델명, 우선순위, 테넌트, 마감 시각)
+     * @return 동시성 제한 허가 (제한 미사용 시 null)
+     * @throws SuhAiderException OVERLOADED - 대기열이 가득 찼거나 대기 시간이 지난 경우,
+     *                           DEADLINE_EXCEEDED - 허가 전에 마감 시각이 지난 경우
+     */
+    private AdaptiveConcurrencyLimiter.Permit awaitConcurrencyPermit(RoutedCall routed, PreparedGenerate prepared) {
+        if (concurrencyLimiters == null) {
+            return null;
         }
-
-        // ✅ 3. HTTP 요청 준비 (증강된 프롬프트 사용, responseSchema는 제외)
-        SuhAiderRequest enhancedRequest = request.toBuilder()
-                .prompt(finalPrompt)
-                .responseSchema(null)  // Ollama API로 전송 안 함
-                .build();
-
-        String url = config.getBaseUrl() + "/api/generate";
-
+        SuhAiderRequest request = prepared.wireRequest;
         try {
-            // JSON 페이로드 생성
-            String jsonPayload = objectMapper.writeValueAsString(enhancedRequest);
-            log.debug("Generate 요청 페이로드: {}", jsonPayload);
-
-            RequestBody body = RequestBody.create(
-                    jsonPayload,
-                    MediaType.parse("application/json; charset=utf-8")
-            );
-
-            Request httpRequest = addSecurityHeader(new Request.Builder())
-                    .url(url)
-                    .addHeader("Content-Type", "application/json")
-                    .post(body)
-                    .build();
-
-            try (Response response = httpClient.newCall(httpRequest).execute()) {
-                String responseBody = response.body() != null ? response.body().string() : "";
+            CompletableFuture<AdaptiveConcurrencyLimiter.Permit> admission = concurrencyLimiters
+                    .forEndpoint(routed.endpoint, request.getModel())
+                    .acquire(request.getPriority(), request.getTenant());
+            failAtDeadline(admission, prepared.deadlineNanos, "Generate");
+            return awaitResult(admission);
+        } catch (RuntimeException e) {
+            routed.releaseWithoutRecord();
+            throw e;
+        }
+    }
 
-                if (!response.isSuccessful()) {
-                    log.error("Generate 실패 - HTTP {}: {}", response.code(), responseBody);
-                    handleHttpError(response.code(), responseBody);
-                }
+    /**
+     * 호출 결과를 동시성 제한기에 기록
+     * 성공이면 응답의 토큰당 생성 시간과 서버 내부 대기 시간(total - load - prompt_eval - eval)을 전달하고,
+     * 네트워크 오류/타임아웃/5xx는 과부하로, 그 외(취소, 4xx 등)는 한도 조절 없이 반환합니다.
+     *
+     * @param limitPermit 동시성 제한 허가 (null이면 아무 동작도 하지 않음)
+     * @param response 응답 (실패/취소 시 null)
+     * @param failure 발생한 예외 (성공/취소 시 null)
+     */
+    private static void recordConcurrencyOutcome(AdaptiveConcurrencyLimiter.Permit limitPermit,
+                                                 SuhAiderResponse response, Throwable failure) {
+        if (limitPermit == null) {
+            return;
+        }
+        if (failure != null && isCircuitFailure(failure)) {
+            limitPermit.onOverload();
+            return;
+        }
+        if (failure != null || response == null) {
+            limitPermit.release();
+            return;
+        }
 
-                if (!StringUtils.hasText(responseBody)) {
-                    throw new SuhAiderException(SuhAiderErrorCode.EMPTY_RESPONSE);
-                }
+        long nanosPerToken = 0;
+        if (response.getEvalDuration() != null && response.getEvalCount() != null && response.getEvalCount() > 0) {
+            nanosPerToken = response.getEvalDuration() / response.getEvalCount();
+        }
+        long queueWaitNanos = 0;
+        if (response.getTotalDuration() != null) {
+            queueWaitNanos = Math.max(0, response.getTotalDuration()
+                    - nullToZero(response.getLoadDuration())
+                    - nullToZero(response.getPromptEvalDuration())
+                    - nullToZero(response.getEvalDuration()));
+        }
+        limitPermit.onSuccess(nanosPerToken, queueWaitNanos);
+    }
 
-                SuhAiderResponse suhAiderResponse = objectMapper.readValue(responseBody, SuhAiderResponse.class);
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
 
-                // ✅ 4. JSON 응답 후처리 (스키마가 있었으면)
-                if (effectiveSchema != null) {
-                    String rawJsonResponse = suhAiderResponse.getResponse();
-                    String cleanedJson = JsonResponseCleaner.clean(rawJsonResponse);
-                    suhAiderResponse.setResponse(cleanedJson);
+    private static boolean isCircuitFailure(Throwable failure) {
+        if (!(failure instanceof SuhAiderException)) {
+            return failure instanceof IOException;
+        }
+        switch (((SuhAiderException) failure).getErrorCode()) {
+            case NETWORK_ERROR:
+            case CONNECTION_TIMEOUT:
+            case READ_TIMEOUT:
+            case SERVER_ERROR:
+                return true;
+            default:
+                return false;
+        }
+    }
 
-                    log.debug("JSON 응답 정제 완료 - 원본 {}자 → 정제 {}자",
-                            rawJsonResponse != null ? rawJsonResponse.length() : 0,
-                            cleanedJson.length());
+    private static boolean isDeadlineExceeded(Throwable failure) {
+        return failure instanceof SuhAiderException
+                && ((SuhAiderException) failure).getErrorCode() == SuhAiderErrorCode.DEADLINE_EXCEEDED;
+    }
 
-                    // 검증
-                    if (!JsonResponseCleaner.isValidJson(cleanedJson, objectMapper)) {
-                        log.warn("AI가 유효하지 않은 JSON 반환 (원본 유지): {}",
-                                cleanedJson.substring(0, Math.min(100, cleanedJson.length())));
-                    } else {
-                        log.debug("JSON 유효성 검증 성공");
-                    }
-                }
+    /**
+     * 요청의 마감 시각 계산
+     * 요청의 timeoutMillis가 우선하며, 없으면 customizer의 customReadTimeout(초)을 사용합니다.
+     *
+     * @param request 요청
+     * @param useCustomizerDefault customReadTimeout을 기본값으로 사용할지 여부 (스트리밍은 false)
+     * @return 마감 시각 (System.nanoTime 기준, 제한 시간이 없으면 0)
+     */
+    private long resolveDeadline(SuhAiderRequest request, boolean useCustomizerDefault) {
+        long timeoutMillis = 0;
+        if (request.getTimeoutMillis() != null) {
+            timeoutMillis = request.getTimeoutMillis();
+        } else if (useCustomizerDefault && customizer != null && customizer.getCustomReadTimeout() != null) {
+            timeoutMillis = TimeUnit.SECONDS.toMillis(customizer.getCustomReadTimeout());
+        }
+        if (timeoutMillis <= 0) {
+            return 0;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        return deadline != 0 ? deadline : 1;
+    }
 
-                log.info("Generate 완료 - 응답 길이: {}, 처리 시간: {}ms",
-                        suhAiderResponse.getResponse() != null ? suhAiderResponse.getResponse().length() : 0,
-                        suhAiderResponse.getTotalDuration() != null ? suhAiderResponse.getTotalDuration() / 1_000_000 : 0);
+    private static long remainingNanos(long deadlineNanos) {
+        return deadlineNanos - System.nanoTime();
+    }
 
-                return suhAiderResponse;
-            }
+    private static SuhAiderException deadlineExceeded(String operation) {
+        log.warn("{} 제한 시간 초과", operation);
+        return new SuhAiderException(SuhAiderErrorCode.DEADLINE_EXCEEDED, operation);
+    }
 
-        } catch (SocketTimeoutException e) {
-            log.error("Generate 타임아웃: {}", e.getMessage());
-            throw new SuhAiderException(SuhAiderErrorCode.READ_TIMEOUT, e);
-        } catch (JsonProcessingException e) {
-            log.error("JSON 처리 실패: {}", e.getMessage());
-            throw new SuhAiderException(SuhAiderErrorCode.JSON_PARSE_ERROR, e);
-        } catch (IOException e) {
-            log.error("네트워크 오류: {}", e.getMessage());
-            throw new SuhAiderException(SuhAiderErrorCode.NETWORK_ERROR, e);
+    /**
+     * 마감 시각이 지났으면 즉시 실패 (재시도 시도 시작 전 확인용)
+     *
+     * @param deadlineNanos 마감 시각 (0이면 없음)
+     * @param operation 로그용 작업명
+     * @throws SuhAiderException DEADLINE_EXCEEDED - 마감 시각이 지난 경우
+     */
+    private static void checkDeadline(long deadlineNanos, String operation) {
+        if (deadlineNanos != 0 && remainingNanos(deadlineNanos) <= 0) {
+            throw deadlineExceeded(operation);
         }
     }
 
     /**
-     * 간편 Generate 메서드
-     * 모델명과 프롬프트만으로 바로 응답 텍스트를 받을 수 있습니다.
+     * OkHttp Call 생성 (남은 시간을 호출 전체 타임아웃으로 설정)
+     * 클라이언트에 callTimeout이 이미 있으면 둘 중 짧은 값을 사용합니다.
      *
-     * @param model 모델명 (예: "llama2", "mistral")
-     * @param prompt 프롬프트 텍스트
-     * @return 생성된 응답 텍스트
+     * @param httpRequest HTTP 요청
+     * @param deadlineNanos 마감 시각 (0이면 클라이언트 설정 그대로)
+     * @return OkHttp Call
      */
-    public String generate(String model, String prompt) {
-        SuhAiderRequest request = SuhAiderRequest.builder()
-                .model(model)
-                .prompt(prompt)
-                .stream(false)
-                .build();
-
-        SuhAiderResponse response = generate(request);
-        return response.getResponse();
+    private Call newCall(Request httpRequest, long deadlineNanos) {
+        Call call = httpClient.newCall(httpRequest);
+        if (deadlineNanos != 0) {
+            long remaining = Math.max(1, remainingNanos(deadlineNanos));
+            long configured = call.timeout().timeoutNanos();
+            call.timeout().timeout(configured > 0 ? Math.min(configured, remaining) : remaining, TimeUnit.NANOSECONDS);
+        }
+        return call;
     }
 
     /**
-     * AI 텍스트 생성 (스트리밍)
-     * POST /api/generate (stream: true)
-     *
-     * <p>AI가 토큰을 생성할 때마다 실시간으로 콜백이 호출됩니다.
-     * ChatGPT, Claude처럼 한 글자씩 표시되는 효과를 구현할 때 사용합니다.</p>
-     *
-     * <p><b>주의사항:</b> 스트리밍 모드에서는 {@code responseSchema}를 지원하지 않습니다.
-     * 이유: 부분 텍스트만 받기 때문에 JSON 정제가 불가능하고, 실시간 표시 목적과 충돌합니다.
-     * JSON 형식 응답이 필요하면 {@link #generate(SuhAiderRequest)} 메서드를 사용하세요.</p>
+     * 마감 시각에 Future를 DEADLINE_EXCEEDED로 완료 (동시성 대기열 대기용)
      *
-     * <p>사용 예제:</p>
-     * <pre>
-     * suhAiderEngine.generateStream(request, new StreamCallback() {
-     *     &#64;Override
-     *     public void onNext(String chunk) {
-     *         System.out.print(chunk);  // 실시간 출력
-     *     }
-     *
-     *     &#64;Override
-     *     public void onComplete() {
-     *         System.out.println("\n완료!");
-     *     }
-     *
-     *     &#64;Override
-     *     public void onError(Throwable error) {
-     *         System.err.println("에러: " + error.getMessage());
-     *     }
-     * });
-     * </pre>
-     *
-     * @param request SuhAiderRequest (model, prompt 필수, responseSchema는 무시됨)
-     * @param callback 스트리밍 콜백 (onNext, onComplete, onError)
+     * @param future 대상 Future (이미 완료되었으면 아무 동작도 하지 않음)
+     * @param deadlineNanos 마감 시각 (0이면 없음)
+     * @param operation 로그용 작업명
      */
-    public void generateStream(SuhAiderRequest request, StreamCallback callback) {
-        log.debug("Generate Stream 호출 - 모델: {}, 프롬프트 길이: {}",
-                request.getModel(),
-                request.getPrompt() != null ? request.getPrompt().length() : 0);
-
-        // 파라미터 검증
-        if (!StringUtils.hasText(request.getModel())) {
-            callback.onError(new SuhAiderException(SuhAiderErrorCode.INVALID_PARAMETER, "모델명이 비어있습니다"));
+    private void failAtDeadline(CompletableFuture<?> future, long deadlineNanos, String operation) {
+        if (deadlineNanos == 0 || future.isDone()) {
             return;
         }
-        if (!StringUtils.hasText(request.getPrompt())) {
-            callback.onError(new SuhAiderException(SuhAiderErrorCode.INVALID_PARAMETER, "프롬프트가 비어있습니다"));
+        long remaining = remainingNanos(deadlineNanos);
+        if (remaining <= 0) {
+            future.completeExceptionally(deadlineExceeded(operation));
             return;
         }
+        CompletableFuture.delayedExecutor(remaining, TimeUnit.NANOSECONDS, asyncExecutor).execute(() -> {
+            if (!future.isDone()) {
+                future.completeExceptionally(deadlineExceeded(operation));
+            }
+        });
+    }
 
-        // ⚠️ 스트리밍 모드에서는 responseSchema를 지원하지 않습니다
-        // 이유: 부분 텍스트만 받기 때문에 JSON 정제가 불가능하고, 실시간 표시 목적과 충돌합니다.
-        if (request.getResponseSchema() != null) {
-            log.warn("스트리밍 모드에서는 responseSchema가 무시됩니다. " +
-                    "JSON 형식 응답이 필요하면 generate() 메서드를 사용하세요.");
-        }
-        if (customizer != null && customizer.getDefaultResponseSchema() != null) {
-            log.warn("전역 기본 responseSchema가 설정되어 있지만, 스트리밍 모드에서는 무시됩니다.");
+    /**
+     * 호출자에게 돌려줄 Future에 마감 시각 적용
+     * 마감 시각이 지나거나 호출자가 취소하면 원본 작업도 취소합니다.
+     *
+     * @param source 원본 작업 Future
+     * @param deadlineNanos 마감 시각 (0이면 원본 그대로 반환)
+     * @param operation 로그용 작업명
+     * @return 마감 시각이 적용된 Future
+     */
+    private <T> CompletableFuture<T> withDeadline(CompletableFuture<T> source, long deadlineNanos,
+                                                  String operation) {
+        if (deadlineNanos == 0 || source.isDone()) {
+            return source;
         }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        source.whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            } else {
+                result.complete(value);
+            }
+        });
+        failAtDeadline(result, deadlineNanos, operation);
+        result.whenComplete((value, error) -> {
+            if (!source.isDone()) {
+                source.cancel(true);
+            }
+        });
+        return result;
+    }
 
-        // 원본 프롬프트 그대로 사용 (증강하지 않음)
-        String finalPrompt = request.getPrompt();
-
-        // stream: true 강제 설정
-        SuhAiderRequest streamRequest = request.toBuilder()
-                .prompt(finalPrompt)
-                .stream(true)
-                .responseSchema(null)
-                .build();
-
-        String url = config.getBaseUrl() + "/api/generate";
-
-        try {
-            String jsonPayload = objectMapper.writeValueAsString(streamRequest);
-            log.debug("Generate Stream 요청 페이로드: {}", jsonPayload);
-
-            RequestBody body = RequestBody.create(
-                    jsonPayload,
-                    MediaType.parse("application/json; charset=utf-8")
-            );
-
-            Request httpRequest = addSecurityHeader(new Request.Builder())
-                    .url(url)
-                    .addHeader("Content-Type", "application/json")
-                    .post(body)
-                    .build();
-
-            try (Response response = httpClient.newCall(httpRequest).execute()) {
-                if (!response.isSuccessful()) {
-                    String responseBody = response.body() != null ? response.body().string() : "";
-                    log.error("Generate Stream 실패 - HTTP {}: {}", response.code(), responseBody);
-                    handleHttpErrorForCallback(response.code(), responseBody, callback);
-                    return;
-                }
-
-                ResponseBody responseBody = response.body();
-                if (responseBody == null) {
-                    callback.onError(new SuhAiderException(SuhAiderErrorCode.EMPTY_RESPONSE));
-                    return;
-                }
-
-                // 스트림 처리
-                BufferedSource source = responseBody.source();
-
-                while (!source.exhausted()) {
-                    String line = source.readUtf8Line();
+    /**
+     * 스트림 종료(onComplete/onError)를 회로 차단기에 기록하는 콜백 래퍼
+     *
+     * @param callback 원본 콜백
+     * @param routed 선택된 노드와 허가
+     * @return 래핑된 콜백 (회로 차단기 비활성화 시 원본)
+     */
+    private StreamCallback trackCircuitOutcome(StreamCallback callback, RoutedCall routed) {
+        if (routed.permit == null) {
+            return callback;
+        }
+        return new StreamCallback() {
+            @Override
+            public void onNext(String chunk) {
+                callback.onNext(chunk);
+            }
 
-                    if (line == null || line.trim().isEmpty()) {
-                        continue;
-                    }
+            @Override
+            public void onComplete() {
+                recordCircuitOutcome(routed, null);
+                callback.onComplete();
+            }
 
-                    try {
-                        JsonNode node = objectMapper.readTree(line);
-                        String chunk = node.has("response") ? node.get("response").asText("") : "";
+            @Override
+            public void onError(Throwable error) {
+                recordCircuitOutcome(routed, error);
+                callback.onError(error);
+            }
+        };
+    }
 
-                        if (!chunk.isEmpty()) {
-                            callback.onNext(chunk);
-                        }
+    /**
+     * 스트림 종료(onComplete/onError) 시 속도 제한 예약을 정산하는 콜백 래퍼
+     * 스트림은 토큰 수를 받지 않으므로 정상 종료와 생성 중 실패는 예상 토큰 수를 그대로 남기고,
+     * 서버가 생성을 시작하지 않은 실패({@link #isRejectedBeforeGeneration})는 예약을 취소해 사용량을 돌려줍니다.
+     * 시작 후 취소된 스트림은 정산하지 않으므로 예상 토큰 수가 남습니다.
+     *
+     * @param callback 원본 콜백
+     * @param reservation 예약 (null이면 원본 콜백 그대로 반환)
+     * @return 정산을 기록하는 콜백
+     */
+    private static StreamCallback settleReservationOnStreamEnd(StreamCallback callback,
+                                                               RateLimitReservation reservation) {
+        if (reservation == null) {
+            return callback;
+        }
+        return new StreamCallback() {
+            @Override
+            public void onNext(String chunk) {
+                callback.onNext(chunk);
+            }
 
-                        if (node.has("done") && node.get("done").asBoolean(false)) {
-                            log.info("Generate Stream 완료");
-                            callback.onComplete();
-                            break;
-                        }
+            @Override
+            public void onComplete() {
+                reservation.complete(0);
+                callback.onComplete();
+            }
 
-                    } catch (JsonProcessingException e) {
-                        log.warn("청크 파싱 실패 (건너뜀): {}", line);
-                        // 파싱 실패해도 계속 진행
-                    }
+            @Override
+            public void onError(Throwable error) {
+                if (isRejectedBeforeGeneration(error)) {
+                    reservation.cancel();
+                } else {
+                    reservation.complete(0);
                 }
+                callback.onError(error);
             }
+        };
+    }
 
-        } catch (SocketTimeoutException e) {
-            log.error("Generate Stream 타임아웃: {}", e.getMessage());
-            callback.onError(new SuhAiderException(SuhAiderErrorCode.READ_TIMEOUT, e));
-        } catch (JsonProcessingException e) {
-            log.error("JSON 처리 실패: {}", e.getMessage());
-            callback.onError(new SuhAiderException(SuhAiderErrorCode.JSON_PARSE_ERROR, e));
-        } catch (IOException e) {
-            log.error("Generate Stream 네트워크 오류: {}", e.getMessage());
-            callback.onError(new SuhAiderException(SuhAiderErrorCode.NETWORK_ERROR, e));
+    /**
+     * 연결 자체가 실패한 노드는 다음 헬스 체크에서 회복할 때까지 부하 분산 대상에서 제외
+     * (타임아웃처럼 노드가 살아 있을 수 있는 오류는 제외하지 않음, 주기적 헬스 체크가 꺼져 있으면 제외하지 않음)
+     *
+     * @param endpoint 요청을 보낸 노드
+     * @param e 발생한 예외
+     */
+    private void ejectOnConnectFailure(Endpoint endpoint, IOException e) {
+        if (!(e instanceof ConnectException)
+                || config.getLoadBalancer().getHealthCheckIntervalSeconds() <= 0) {
+            return;
+        }
+        if (endpoint.markDown()) {
+            log.warn("AI 서버 제외 (연결 실패) - {}: {}", endpoint, e.getMessage());
         }
     }
 
     /**
-     * 간편 스트리밍 메서드
-     * 모델명과 프롬프트만으로 스트리밍 응답을 받을 수 있습니다.
+     * 반환된 Future가 취소되면 진행 중인 OkHttp Call도 취소
      *
-     * @param model 모델명 (예: "llama2", "mistral")
-     * @param prompt 프롬프트 텍스트
-     * @param callback 스트리밍 콜백
+     * @param future 호출자에게 반환한 Future
+     * @param call 진행 중인 OkHttp Call
      */
-    public void generateStream(String model, String prompt, StreamCallback callback) {
-        SuhAiderRequest request = SuhAiderRequest.builder()
-                .model(model)
-                .prompt(prompt)
-                .stream(true)
-                .build();
-
-        generateStream(request, callback);
+    private void cancelCallOnFutureCancel(CompletableFuture<?> future, Call call) {
+        future.whenComplete((result, error) -> {
+            if (error instanceof CancellationException) {
+                log.debug("Future 취소됨 - HTTP 호출 취소");
+                call.cancel();
+            }
+        });
     }
 
     /**
-     * 비동기 스트리밍 메서드
-     * 백그라운드 스레드에서 스트리밍을 처리합니다.
-     * Spring MVC의 SseEmitter와 함께 사용할 때 유용합니다.
-     *
-     * <p>사용 예제 (Spring MVC + SseEmitter):</p>
-     * <pre>
-     * &#64;GetMapping(value = "/ai/stream", produces = TEXT_EVENT_STREAM_VALUE)
-     * public SseEmitter streamGenerate(&#64;RequestParam String prompt) {
-     *     SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
-     *
-     *     suhAiderEngine.generateStreamAsync(request, new StreamCallback() {
-     *         &#64;Override
-     *         public void onNext(String chunk) {
-     *             try {
-     *                 emitter.send(SseEmitter.event().data(chunk));
-     *             } catch (IOException e) {
-     *                 emitter.completeWithError(e);
-     *             }
-     *         }
-     *
-     *         &#64;Override
-     *         public void onComplete() {
-     *             emitter.complete();
-     *         }
-     *
-     *         &#64;Override
-     *         public void onError(Throwable error) {
-     *             emitter.completeWithError(error);
-     *         }
-     *     });
-     *
-     *     return emitter;
-     * }
-     * </pre>
+     * IOException을 SuhAiderException으로 변환
      *
-     * @param request SuhAiderRequest (model, prompt 필수)
-     * @param callback 스트리밍 콜백
-     * @return CompletableFuture (완료 시점 추적용)
+     * @param operation 로그용 작업명 (예: "Generate")
+     * @param e 발생한 IOException
+     * @return 변환된 SuhAiderException
      */
-    public CompletableFuture<Void> generateStreamAsync(SuhAiderRequest request, StreamCallback callback) {
-        return CompletableFuture.runAsync(() -> generateStream(request, callback));
+    private SuhAiderException translateIOException(String operation, IOException e) {
+        return translateIOException(operation, e, 0);
     }
 
     /**
-     * 간편 비동기 스트리밍 메서드
+     * IOException을 SuhAiderException으로 변환 (마감 시각 고려)
+     * OkHttp 호출 타임아웃은 InterruptedIOException으로 전달되므로 마감 시각이 지났으면 DEADLINE_EXCEEDED로 변환합니다.
      *
-     * @param model 모델명 (예: "llama2", "mistral")
-     * @param prompt 프롬프트 텍스트
-     * @param callback 스트리밍 콜백
-     * @return CompletableFuture (완료 시점 추적용)
+     * @param operation 로그용 작업명 (예: "Generate")
+     * @param e 발생한 IOException
+     * @param deadlineNanos 마감 시각 (0이면 없음)
+     * @return 변환된 SuhAiderException
      */
-    public CompletableFuture<Void> generateStreamAsync(String model, String prompt, StreamCallback callback) {
-        return CompletableFuture.runAsync(() -> generateStream(model, prompt, callback));
+    private SuhAiderException translateIOException(String operation, IOException e, long deadlineNanos) {
+        if (deadlineNanos != 0 && remainingNanos(deadlineNanos) <= 0) {
+            return deadlineExceeded(operation);
+        }
+        if (e instanceof SocketTimeoutException) {
+            log.error("{} 타임아웃: {}", operation, e.getMessage());
+            return new SuhAiderException(SuhAiderErrorCode.READ_TIMEOUT, e);
+        }
+        if (e instanceof JsonProcessingException) {
+            log.error("{} JSON 처리 실패: {}", operation, e.getMessage());
+            return new SuhAiderException(SuhAiderErrorCode.JSON_PARSE_ERROR, e);
+        }
+        log.error("{} 네트워크 오류: {}", operation, e.getMessage());
+        return new SuhAiderException(SuhAiderErrorCode.NETWORK_ERROR, e);
     }
 
     /**
@@ -753,4 +2835,66 @@ public class SuhAiderEngine {
         }
         return value.substring(0, 4) + "****";
     }
+
+    /**
+     * 서버 전송 직전 상태로 준비된 Generate 요청
+     */
+    private static final class PreparedGenerate {
+
+        /**
+         * 서버로 전송할 요청 (증강된 프롬프트, responseSchema 제외)
+         */
+        private final SuhAiderRequest wireRequest;
+
+        /**
+         * 응답 후처리에 사용할 스키마 (null 가능)
+         */
+        private final JsonSchema schema;
+
+        /**
+         * 응답 캐시 키 (캐시 미사용 또는 skipCache이면 null)
+         */
+        private final String cacheKey;
+
+        /**
+         * 요청 병합 키 (병합 미사용 또는 skipCache이면 null)
+         */
+        private final String coalescingKey;
+
+        /**
+         * 마감 시각 (System.nanoTime 기준, 0이면 없음)
+         */
+        private final long deadlineNanos;
+
+        private PreparedGenerate(SuhAiderRequest wireRequest, JsonSchema schema,
+                                 String cacheKey, String coalescingKey, long deadlineNanos) {
+            this.wireRequest = wireRequest;
+            this.schema = schema;
+            this.cacheKey = cacheKey;
+            this.coalescingKey = coalescingKey;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+
+    /**
+     * 선택된 노드와 회로 차단기 허가 (차단기 비활성화 시 permit은 null)
+     */
+    private static final class RoutedCall {
+        private final Endpoint endpoint;
+        private final CircuitBreaker.Permit permit;
+
+        private RoutedCall(Endpoint endpoint, CircuitBreaker.Permit permit) {
+            this.endpoint = endpoint;
+            this.permit = permit;
+        }
+
+        /**
+         * 결과를 기록하지 않고 허가 반환 (이미 기록했으면 아무 동작도 하지 않음)
+         */
+        private void releaseWithoutRecord() {
+            if (permit != null) {
+                permit.release();
+            }
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package kr.suhsaechan.ai.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Ollama 스트리밍 응답(NDJSON) 디코더
+ *
+ * <p>줄마다 String을 만들고 {@code readTree()}로 JsonNode 트리를 생성하는 대신,
+ * 스트림 전체에 대해 하나의 JsonParser를 재사용하며 필요한 필드({@code response}, {@code done}, {@code error})만 추출합니다.
+ * 그 외 필드(context 배열 등)는 값을 만들지 않고 건너뜁니다.</p>
+ *
+ * <p>사용 예제:</p>
+ * <pre>
+ * try (GenerateStreamDecoder decoder = new GenerateStreamDecoder(jsonFactory, source.inputStream())) {
+ *     while (decoder.next()) {
+ *         callback.onNext(decoder.getChunk());
+ *         if (decoder.isDone()) {
+ *             break;
+ *         }
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>스레드 안전하지 않으며, 하나의 스트림을 하나의 스레드에서 읽는 용도입니다.</p>
+ */
+public class GenerateStreamDecoder implements Closeable {
+
+    private static final String FIELD_RESPONSE = "response";
+    private static final String FIELD_DONE = "done";
+    private static final String FIELD_ERROR = "error";
+
+    private final JsonParser parser;
+
+    private String chunk = "";
+    private boolean done;
+    private String error;
+
+    /**
+     * @param jsonFactory 파서 생성에 사용할 JsonFactory (보통 ObjectMapper.getFactory())
+     * @param inputStream NDJSON 입력 스트림 (예: BufferedSource.inputStream())
+     * @throws IOException 파서 생성 실패 시
+     */
+    public GenerateStreamDecoder(JsonFactory jsonFactory, InputStream inputStream) throws IOException {
+        this.parser = jsonFactory.createParser(inputStream);
+    }
+
+    /**
+     * 다음 청크 객체로 이동
+     *
+     * @return 청크를 읽었으면 true, 스트림이 끝났으면 false
+     * @throws IOException 스트림 읽기 또는 JSON 파싱 실패 시
+     */
+    public boolean next() throws IOException {
+        chunk = "";
+        done = false;
+        error = null;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.START_OBJECT) {
+                readObject();
+                return true;
+            }
+            // 객체가 아닌 최상위 값은 무시
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * 현재 객체의 필드를 순회하며 필요한 값만 추출
+     */
+    private void readObject() throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if (FIELD_RESPONSE.equals(fieldName)) {
+                if (value == JsonToken.VALUE_STRING) {
+                    chunk = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            } else if (FIELD_DONE.equals(fieldName)) {
+                done = value == JsonToken.VALUE_TRUE;
+            } else if (FIELD_ERROR.equals(fieldName)) {
+                if (value == JsonToken.VALUE_STRING) {
+                    error = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * 현재 청크의 응답 텍스트
+     *
+     * @return 응답 텍스트 (없으면 빈 문자열)
+     */
+    public String getChunk() {
+        return chunk;
+    }
+
+    /**
+     * 현재 청크가 마지막 청크인지 여부
+     *
+     * @return done: true이면 true
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * 서버가 스트림 중간에 보낸 에러 메시지
+     *
+     * @return 에러 메시지 (없으면 null)
+     */
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
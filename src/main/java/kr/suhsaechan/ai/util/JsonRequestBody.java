@@ -0,0 +1,67 @@
+package kr.suhsaechan.ai.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+
+/**
+ * 객체를 Jackson JsonGenerator로 OkHttp BufferedSink에 직접 직렬화하는 RequestBody
+ *
+ * <p>{@code writeValueAsString()} → {@code RequestBody.create(String, MediaType)} 방식은
+ * 전체 JSON 문자열과 UTF-8 바이트 복사본을 모두 메모리에 올립니다.
+ * 이 클래스는 전송 시점에 소켓 버퍼로 바로 쓰기 때문에 큰 프롬프트에서도 중간 사본이 생기지 않습니다.</p>
+ *
+ * <p>본문 길이를 미리 알 수 없으므로 chunked 전송으로 요청됩니다.
+ * {@code writeTo()}는 호출될 때마다 다시 직렬화하므로 OkHttp 재시도 시에도 안전합니다.</p>
+ */
+public class JsonRequestBody extends RequestBody {
+
+    /**
+     * JSON 요청 MediaType (매 요청마다 파싱하지 않도록 상수로 보관)
+     */
+    public static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json; charset=utf-8");
+
+    private final ObjectMapper objectMapper;
+    private final Object value;
+
+    private JsonRequestBody(ObjectMapper objectMapper, Object value) {
+        this.objectMapper = objectMapper;
+        this.value = value;
+    }
+
+    /**
+     * JsonRequestBody 생성
+     *
+     * @param objectMapper 직렬화에 사용할 ObjectMapper
+     * @param value 직렬화할 객체
+     * @return JsonRequestBody
+     */
+    public static JsonRequestBody of(ObjectMapper objectMapper, Object value) {
+        return new JsonRequestBody(objectMapper, value);
+    }
+
+    @Override
+    public MediaType contentType() {
+        return JSON_MEDIA_TYPE;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        // sink는 OkHttp가 닫으므로 generator 종료 시 대상 스트림을 닫지 않음
+        try (JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(sink.outputStream(), JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            objectMapper.writeValue(generator, value);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package kr.suhsaechan.ai.util;
+
+import kr.suhsaechan.ai.model.JsonSchema;
+import kr.suhsaechan.ai.model.PropertySchema;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonSchema를 Ollama 네이티브 구조화 출력용 format(표준 JSON Schema)으로 변환하는 유틸리티
+ *
+ * <p>서버는 이 스키마로 디코딩 문법을 제한하므로 프롬프트 증강 없이도 스키마에 맞는 JSON만 생성됩니다.
+ * 중첩 객체(nested)는 properties/required로 펼치고, enumValues는 enum으로, 불리언 exclusiveMinimum/Maximum은
+ * 숫자 경계로 바꿉니다. 예시값(example)처럼 문법 제한에 쓰이지 않는 값은 제외합니다.</p>
+ */
+public class JsonSchemaFormatConverter {
+
+    private JsonSchemaFormatConverter() {
+    }
+
+    /**
+     * format 필드 값 생성
+     *
+     * @param schema JSON 스키마
+     * @return JSON Schema 맵 (schema가 null이면 null)
+     */
+    public static Map<String, Object> convert(JsonSchema schema) {
+        if (schema == null) {
+            return null;
+        }
+
+        Map<String, Object> format = new LinkedHashMap<>();
+        String type = schema.getType() != null ? schema.getType() : "object";
+        format.put("type", type);
+        putIfNotNull(format, "title", schema.getTitle());
+        putIfNotNull(format, "description", schema.getDescription());
+
+        if ("array".equals(type)) {
+            if (schema.getItems() != null) {
+                format.put("items", convert(schema.getItems()));
+            }
+            return format;
+        }
+        putObjectMembers(format, schema.getProperties(), schema.getRequiredFields());
+        return format;
+    }
+
+    private static Map<String, Object> convertProperty(PropertySchema property) {
+        Map<String, Object> format;
+        if (property.getNested() != null) {
+            format = convert(property.getNested());
+            if (property.getDescription() != null) {
+                format.put("description", property.getDescription());
+            }
+            return format;
+        }
+
+        format = new LinkedHashMap<>();
+        putIfNotNull(format, "type", property.getType());
+        putIfNotNull(format, "description", property.getDescription());
+        putIfNotNull(format, "enum", property.getEnumValues());
+        putIfNotNull(format, "format", property.getFormat());
+        putIfNotNull(format, "pattern", property.getPattern());
+        putIfNotNull(format, "minLength", property.getMinLength());
+        putIfNotNull(format, "maxLength", property.getMaxLength());
+        putIfNotNull(format, Boolean.TRUE.equals(property.getExclusiveMinimum()) ? "exclusiveMinimum" : "minimum",
+                property.getMinimum());
+        putIfNotNull(format, Boolean.TRUE.equals(property.getExclusiveMaximum()) ? "exclusiveMaximum" : "maximum",
+                property.getMaximum());
+        if (property.getItems() != null) {
+            format.put("items", convertProperty(property.getItems()));
+        }
+        putIfNotNull(format, "minItems", property.getMinItems());
+        putIfNotNull(format, "maxItems", property.getMaxItems());
+        putIfNotNull(format, "uniqueItems", property.getUniqueItems());
+        if (property.getProperties() != null) {
+            putObjectMembers(format, property.getProperties(), null);
+        }
+        return format;
+    }
+
+    private static void putObjectMembers(Map<String, Object> format, Map<String, PropertySchema> properties,
+                                         List<String> requiredFields) {
+        Map<String, Object> converted = new LinkedHashMap<>();
+        if (properties != null) {
+            for (Map.Entry<String, PropertySchema> entry : properties.entrySet()) {
+                if (entry.getValue() != null) {
+                    converted.put(entry.getKey(), convertProperty(entry.getValue()));
+                }
+            }
+        }
+        format.put("properties", converted);
+        if (requiredFields != null && !requiredFields.isEmpty()) {
+            format.put("required", new ArrayList<>(requiredFields));
+        }
+    }
+
+    private static void putIfNotNull(Map<String, Object> format, String key, Object value) {
+        if (value != null) {
+            format.put(key, value);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package kr.suhsaechan.ai.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.suhsaechan.ai.model.SuhAiderResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DiskResponseCache 테스트
+ */
+class DiskResponseCacheTest {
+
+    private static final int SEGMENT_SIZE = 1024;
+    private static final long MAX_TOTAL = 2 * SEGMENT_SIZE;
+
+    /**
+     * [int magic][int keyLength][int valueLength][long expiresAt]
+     */
+    private static final int HEADER_BYTES = 4 + 4 + 4 + 8;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    private static SuhAiderResponse response(String text) {
+        return SuhAiderResponse.builder()
+                .model("gemma3:4b")
+                .response(text)
+                .done(true)
+                .build();
+    }
+
+    private DiskResponseCache open() {
+        return new DiskResponseCache(directory, SEGMENT_SIZE, MAX_TOTAL, 0, objectMapper);
+    }
+
+    private long segmentFileCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("segment-")).count();
+        }
+    }
+
+    @Test
+    @DisplayName("재시작 시 세그먼트 스캔으로 인덱스 복구 테스트")
+    void testRecoverAfterReopen() {
+        // Given
+        DiskResponseCache cache = open();
+        cache.put("k1", response("first"));
+        cache.put("k2", response("second"));
+        cache.put("k1", response("updated"));
+        cache.close();
+
+        // When
+        DiskResponseCache reopened = open();
+
+        // Then: 같은 키는 마지막 기록이 유효
+        assertEquals("updated", reopened.get("k1").getResponse());
+        assertEquals("second", reopened.get("k2").getResponse());
+        assertEquals(2, reopened.getStats().getEntryCount());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("magic이 기록되지 않은 마지막 레코드(기록 중 종료)는 복구에서 제외 테스트")
+    void testTornTailIsIgnored() throws IOException {
+        // Given: a, b 기록 후 b의 magic을 지워 기록 중 종료된 상태를 만듦
+        DiskResponseCache cache = open();
+        cache.put("a", response("A"));
+        cache.put("b", response("B"));
+        cache.close();
+
+        int tornOffset = HEADER_BYTES + 1 + objectMapper.writeValueAsBytes(response("A")).length;
+        try (FileChannel channel = FileChannel.open(directory.resolve("segment-000000000001.dat"),
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4), tornOffset);
+        }
+
+        // When
+        DiskResponseCache reopened = open();
+
+        // Then: a만 복구되고, 새 기록은 불완전한 레코드 자리부터 이어서 기록됨
+        assertEquals("A", reopened.get("a").getResponse());
+        assertNull(reopened.get("b"));
+
+        reopened.put("c", response("C"));
+        reopened.close();
+
+        DiskResponseCache again = open();
+        assertEquals("A", again.get("a").getResponse());
+        assertNull(again.get("b"));
+        assertEquals("C", again.get("c").getResponse());
+        again.close();
+    }
+
+    @Test
+    @DisplayName("유효 데이터가 많으면 압축 시 오래된 항목부터 제거 테스트")
+    void testCompactionEvictsOldestWhenLiveDataIsLarge() throws IOException {
+        // Given
+        DiskResponseCache cache = open();
+        String text = "x".repeat(100);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            cache.put("k" + i, response(text + i));
+            cache.compact();
+        }
+
+        // Then
+        assertTrue(segmentFileCount() <= MAX_TOTAL / SEGMENT_SIZE);
+        assertNull(cache.get("k0"));
+        assertEquals(text + 19, cache.get("k19").getResponse());
+
+        CacheStats stats = cache.getStats();
+        assertTrue(stats.getEvictionCount() > 0);
+        assertTrue(stats.getWeightBytes() <= MAX_TOTAL);
+        cache.close();
+    }
+
+    @Test
+    @DisplayName("유효 데이터가 적으면 압축 시 최신 세그먼트로 옮겨 유지 테스트")
+    void testCompactionRetainsLiveEntries() throws IOException {
+        // Given: keep은 한 번만 기록, hot은 계속 덮어써서 오래된 세그먼트에는 죽은 레코드만 쌓임
+        DiskResponseCache cache = open();
+        String text = "x".repeat(100);
+        cache.put("keep", response("kept"));
+
+        // When
+        for (int i = 0; i < 30; i++) {
+            cache.put("hot", response(text + i));
+            cache.compact();
+        }
+
+        // Then
+        assertTrue(segmentFileCount() <= MAX_TOTAL / SEGMENT_SIZE);
+        assertEquals("kept", cache.get("keep").getResponse());
+        assertEquals(text + 29, cache.get("hot").getResponse());
+        assertEquals(0, cache.getStats().getEvictionCount());
+        cache.close();
+
+        // 옮겨진 항목도 재시작 후 복구됨
+        DiskResponseCache reopened = open();
+        assertEquals("kept", reopened.get("keep").getResponse());
+        reopened.close();
+    }
+}
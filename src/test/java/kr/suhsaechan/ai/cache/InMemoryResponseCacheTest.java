@@ -0,0 +1,101 @@
+package kr.suhsaechan.ai.cache;
+
+import kr.suhsaechan.ai.model.SuhAiderResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * InMemoryResponseCache 테스트
+ */
+class InMemoryResponseCacheTest {
+
+    private static SuhAiderResponse response(String text) {
+        return SuhAiderResponse.builder()
+                .model("gemma3:4b")
+                .response(text)
+                .done(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("히트/미스 통계 및 사본 반환 테스트")
+    void testHitMissAndDefensiveCopy() {
+        // Given
+        InMemoryResponseCache cache = new InMemoryResponseCache(10, 1024 * 1024, 0);
+        cache.put("k1", response("{\"ok\":true}"));
+
+        // When
+        SuhAiderResponse hit = cache.get("k1");
+        hit.setResponse("changed");
+        SuhAiderResponse again = cache.get("k1");
+        SuhAiderResponse miss = cache.get("k2");
+
+        // Then
+        assertEquals("{\"ok\":true}", again.getResponse());
+        assertNull(miss);
+
+        CacheStats stats = cache.getStats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getEntryCount());
+    }
+
+    @Test
+    @DisplayName("최대 항목 수 초과 시 LRU 제거 테스트")
+    void testLruEvictionByEntries() {
+        // Given
+        InMemoryResponseCache cache = new InMemoryResponseCache(2, 1024 * 1024, 0);
+        cache.put("a", response("A"));
+        cache.put("b", response("B"));
+
+        // When: a를 최근 사용으로 만든 뒤 c 추가 → b 제거
+        cache.get("a");
+        cache.put("c", response("C"));
+
+        // Then
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("최대 용량 초과 시 제거 테스트")
+    void testEvictionByWeight() {
+        // Given: 항목 하나가 약 2KB
+        InMemoryResponseCache cache = new InMemoryResponseCache(100, 5 * 1024, 0);
+        String large = "x".repeat(1000);
+
+        // When
+        cache.put("a", response(large));
+        cache.put("b", response(large));
+        cache.put("c", response(large));
+
+        // Then
+        assertNull(cache.get("a"));
+        assertTrue(cache.getStats().getWeightBytes() <= 5 * 1024);
+    }
+
+    @Test
+    @DisplayName("TTL 만료 테스트")
+    void testTtlExpiry() {
+        // Given
+        AtomicLong now = new AtomicLong(0);
+        InMemoryResponseCache cache = new InMemoryResponseCache(10, 1024 * 1024, 60, now::get);
+        cache.put("k", response("v"));
+
+        // When & Then
+        now.set(TimeUnit.SECONDS.toNanos(59));
+        assertNotNull(cache.get("k"));
+
+        now.set(TimeUnit.SECONDS.toNanos(61));
+        assertNull(cache.get("k"));
+        assertEquals(1, cache.getStats().getExpiredCount());
+        assertEquals(0, cache.getStats().getEntryCount());
+    }
+}
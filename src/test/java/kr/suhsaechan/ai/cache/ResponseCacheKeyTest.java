@@ -0,0 +1,51 @@
+package kr.suhsaechan.ai.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.suhsaechan.ai.model.GenerateOptions;
+import kr.suhsaechan.ai.model.JsonSchema;
+import kr.suhsaechan.ai.util.JsonSchemaFormatConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResponseCacheKey 테스트
+ */
+class ResponseCacheKeyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonSchema schema = JsonSchema.of("result", "string");
+
+    @Test
+    @DisplayName("format이 다르면 프롬프트와 스키마가 같아도 다른 키")
+    void testFormatChangesKey() {
+        // When
+        String plain = ResponseCacheKey.of("gemma3:4b", "hello", schema, null, null, objectMapper);
+        String json = ResponseCacheKey.of("gemma3:4b", "hello", schema, "json", null, objectMapper);
+        String nativeSchema = ResponseCacheKey.of("gemma3:4b", "hello", schema,
+                JsonSchemaFormatConverter.convert(schema), null, objectMapper);
+
+        // Then
+        assertNotEquals(plain, json);
+        assertNotEquals(plain, nativeSchema);
+        assertNotEquals(json, nativeSchema);
+        assertEquals(64, json.length());
+    }
+
+    @Test
+    @DisplayName("빈 옵션은 옵션 없음과 같은 키, 값이 있는 옵션은 다른 키")
+    void testEmptyOptionsMatchNoOptions() {
+        // When
+        String none = ResponseCacheKey.of("gemma3:4b", "hello", schema, null, null, objectMapper);
+        String empty = ResponseCacheKey.of("gemma3:4b", "hello", schema, null,
+                GenerateOptions.builder().build(), objectMapper);
+        String tuned = ResponseCacheKey.of("gemma3:4b", "hello", schema, null,
+                GenerateOptions.builder().temperature(0.0).build(), objectMapper);
+
+        // Then
+        assertEquals(none, empty);
+        assertNotEquals(none, tuned);
+        assertEquals(none, ResponseCacheKey.of("gemma3:4b", "hello", schema, null, null, objectMapper));
+    }
+}
@@ -0,0 +1,119 @@
+package kr.suhsaechan.ai.circuit;
+
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CircuitBreaker 테스트
+ */
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        SuhAiderConfig.CircuitBreaker settings = new SuhAiderConfig.CircuitBreaker();
+        settings.setSlidingWindowSize(4);
+        settings.setMinimumNumberOfCalls(4);
+        settings.setFailureRateThreshold(50);
+        settings.setWaitDurationInOpenStateSeconds(10);
+        settings.setPermittedCallsInHalfOpenState(1);
+        breaker = new CircuitBreaker("http://localhost:11434", settings, clock::get);
+    }
+
+    @Test
+    @DisplayName("실패율이 기준 이상이면 OPEN으로 전이하고 호출을 즉시 거부")
+    void testOpensWhenFailureRateExceeded() {
+        // Given
+        breaker.tryAcquire().onSuccess();
+        breaker.tryAcquire().onSuccess();
+        breaker.tryAcquire().onError();
+
+        // When
+        breaker.tryAcquire().onError();
+
+        // Then
+        assertEquals(CircuitState.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 미만이면 모두 실패해도 CLOSED 유지")
+    void testStaysClosedBelowMinimumCalls() {
+        // When
+        breaker.tryAcquire().onError();
+        breaker.tryAcquire().onError();
+        breaker.tryAcquire().onError();
+
+        // Then
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+        assertNotNull(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("대기 시간 후 시험 호출이 성공하면 CLOSED로 복귀")
+    void testHalfOpenSuccessCloses() {
+        // Given
+        openBreaker();
+        clock.addAndGet(10_000);
+
+        // When
+        CircuitBreaker.Permit trial = breaker.tryAcquire();
+
+        // Then
+        assertNotNull(trial);
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire(), "시험 호출 수를 넘는 요청은 거부");
+
+        trial.onSuccess();
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getStatus().getBufferedCalls());
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 OPEN")
+    void testHalfOpenFailureReopens() {
+        // Given
+        openBreaker();
+        clock.addAndGet(10_000);
+
+        // When
+        breaker.tryAcquire().onError();
+
+        // Then
+        assertEquals(CircuitState.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("OPEN 이전에 시작된 호출의 결과는 무시")
+    void testStaleResultIgnored() {
+        // Given
+        CircuitBreaker.Permit stale = breaker.tryAcquire();
+        openBreaker();
+        clock.addAndGet(10_000);
+        CircuitBreaker.Permit trial = breaker.tryAcquire();
+
+        // When
+        stale.onSuccess();
+
+        // Then
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+        trial.release();
+        assertNotNull(breaker.tryAcquire(), "반환된 시험 허가는 다시 사용 가능");
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquire().onError();
+        }
+        assertEquals(CircuitState.OPEN, breaker.getState());
+    }
+}
@@ -0,0 +1,149 @@
+package kr.suhsaechan.ai.concurrent;
+
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import kr.suhsaechan.ai.exception.SuhAiderErrorCode;
+import kr.suhsaechan.ai.exception.SuhAiderException;
+import kr.suhsaechan.ai.model.RequestPriority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdaptiveConcurrencyLimiter 테스트
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long TEN_MILLIS = 10_000_000L;
+
+    private SuhAiderConfig.ConcurrencyLimit settings;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        settings = new SuhAiderConfig.ConcurrencyLimit();
+        settings.setInitialLimit(2);
+        settings.setMinLimit(1);
+        settings.setMaxLimit(8);
+        settings.setBackoffRatio(0.5);
+        settings.setMaxQueueSize(1);
+        settings.setQueueTimeoutMillis(0);
+        limiter = new AdaptiveConcurrencyLimiter("http://localhost:11434#gemma3:latest", settings, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 대기열에서 기다리고, 허가가 반환되면 이어서 실행")
+    void testQueuesBeyondLimit() throws Exception {
+        // Given
+        AdaptiveConcurrencyLimiter.Permit first = limiter.acquire().get();
+        limiter.acquire().get();
+
+        // When
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> waiting = limiter.acquire();
+        assertFalse(waiting.isDone());
+        first.onSuccess(TEN_MILLIS, 0);
+
+        // Then
+        assertTrue(waiting.isDone());
+        assertEquals(2, limiter.getStatus().getInFlight());
+    }
+
+    @Test
+    @DisplayName("BATCH 요청이 먼저 대기 중이어도 INTERACTIVE 요청이 먼저 허가됨")
+    void testInteractiveBeforeBatch() throws Exception {
+        // Given
+        AdaptiveConcurrencyLimiter.Permit first = limiter.acquire().get();
+        limiter.acquire().get();
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> batch = limiter.acquire(RequestPriority.BATCH, "report");
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> interactive = limiter.acquire(RequestPriority.INTERACTIVE, "chat");
+
+        // When
+        first.release();
+
+        // Then
+        assertTrue(interactive.isDone());
+        assertFalse(batch.isDone());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 OVERLOADED로 즉시 실패")
+    void testRejectsWhenQueueFull() throws Exception {
+        // Given
+        limiter.acquire().get();
+        limiter.acquire().get();
+        limiter.acquire();
+
+        // When
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> rejected = limiter.acquire();
+
+        // Then
+        ExecutionException e = assertThrows(ExecutionException.class, rejected::get);
+        assertEquals(SuhAiderErrorCode.OVERLOADED, ((SuhAiderException) e.getCause()).getErrorCode());
+    }
+
+    @Test
+    @DisplayName("토큰당 생성 시간이 기준값의 허용 배수를 넘으면 한도 감소")
+    void testDecreasesOnSlowTokens() throws Exception {
+        // Given
+        limiter.acquire().get().onSuccess(TEN_MILLIS, 0);
+
+        // When
+        limiter.acquire().get().onSuccess(TEN_MILLIS * 3, 0);
+
+        // Then
+        assertEquals(1, limiter.getStatus().getLimit());
+    }
+
+    @Test
+    @DisplayName("한도를 충분히 사용하며 정상 완료되면 한도 증가, 과부하 오류면 한도 감소")
+    void testAdditiveIncreaseMultiplicativeDecrease() throws Exception {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            AdaptiveConcurrencyLimiter.Permit first = limiter.acquire().get();
+            AdaptiveConcurrencyLimiter.Permit second = limiter.acquire().get();
+            first.onSuccess(TEN_MILLIS, 0);
+            second.onSuccess(TEN_MILLIS, 0);
+        }
+        int grown = limiter.getStatus().getLimit();
+        assertTrue(grown > 2);
+
+        // When
+        limiter.acquire().get().onOverload();
+
+        // Then
+        assertEquals(Math.max(1, grown / 2), limiter.getStatus().getLimit());
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 지정한 Executor에서 OVERLOADED로 실패")
+    void testQueueTimeoutCompletesOnExecutor() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "limiter-test"));
+        settings.setQueueTimeoutMillis(20);
+        AdaptiveConcurrencyLimiter timed = new AdaptiveConcurrencyLimiter("timed", settings, executor);
+        timed.acquire().get();
+        timed.acquire().get();
+        AtomicReference<String> completedOn = new AtomicReference<>();
+
+        try {
+            // When
+            CompletableFuture<AdaptiveConcurrencyLimiter.Permit> waiting = timed.acquire();
+            waiting.whenComplete((permit, error) -> completedOn.set(Thread.currentThread().getName()));
+
+            // Then
+            ExecutionException e = assertThrows(ExecutionException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+            assertEquals(SuhAiderErrorCode.OVERLOADED, ((SuhAiderException) e.getCause()).getErrorCode());
+            assertEquals("limiter-test", completedOn.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package kr.suhsaechan.ai.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SingleFlight 테스트
+ */
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>(UnaryOperator.identity());
+
+    @Test
+    @DisplayName("진행 중인 동일 키 요청은 하나의 작업을 공유")
+    void testConcurrentCallsShareOneLoad() throws Exception {
+        // Given
+        AtomicInteger loadCount = new AtomicInteger();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<String> first = singleFlight.execute("key", () -> {
+            loadCount.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<String> second = singleFlight.execute("key", () -> {
+            loadCount.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        upstream.complete("result");
+
+        // Then
+        assertEquals(1, loadCount.get());
+        assertEquals("result", first.get());
+        assertEquals("result", second.get());
+
+        SingleFlightStats stats = singleFlight.getStats();
+        assertEquals(1, stats.getLeaderCount());
+        assertEquals(1, stats.getDeduplicatedCount());
+        assertEquals(0, stats.getInFlightCount());
+    }
+
+    @Test
+    @DisplayName("완료된 키는 제거되어 다음 요청이 새 작업을 시작")
+    void testCompletedKeyStartsNewLoad() throws Exception {
+        // Given
+        singleFlight.execute("key", () -> CompletableFuture.completedFuture("first")).get();
+
+        // When
+        String result = singleFlight.execute("key", () -> CompletableFuture.completedFuture("second")).get();
+
+        // Then
+        assertEquals("second", result);
+        assertEquals(2, singleFlight.getStats().getLeaderCount());
+    }
+
+    @Test
+    @DisplayName("실패는 모든 호출자에게 원인 예외 그대로 전달")
+    void testFailurePropagatesToAllCallers() {
+        // Given
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("key", () -> upstream);
+        CompletableFuture<String> second = singleFlight.execute("key", () -> upstream);
+
+        // When
+        upstream.completeExceptionally(new IllegalStateException("boom"));
+
+        // Then
+        ExecutionException error = assertThrows(ExecutionException.class, second::get);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertTrue(first.isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("일부 호출자 취소는 작업을 유지하고, 모두 취소하면 작업도 취소")
+    void testCancelOnlyWhenAllCallersCancel() {
+        // Given
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("key", () -> upstream);
+        CompletableFuture<String> second = singleFlight.execute("key", () -> upstream);
+
+        // When & Then
+        first.cancel(true);
+        assertFalse(upstream.isCancelled());
+
+        second.cancel(true);
+        assertTrue(upstream.isCancelled());
+        assertEquals(0, singleFlight.getStats().getInFlightCount());
+    }
+}
@@ -0,0 +1,79 @@
+package kr.suhsaechan.ai.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WeightedFairQueue 테스트
+ */
+class WeightedFairQueueTest {
+
+    @Test
+    @DisplayName("한 테넌트가 먼저 많이 넣어도 다른 테넌트 항목이 번갈아 나옴")
+    void testInterleavesTenants() {
+        // Given
+        WeightedFairQueue<String> queue = new WeightedFairQueue<>(tenant -> 1);
+        for (int i = 0; i < 3; i++) {
+            queue.add("batch", "b" + i);
+        }
+        queue.add("chat", "c0");
+
+        // When
+        List<String> order = drain(queue);
+
+        // Then
+        assertEquals(List.of("b0", "c0", "b1", "b2"), order);
+    }
+
+    @Test
+    @DisplayName("가중치에 비례해 항목을 꺼냄")
+    void testRespectsWeights() {
+        // Given
+        Map<String, Integer> weights = Map.of("heavy", 3, "light", 1);
+        WeightedFairQueue<String> queue = new WeightedFairQueue<>(weights::get);
+        for (int i = 0; i < 8; i++) {
+            queue.add("heavy", "heavy");
+            queue.add("light", "light");
+        }
+
+        // When
+        List<String> firstEight = drain(queue).subList(0, 8);
+
+        // Then
+        assertEquals(6, Collections.frequency(firstEight, "heavy"));
+        assertEquals(2, Collections.frequency(firstEight, "light"));
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 항목을 제거하고 크기를 갱신")
+    void testRemoveIf() {
+        // Given
+        WeightedFairQueue<String> queue = new WeightedFairQueue<>(tenant -> 1);
+        queue.add("a", "keep");
+        queue.add("b", "drop");
+
+        // When
+        queue.removeIf("drop"::equals);
+
+        // Then
+        assertEquals(1, queue.size());
+        assertEquals("keep", queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    private static List<String> drain(WeightedFairQueue<String> queue) {
+        List<String> drained = new ArrayList<>();
+        String next;
+        while ((next = queue.poll()) != null) {
+            drained.add(next);
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,83 @@
+package kr.suhsaechan.ai.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SuhAiderConfig 프로퍼티 바인딩 테스트 (모델명 키)
+ */
+class SuhAiderConfigBindingTest {
+
+    private static SuhAiderConfig bind(Map<String, String> properties) {
+        return new Binder(new MapConfigurationPropertySource(properties))
+                .bind("suh.aider", SuhAiderConfig.class)
+                .get();
+    }
+
+    @Test
+    @DisplayName("모델별 생성 옵션 - 대괄호 키는 ':'를 유지")
+    void testModelOptionsBracketKey() {
+        // Given
+        Map<String, String> properties = Map.of(
+                "suh.aider.model-options.models.[qwen3:8b].num-predict", "256",
+                "suh.aider.model-options.models.qwen3:4b.num-predict", "64");
+
+        // When
+        SuhAiderConfig config = bind(properties);
+
+        // Then
+        Map<String, ?> models = config.getModelOptions().getModels();
+        assertEquals(256, (int) config.getModelOptions().getModels().get("qwen3:8b").getNumPredict());
+        // 대괄호가 없으면 ':'가 제거되어 모델명과 일치하지 않음
+        assertTrue(models.containsKey("qwen34b"));
+        assertFalse(models.containsKey("qwen3:4b"));
+    }
+
+    @Test
+    @DisplayName("모델별 속도 제한 - 대괄호 키는 ':'를 유지")
+    void testRateLimitBracketKey() {
+        // Given
+        Map<String, String> properties = Map.of(
+                "suh.aider.rate-limit.models.[gemma3:4b].requests-per-second", "5",
+                "suh.aider.rate-limit.models.[gemma3:4b].tokens-per-minute", "60000");
+
+        // When
+        SuhAiderConfig config = bind(properties);
+
+        // Then
+        SuhAiderConfig.RateLimit.Quota quota = config.getRateLimit().getModels().get("gemma3:4b");
+        assertNotNull(quota);
+        assertEquals(5.0, quota.getRequestsPerSecond());
+        assertEquals(60000L, quota.getTokensPerMinute());
+    }
+
+    @Test
+    @DisplayName("회로 차단기는 기본 비활성화, enabled=true로 켬")
+    void testCircuitBreakerIsOptIn() {
+        // When
+        SuhAiderConfig defaults = bind(Map.of("suh.aider.base-url", "http://localhost:11434"));
+        SuhAiderConfig enabled = bind(Map.of("suh.aider.circuit-breaker.enabled", "true"));
+
+        // Then
+        assertFalse(defaults.getCircuitBreaker().isEnabled());
+        assertTrue(enabled.getCircuitBreaker().isEnabled());
+    }
+
+    @Test
+    @DisplayName("재시도는 기본 비활성화, enabled=true로 켬")
+    void testRetryIsOptIn() {
+        // When
+        SuhAiderConfig defaults = bind(Map.of("suh.aider.base-url", "http://localhost:11434"));
+        SuhAiderConfig enabled = bind(Map.of("suh.aider.retry.enabled", "true"));
+
+        // Then
+        assertFalse(defaults.getRetry().isEnabled());
+        assertTrue(enabled.getRetry().isEnabled());
+    }
+}
@@ -0,0 +1,212 @@
+package kr.suhsaechan.ai.endpoint;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EndpointBalancer 테스트
+ * 선택은 무작위이므로 결과가 항상 같아야 하는 조건을 여러 번 반복해 확인합니다.
+ */
+class EndpointBalancerTest {
+
+    private static final int ROUNDS = 200;
+
+    private static EndpointBalancer balancer(int nodes) {
+        return balancer(nodes, 0);
+    }
+
+    private static EndpointBalancer balancer(int nodes, int modelSpilloverThreshold) {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < nodes; i++) {
+            urls.add("http://gpu-" + i + ":11434");
+        }
+        return new EndpointBalancer(urls, modelSpilloverThreshold);
+    }
+
+    private static void busy(Endpoint endpoint, int outstanding) {
+        for (int i = 0; i < outstanding; i++) {
+            endpoint.acquire();
+        }
+    }
+
+    @Test
+    @DisplayName("두 후보 중 진행 중인 요청이 적은 노드 선택 (가장 바쁜 노드는 선택되지 않음)")
+    void testPowerOfTwoChoicesAvoidsBusiestNode() {
+        // Given
+        EndpointBalancer balancer = balancer(3);
+        Endpoint idle = balancer.getEndpoints().get(0);
+        Endpoint moderate = balancer.getEndpoints().get(1);
+        Endpoint busiest = balancer.getEndpoints().get(2);
+        busy(moderate, 5);
+        busy(busiest, 10);
+
+        // When
+        Set<Endpoint> selected = new HashSet<>();
+        for (int i = 0; i < ROUNDS; i++) {
+            selected.add(balancer.select());
+        }
+
+        // Then: 어떤 두 후보 쌍에도 busiest보다 한가한 노드가 있음
+        assertFalse(selected.contains(busiest));
+        assertTrue(selected.contains(idle));
+    }
+
+    @Test
+    @DisplayName("DEGRADED 노드보다 UP 노드 우선 (진행 중인 요청 수와 무관)")
+    void testUpPreferredOverDegraded() {
+        // Given
+        EndpointBalancer balancer = balancer(2);
+        Endpoint degraded = balancer.getEndpoints().get(0);
+        Endpoint up = balancer.getEndpoints().get(1);
+        degraded.recordProbeFailure(2);
+        busy(up, 3);
+
+        // When & Then
+        assertEquals(EndpointState.DEGRADED, degraded.getState());
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(up, balancer.select());
+        }
+    }
+
+    @Test
+    @DisplayName("DOWN 노드는 선택하지 않음")
+    void testDownNodeExcluded() {
+        // Given
+        EndpointBalancer balancer = balancer(3);
+        Endpoint down = balancer.getEndpoints().get(1);
+        down.markDown();
+
+        // When & Then
+        for (int i = 0; i < ROUNDS; i++) {
+            assertNotSame(down, balancer.select());
+            assertNotSame(down, balancer.select("gemma3:4b"));
+        }
+        assertTrue(balancer.isAnyHealthy());
+    }
+
+    @Test
+    @DisplayName("정상 노드가 없으면 전체 노드 중에서 선택 (fail-open)")
+    void testFailOpenWhenNothingHealthy() {
+        // Given
+        EndpointBalancer balancer = balancer(2);
+        balancer.getEndpoints().forEach(Endpoint::markDown);
+
+        // When
+        Set<Endpoint> selected = new HashSet<>();
+        for (int i = 0; i < ROUNDS; i++) {
+            selected.add(balancer.select());
+            assertNotNull(balancer.select("gemma3:4b"));
+        }
+
+        // Then
+        assertFalse(balancer.isAnyHealthy());
+        assertEquals(2, selected.size());
+    }
+
+    @Test
+    @DisplayName("selectExcluding은 제외한 노드와 DOWN 노드를 선택하지 않고, 남은 노드가 없으면 null")
+    void testSelectExcluding() {
+        // Given
+        EndpointBalancer balancer = balancer(3);
+        Endpoint primary = balancer.getEndpoints().get(0);
+        Endpoint down = balancer.getEndpoints().get(1);
+        Endpoint other = balancer.getEndpoints().get(2);
+        down.markDown();
+
+        // When & Then
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(other, balancer.selectExcluding("gemma3:4b", primary));
+            assertSame(other, balancer.selectExcluding(null, primary));
+        }
+
+        other.markDown();
+        assertNull(balancer.selectExcluding("gemma3:4b", primary));
+    }
+
+    @Test
+    @DisplayName("모델이 로드된 노드 → 설치된 노드 → 전체 노드 순서로 선택")
+    void testModelPreferenceLoadedThenInstalledThenAll() {
+        // Given
+        EndpointBalancer balancer = balancer(3);
+        Endpoint loaded = balancer.getEndpoints().get(0);
+        Endpoint installed = balancer.getEndpoints().get(1);
+        Endpoint other = balancer.getEndpoints().get(2);
+        loaded.updateInstalledModels(List.of("gemma3:4b"));
+        loaded.updateLoadedModels(List.of("gemma3:4b"));
+        installed.updateInstalledModels(List.of("gemma3:4b", "llama3"));
+        other.updateInstalledModels(List.of("qwen3:8b"));
+
+        // When & Then: 어디에도 설치되지 않았으면 전체 정상 노드 중에서 선택
+        Set<Endpoint> selected = new HashSet<>();
+        for (int i = 0; i < ROUNDS; i++) {
+            selected.add(balancer.select("mistral"));
+        }
+        assertEquals(3, selected.size());
+
+        // 로드된 노드가 바빠도 로드된 노드 우선
+        busy(loaded, 3);
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(loaded, balancer.select("gemma3:4b"));
+        }
+
+        // 로드된 노드가 없으면 설치된 노드 (태그 생략 = :latest)
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(installed, balancer.select("llama3:latest"));
+        }
+    }
+
+    @Test
+    @DisplayName("로드된 노드의 진행 중인 요청이 임계값 이상이면 설치된 노드로 분산")
+    void testSpilloverToInstalledNodes() {
+        // Given: 임계값 2
+        EndpointBalancer balancer = balancer(3, 2);
+        Endpoint loaded = balancer.getEndpoints().get(0);
+        Endpoint installed = balancer.getEndpoints().get(1);
+        Endpoint other = balancer.getEndpoints().get(2);
+        loaded.updateInstalledModels(List.of("gemma3:4b"));
+        loaded.updateLoadedModels(List.of("gemma3:4b"));
+        installed.updateInstalledModels(List.of("gemma3:4b"));
+        other.updateInstalledModels(List.of("qwen3:8b"));
+
+        // When & Then: 임계값 미만이면 로드된 노드
+        busy(loaded, 1);
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(loaded, balancer.select("gemma3:4b"));
+        }
+
+        // 임계값 도달 → 설치된 노드(로드된 노드 포함)로 넓혀 덜 바쁜 쪽 선택, 미설치 노드는 제외
+        busy(loaded, 1);
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(installed, balancer.select("gemma3:4b"));
+        }
+    }
+
+    @Test
+    @DisplayName("DOWN 노드에 모델이 로드되어 있어도 선택하지 않음")
+    void testLoadedButDownNodeSkipped() {
+        // Given
+        EndpointBalancer balancer = balancer(2);
+        Endpoint loaded = balancer.getEndpoints().get(0);
+        Endpoint fallback = balancer.getEndpoints().get(1);
+        loaded.updateLoadedModels(List.of("gemma3:4b"));
+        loaded.markDown();
+
+        // When & Then
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(fallback, balancer.select("gemma3:4b"));
+        }
+    }
+
+    @Test
+    @DisplayName("URL 목록이 비어 있으면 생성 실패")
+    void testRequiresAtLeastOneUrl() {
+        assertThrows(IllegalArgumentException.class, () -> new EndpointBalancer(List.of(), 0));
+    }
+}
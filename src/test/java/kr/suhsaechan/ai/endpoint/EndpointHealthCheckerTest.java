@@ -0,0 +1,170 @@
+package kr.suhsaechan.ai.endpoint;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EndpointHealthChecker 테스트
+ */
+class EndpointHealthCheckerTest {
+
+    private static final long NO_PERIODIC_REFRESH = 0;
+    private static final long ONE_HOUR_MILLIS = 3_600_000L;
+
+    private final EndpointBalancer balancer = new EndpointBalancer(List.of("http://localhost:11434"), 0);
+    private final Endpoint endpoint = balancer.getEndpoints().get(0);
+    private final AtomicBoolean probeResult = new AtomicBoolean(true);
+    private final AtomicInteger refreshCount = new AtomicInteger();
+
+    private EndpointHealthChecker checker(int failureThreshold, long modelRefreshIntervalMillis) {
+        return new EndpointHealthChecker(balancer, e -> probeResult.get(), e -> {
+            refreshCount.incrementAndGet();
+            return true;
+        }, failureThreshold, 0, modelRefreshIntervalMillis);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 기준 미만이면 DEGRADED, 기준 이상이면 DOWN, 성공하면 UP으로 복귀")
+    void testStateTransitionsWithFailureThreshold() {
+        // Given
+        EndpointHealthChecker checker = checker(3, NO_PERIODIC_REFRESH);
+        probeResult.set(false);
+
+        // When & Then
+        assertFalse(checker.check(endpoint));
+        assertEquals(EndpointState.DEGRADED, endpoint.getState());
+        assertTrue(endpoint.isHealthy());
+
+        checker.check(endpoint);
+        assertEquals(EndpointState.DEGRADED, endpoint.getState());
+
+        checker.check(endpoint);
+        assertEquals(EndpointState.DOWN, endpoint.getState());
+        assertEquals(3, endpoint.getConsecutiveFailures());
+        assertFalse(checker.checkAll());
+
+        probeResult.set(true);
+        assertTrue(checker.check(endpoint));
+        assertEquals(EndpointState.UP, endpoint.getState());
+        assertEquals(0, endpoint.getConsecutiveFailures());
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수가 초기화되어 DOWN까지 다시 기준 횟수가 필요")
+    void testSuccessResetsFailureCount() {
+        // Given
+        EndpointHealthChecker checker = checker(2, NO_PERIODIC_REFRESH);
+
+        // When: 실패 → 성공 → 실패
+        probeResult.set(false);
+        checker.check(endpoint);
+        probeResult.set(true);
+        checker.check(endpoint);
+        probeResult.set(false);
+        checker.check(endpoint);
+
+        // Then
+        assertEquals(EndpointState.DEGRADED, endpoint.getState());
+        assertEquals(1, endpoint.getConsecutiveFailures());
+    }
+
+    @Test
+    @DisplayName("지연 EWMA가 기준을 넘으면 성공해도 DEGRADED")
+    void testSlowProbeDegrades() {
+        // Given: 기준 5ms, 프로브 20ms
+        EndpointHealthChecker checker = new EndpointHealthChecker(balancer, e -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }, e -> true, 2, 5, NO_PERIODIC_REFRESH);
+
+        // When
+        assertTrue(checker.check(endpoint));
+
+        // Then
+        assertEquals(EndpointState.DEGRADED, endpoint.getState());
+        assertTrue(endpoint.getLatencyEwmaMillis() >= 5);
+    }
+
+    @Test
+    @DisplayName("프로브 예외는 실패로 기록")
+    void testProbeExceptionCountsAsFailure() {
+        // Given
+        EndpointHealthChecker checker = new EndpointHealthChecker(balancer, e -> {
+            throw new IllegalStateException("boom");
+        }, e -> true, 1, 0, NO_PERIODIC_REFRESH);
+
+        // When & Then
+        assertFalse(checker.check(endpoint));
+        assertEquals(EndpointState.DOWN, endpoint.getState());
+    }
+
+    @Test
+    @DisplayName("모델 목록은 처음 정상 확인 시와 DOWN 복귀 시에만 갱신 (매 프로브마다 갱신하지 않음)")
+    void testModelRefreshOnlyOnFirstCheckAndRecovery() {
+        // Given
+        EndpointHealthChecker checker = checker(1, ONE_HOUR_MILLIS);
+
+        // When & Then: 첫 정상 확인 → 갱신, 이후 프로브는 갱신 안 함
+        checker.check(endpoint);
+        checker.check(endpoint);
+        checker.check(endpoint);
+        assertEquals(1, refreshCount.get());
+
+        // 실패한 프로브는 갱신하지 않음
+        probeResult.set(false);
+        checker.check(endpoint);
+        assertEquals(EndpointState.DOWN, endpoint.getState());
+        assertEquals(1, refreshCount.get());
+
+        // DOWN에서 복귀 → 갱신
+        probeResult.set(true);
+        checker.check(endpoint);
+        assertEquals(2, refreshCount.get());
+    }
+
+    @Test
+    @DisplayName("갱신 간격이 지나면 다시 갱신")
+    void testModelRefreshAfterInterval() throws InterruptedException {
+        // Given
+        EndpointHealthChecker checker = checker(1, 1);
+
+        // When
+        checker.check(endpoint);
+        Thread.sleep(5);
+        checker.check(endpoint);
+
+        // Then
+        assertEquals(2, refreshCount.get());
+    }
+
+    @Test
+    @DisplayName("모델 목록 갱신이 실패하면 다음 프로브에서 다시 시도")
+    void testFailedModelRefreshRetriedOnNextProbe() {
+        // Given
+        AtomicBoolean refreshSucceeds = new AtomicBoolean(false);
+        EndpointHealthChecker checker = new EndpointHealthChecker(balancer, e -> true, e -> {
+            refreshCount.incrementAndGet();
+            return refreshSucceeds.get();
+        }, 1, 0, ONE_HOUR_MILLIS);
+
+        // When & Then
+        checker.check(endpoint);
+        checker.check(endpoint);
+        assertEquals(2, refreshCount.get());
+
+        refreshSucceeds.set(true);
+        checker.check(endpoint);
+        checker.check(endpoint);
+        assertEquals(3, refreshCount.get());
+    }
+}
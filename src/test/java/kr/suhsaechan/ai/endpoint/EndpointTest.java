@@ -0,0 +1,26 @@
+package kr.suhsaechan.ai.endpoint;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Endpoint 테스트
+ */
+class EndpointTest {
+
+    @Test
+    @DisplayName("서버 버전 비교 (접미사 무시, 자릿수별 숫자 비교)")
+    void testVersionComparison() {
+        // Given
+        Endpoint endpoint = new Endpoint("http://localhost:11434");
+
+        // When & Then
+        assertFalse(endpoint.isVersionAtLeast("0.5.0"));
+        endpoint.updateServerVersion("0.10.1");
+        assertTrue(endpoint.isVersionAtLeast("0.5.0"));
+        assertEquals(0, Endpoint.compareVersions("0.5.0-rc1", "0.5"));
+        assertTrue(Endpoint.compareVersions("0.4.7", "0.5.0") < 0);
+    }
+}
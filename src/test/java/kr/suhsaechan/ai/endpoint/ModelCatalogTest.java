@@ -0,0 +1,69 @@
+package kr.suhsaechan.ai.endpoint;
+
+import kr.suhsaechan.ai.model.ModelInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ModelCatalog 테스트
+ */
+class ModelCatalogTest {
+
+    private static ModelInfo model(String name) {
+        return ModelInfo.builder().name(name).model(name).build();
+    }
+
+    @Test
+    @DisplayName(":latest 태그는 생략한 이름과 같은 모델로 조회")
+    void testLatestAlias() {
+        // Given
+        ModelCatalog catalog = ModelCatalog.empty().next(Arrays.asList(model("gemma3:latest"), model("qwen3")));
+
+        // When & Then
+        assertEquals("gemma3:latest", catalog.find("gemma3").getName());
+        assertEquals("gemma3:latest", catalog.find("gemma3:latest").getName());
+        assertEquals("qwen3", catalog.find("qwen3:latest").getName());
+        assertNull(catalog.find("gemma3:4b"));
+        assertNull(catalog.find(null));
+    }
+
+    @Test
+    @DisplayName("실제 이름이 별칭보다 우선하고 중복 이름은 먼저 나온 모델 사용")
+    void testExactNameWinsOverAlias() {
+        // Given
+        ModelInfo bare = model("gemma3");
+        ModelInfo tagged = model("gemma3:latest");
+
+        // When
+        ModelCatalog catalog = ModelCatalog.empty().next(Arrays.asList(bare, tagged, model("gemma3")));
+
+        // Then
+        assertSame(bare, catalog.find("gemma3"));
+        assertSame(tagged, catalog.find("gemma3:latest"));
+        assertEquals(2, catalog.size());
+    }
+
+    @Test
+    @DisplayName("갱신마다 버전이 증가하고 이전 스냅샷은 바뀌지 않음")
+    void testVersioning() {
+        // Given
+        ModelCatalog empty = ModelCatalog.empty();
+        ModelCatalog first = empty.next(Arrays.asList(model("gemma3:4b")));
+
+        // When
+        ModelCatalog second = first.next(Arrays.asList(model("qwen3:8b")));
+
+        // Then
+        assertEquals(0, empty.getVersion());
+        assertEquals(0, empty.getRefreshedAt());
+        assertEquals(1, first.getVersion());
+        assertEquals(2, second.getVersion());
+        assertTrue(first.contains("gemma3:4b"));
+        assertFalse(second.contains("gemma3:4b"));
+        assertThrows(UnsupportedOperationException.class, () -> second.getModels().add(model("x")));
+    }
+}
@@ -0,0 +1,29 @@
+package kr.suhsaechan.ai.endpoint;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ModelNames 테스트
+ */
+class ModelNamesTest {
+
+    @Test
+    @DisplayName("태그가 없으면 :latest를 붙이고, 태그가 있으면 그대로 유지")
+    void testNormalize() {
+        assertEquals("gemma3:latest", ModelNames.normalize("gemma3"));
+        assertEquals("gemma3:latest", ModelNames.normalize("gemma3:latest"));
+        assertEquals("gemma3:4b", ModelNames.normalize("gemma3:4b"));
+        assertNull(ModelNames.normalize(null));
+    }
+
+    @Test
+    @DisplayName("별칭은 :latest 태그와 태그 없는 이름을 서로 가리키고, 그 외 태그는 자기 자신")
+    void testAliasOf() {
+        assertEquals("gemma3", ModelNames.aliasOf("gemma3:latest"));
+        assertEquals("gemma3:latest", ModelNames.aliasOf("gemma3"));
+        assertEquals("gemma3:4b", ModelNames.aliasOf("gemma3:4b"));
+    }
+}
@@ -0,0 +1,48 @@
+package kr.suhsaechan.ai.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GenerateOptions 테스트
+ */
+class GenerateOptionsTest {
+
+    @Test
+    @DisplayName("덮어쓸 옵션의 값이 우선하고 null인 값은 기본값 사용")
+    void testMergeByField() {
+        // Given
+        GenerateOptions base = GenerateOptions.builder().numCtx(8192).numPredict(512).temperature(0.7).build();
+        GenerateOptions override = GenerateOptions.builder().numPredict(16).seed(42).build();
+
+        // When
+        GenerateOptions merged = GenerateOptions.merge(base, override);
+
+        // Then
+        assertEquals(8192, (int) merged.getNumCtx());
+        assertEquals(16, (int) merged.getNumPredict());
+        assertEquals(0.7, (double) merged.getTemperature());
+        assertEquals(42, (int) merged.getSeed());
+        assertEquals(512, (int) base.getNumPredict());
+        assertSame(base, GenerateOptions.merge(base, null));
+        assertSame(override, GenerateOptions.merge(null, override));
+    }
+
+    @Test
+    @DisplayName("지정한 값만 Ollama 옵션 이름으로 직렬화")
+    void testSerializesOnlySetValues() throws Exception {
+        // Given
+        GenerateOptions options = GenerateOptions.builder().numPredict(16).numCtx(2048).build();
+
+        // When
+        String json = new ObjectMapper().writeValueAsString(options);
+
+        // Then
+        assertEquals("{\"num_ctx\":2048,\"num_predict\":16}", json);
+        assertTrue(GenerateOptions.builder().build().isEmpty());
+        assertFalse(options.isEmpty());
+    }
+}
@@ -0,0 +1,86 @@
+package kr.suhsaechan.ai.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GcraRateLimiter 테스트
+ */
+class GcraRateLimiterTest {
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(ONE_SECOND * 100);
+    private GcraRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        // 초당 2회, 최대 2회 연속
+        limiter = new GcraRateLimiter("model:gemma3:latest", "requests", 2, 2, clock::get);
+    }
+
+    @Test
+    @DisplayName("burst만큼은 바로 통과하고 그 이상은 즉시 거부")
+    void testRejectsBeyondBurst() {
+        // When
+        long first = limiter.tryReserve(1, 0);
+        long second = limiter.tryReserve(1, 0);
+        long third = limiter.tryReserve(1, 0);
+
+        // Then
+        assertEquals(0, first);
+        assertEquals(0, second);
+        assertEquals(-1, third);
+        assertEquals(1, limiter.getStatus().getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("대기를 허용하면 한도가 회복되는 시점까지의 대기 시간을 반환")
+    void testReservesWithDelay() {
+        // Given
+        limiter.tryReserve(1, 0);
+        limiter.tryReserve(1, 0);
+
+        // When
+        long wait = limiter.tryReserve(1, ONE_SECOND);
+
+        // Then
+        assertEquals(ONE_SECOND / 2, wait);
+        assertEquals(1, limiter.getStatus().getDelayedCount());
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 속도에 비례해 한도가 회복")
+    void testRefillsOverTime() {
+        // Given
+        limiter.tryReserve(1, 0);
+        limiter.tryReserve(1, 0);
+
+        // When
+        clock.addAndGet(ONE_SECOND / 2);
+
+        // Then
+        assertEquals(1, limiter.getAvailable());
+        assertEquals(0, limiter.tryReserve(1, 0));
+    }
+
+    @Test
+    @DisplayName("예상보다 적게 쓰면 보정으로 사용량을 돌려받음")
+    void testAdjustRefundsUnusedCost() {
+        // Given
+        limiter.tryReserve(2, 0);
+        assertEquals(0, limiter.getAvailable());
+
+        // When
+        limiter.adjust(-1);
+
+        // Then
+        assertEquals(1, limiter.getAvailable());
+    }
+}
@@ -0,0 +1,163 @@
+package kr.suhsaechan.ai.retry;
+
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import kr.suhsaechan.ai.exception.SuhAiderErrorCode;
+import kr.suhsaechan.ai.exception.SuhAiderException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hedger 테스트
+ * 각 시도는 직접 완료시키는 Future로 대신합니다.
+ */
+class HedgerTest {
+
+    private static final long DELAY_MILLIS = 50;
+    private static final String HEDGE_THREAD_NAME = "hedge-test";
+
+    private ExecutorService executor;
+    private final List<CompletableFuture<String>> attempts = new CopyOnWriteArrayList<>();
+    private final List<String> launchThreads = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, HEDGE_THREAD_NAME));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Hedger hedger(int budgetBurst) {
+        SuhAiderConfig.Hedging settings = new SuhAiderConfig.Hedging();
+        settings.setEnabled(true);
+        settings.setDelayMillis(DELAY_MILLIS);
+        settings.setBudgetPercent(0);
+        settings.setBudgetBurst(budgetBurst);
+        return new Hedger(settings, executor);
+    }
+
+    private CompletableFuture<String> launch(int index) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        launchThreads.add(Thread.currentThread().getName());
+        attempts.add(future);
+        return future;
+    }
+
+    private void awaitAttempts(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (attempts.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    @DisplayName("primary가 지연 시간 안에 끝나면 추가 요청을 보내지 않음")
+    void testNoHedgeWhenPrimaryIsFast() throws Exception {
+        // Given
+        Hedger hedger = hedger(5);
+
+        // When
+        CompletableFuture<String> result = hedger.execute("gemma3:4b", this::launch);
+        attempts.get(0).complete("primary");
+        Thread.sleep(DELAY_MILLIS * 3);
+
+        // Then
+        assertEquals("primary", result.get());
+        assertEquals(1, attempts.size());
+        assertEquals(0, hedger.getStats().getHedgedCount());
+    }
+
+    @Test
+    @DisplayName("지연 시간이 지나면 지정한 Executor에서 추가 요청을 보내고, 먼저 성공한 쪽을 사용해 진 요청은 취소")
+    void testHedgeFiresAfterDelayAndLoserCancelled() throws Exception {
+        // Given
+        Hedger hedger = hedger(5);
+        long startNanos = System.nanoTime();
+
+        // When
+        CompletableFuture<String> result = hedger.execute("gemma3:4b", this::launch);
+        awaitAttempts(2);
+
+        // Then: 지연 후 추가 요청 전송
+        assertEquals(2, attempts.size());
+        assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(DELAY_MILLIS));
+        assertEquals(HEDGE_THREAD_NAME, launchThreads.get(1));
+
+        // 추가 요청이 이기면 primary는 취소
+        attempts.get(1).complete("hedge");
+        assertEquals("hedge", result.get(5, TimeUnit.SECONDS));
+        assertTrue(attempts.get(0).isCancelled());
+
+        HedgingStats stats = hedger.getStats();
+        assertEquals(1, stats.getHedgedCount());
+        assertEquals(1, stats.getHedgeWinCount());
+    }
+
+    @Test
+    @DisplayName("예산이 소진되면 추가 요청을 보내지 않음")
+    void testBudgetExhaustedSkipsHedge() throws Exception {
+        // Given: 버킷 1개, 적립 없음 → 첫 요청만 헤징
+        Hedger hedger = hedger(1);
+        CompletableFuture<String> first = hedger.execute("gemma3:4b", this::launch);
+        awaitAttempts(2);
+        attempts.get(1).complete("hedge");
+        first.get(5, TimeUnit.SECONDS);
+
+        // When
+        CompletableFuture<String> second = hedger.execute("gemma3:4b", this::launch);
+        Thread.sleep(DELAY_MILLIS * 3);
+
+        // Then
+        assertEquals(3, attempts.size());
+        assertEquals(1, hedger.getStats().getBudgetExhaustedCount());
+        attempts.get(2).complete("primary");
+        assertEquals("primary", second.get());
+    }
+
+    @Test
+    @DisplayName("두 요청이 모두 실패하면 첫 번째로 실패한 예외로 완료")
+    void testBothFailCompletesWithFirstError() throws Exception {
+        // Given
+        Hedger hedger = hedger(5);
+        CompletableFuture<String> result = hedger.execute("gemma3:4b", this::launch);
+        awaitAttempts(2);
+
+        // When
+        attempts.get(1).completeExceptionally(new SuhAiderException(SuhAiderErrorCode.SERVER_ERROR));
+        attempts.get(0).completeExceptionally(new SuhAiderException(SuhAiderErrorCode.NETWORK_ERROR));
+
+        // Then
+        ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertEquals(SuhAiderErrorCode.SERVER_ERROR, ((SuhAiderException) error.getCause()).getErrorCode());
+    }
+
+    @Test
+    @DisplayName("결과 Future를 취소하면 모든 시도를 취소")
+    void testCancelCancelsAllAttempts() throws Exception {
+        // Given
+        Hedger hedger = hedger(5);
+        CompletableFuture<String> result = hedger.execute("gemma3:4b", this::launch);
+        awaitAttempts(2);
+
+        // When
+        result.cancel(true);
+
+        // Then
+        assertTrue(attempts.get(0).isCancelled());
+        assertTrue(attempts.get(1).isCancelled());
+    }
+}
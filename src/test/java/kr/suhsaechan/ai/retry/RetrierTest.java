@@ -0,0 +1,157 @@
+package kr.suhsaechan.ai.retry;
+
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import kr.suhsaechan.ai.exception.SuhAiderErrorCode;
+import kr.suhsaechan.ai.exception.SuhAiderException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Retrier 테스트
+ */
+class RetrierTest {
+
+    private static final String RETRY_THREAD_NAME = "retry-test";
+
+    private ExecutorService executor;
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, RETRY_THREAD_NAME));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static SuhAiderConfig.Retry settings(int maxAttempts, long backoffMillis) {
+        SuhAiderConfig.Retry settings = new SuhAiderConfig.Retry();
+        settings.setEnabled(true);
+        settings.setMaxAttempts(maxAttempts);
+        settings.setInitialBackoffMillis(backoffMillis);
+        settings.setMaxBackoffMillis(backoffMillis);
+        return settings;
+    }
+
+    private String failWith(SuhAiderErrorCode errorCode) {
+        attempts.incrementAndGet();
+        throw new SuhAiderException(errorCode);
+    }
+
+    @Test
+    @DisplayName("재시도 대상 오류는 최대 시도 횟수까지 재시도")
+    void testRetriesUpToMaxAttempts() {
+        // Given
+        Retrier retrier = new Retrier(settings(3, 0), executor);
+
+        // When
+        SuhAiderException error = assertThrows(SuhAiderException.class,
+                () -> retrier.execute("test", () -> failWith(SuhAiderErrorCode.SERVER_ERROR)));
+
+        // Then
+        assertEquals(SuhAiderErrorCode.SERVER_ERROR, error.getErrorCode());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @DisplayName("재시도 대상이 아닌 오류는 재시도하지 않음")
+    void testNonRetryableNotRetried() {
+        // Given
+        Retrier retrier = new Retrier(settings(3, 0), executor);
+
+        // When & Then
+        assertThrows(SuhAiderException.class,
+                () -> retrier.execute("test", () -> failWith(SuhAiderErrorCode.INVALID_PARAMETER)));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @DisplayName("재시도 예산이 소진되면 시도 횟수가 남아도 재시도하지 않음")
+    void testBudgetCapsRetries() {
+        // Given: 적립 없음, 버킷 1개
+        SuhAiderConfig.Retry settings = settings(5, 0);
+        settings.setBudgetPercent(0);
+        settings.setBudgetBurst(1);
+        Retrier retrier = new Retrier(settings, executor);
+
+        // When: 첫 요청은 재시도 1회, 두 번째 요청은 재시도 없음
+        assertThrows(SuhAiderException.class,
+                () -> retrier.execute("test", () -> failWith(SuhAiderErrorCode.SERVER_ERROR)));
+        int firstRequestAttempts = attempts.getAndSet(0);
+        assertThrows(SuhAiderException.class,
+                () -> retrier.execute("test", () -> failWith(SuhAiderErrorCode.SERVER_ERROR)));
+
+        // Then
+        assertEquals(2, firstRequestAttempts);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @DisplayName("대기 후 마감 시각을 넘기게 되는 재시도는 하지 않음")
+    void testSkipsRetryPastDeadline() {
+        // Given: 시도 하나가 마감 시각까지의 시간을 모두 사용
+        Retrier retrier = new Retrier(settings(3, 0), executor);
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+
+        // When & Then
+        assertThrows(SuhAiderException.class, () -> retrier.execute("test", deadlineNanos, () -> {
+            sleepMillis(20);
+            return failWith(SuhAiderErrorCode.SERVER_ERROR);
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @DisplayName("비동기 재시도는 대기 후 지정한 Executor에서 실행")
+    void testAsyncRetryRunsOnExecutor() throws Exception {
+        // Given
+        Retrier retrier = new Retrier(settings(3, 10), executor);
+
+        // When
+        CompletableFuture<String> result = retrier.executeAsync("test", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                return CompletableFuture.failedFuture(new SuhAiderException(SuhAiderErrorCode.NETWORK_ERROR));
+            }
+            return CompletableFuture.completedFuture(Thread.currentThread().getName());
+        });
+
+        // Then
+        assertEquals(RETRY_THREAD_NAME, result.get(5, TimeUnit.SECONDS));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("비동기 실행을 취소하면 진행 중인 시도도 취소")
+    void testAsyncCancelCancelsAttempt() {
+        // Given
+        Retrier retrier = new Retrier(settings(3, 0), executor);
+        CompletableFuture<String> running = new CompletableFuture<>();
+        CompletableFuture<String> result = retrier.executeAsync("test", () -> running);
+
+        // When
+        result.cancel(true);
+
+        // Then
+        assertTrue(running.isCancelled());
+    }
+
+    private static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
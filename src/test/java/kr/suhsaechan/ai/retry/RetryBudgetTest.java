@@ -0,0 +1,57 @@
+package kr.suhsaechan.ai.retry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RetryBudget 테스트
+ */
+class RetryBudgetTest {
+
+    @Test
+    @DisplayName("가득 찬 버킷에서 시작해 burst개까지만 재시도 허용")
+    void testStartsFullAndCapsAtBurst() {
+        // Given
+        RetryBudget budget = new RetryBudget(0.2, 2);
+
+        // When & Then
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("원 요청마다 비율만큼 적립되어 재시도는 요청의 비율을 넘지 못함")
+    void testDepositPerRequest() {
+        // Given: 20% → 요청 5개당 재시도 1회
+        RetryBudget budget = new RetryBudget(0.2, 1);
+        assertTrue(budget.tryAcquire());
+
+        // When & Then
+        for (int i = 0; i < 4; i++) {
+            budget.onRequest();
+        }
+        assertFalse(budget.tryAcquire());
+
+        budget.onRequest();
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("요청이 많아도 적립은 burst를 넘지 않음")
+    void testDepositCappedAtBurst() {
+        // Given
+        RetryBudget budget = new RetryBudget(0.5, 3);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            budget.onRequest();
+        }
+
+        // Then
+        assertEquals(3.0, budget.getAvailableTokens());
+    }
+}
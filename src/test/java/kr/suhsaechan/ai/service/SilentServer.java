@@ -0,0 +1,67 @@
+package kr.suhsaechan.ai.service;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연결만 받고 응답하지 않는 로컬 테스트 서버
+ * 요청이 서버에 도착했는지, 진행 중인 요청이 끊겼는지 확인할 때 사용합니다.
+ */
+final class SilentServer implements AutoCloseable {
+
+    private final ServerSocket server;
+    private final BlockingQueue<Socket> accepted = new LinkedBlockingQueue<>();
+
+    /**
+     * 받은 모든 연결 (poll로 꺼낸 연결도 close 시 닫도록 별도 보관)
+     */
+    private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+
+    SilentServer() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(() -> {
+            try {
+                while (true) {
+                    Socket socket = server.accept();
+                    sockets.add(socket);
+                    accepted.add(socket);
+                }
+            } catch (IOException ignored) {
+                // 서버 종료
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * @return 엔진 설정에 사용할 base URL
+     */
+    String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getLocalPort();
+    }
+
+    /**
+     * 다음으로 받은 연결을 대기
+     *
+     * @return 받은 연결 (제한 시간 안에 없으면 null)
+     */
+    Socket poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return accepted.poll(timeout, unit);
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package kr.suhsaechan.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.suhsaechan.ai.concurrent.SuhAiderAsyncExecutor;
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import kr.suhsaechan.ai.model.BatchOptions;
+import kr.suhsaechan.ai.model.BatchResult;
+import kr.suhsaechan.ai.model.SuhAiderRequest;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SuhAiderEngine 배치 Generate 취소 테스트
+ * 연결만 받고 응답하지 않는 로컬 서버로 요청이 진행 중인 상태를 만듭니다.
+ */
+class SuhAiderEngineBatchTest {
+
+    private SilentServer server;
+    private SuhAiderAsyncExecutor asyncExecutor;
+    private SuhAiderEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new SilentServer();
+
+        SuhAiderConfig config = new SuhAiderConfig();
+        config.setBaseUrl(server.getBaseUrl());
+        asyncExecutor = SuhAiderAsyncExecutor.create(config.getAsync());
+        engine = new SuhAiderEngine(new OkHttpClient(), new ObjectMapper(), config, asyncExecutor, null, null);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        engine.destroy();
+        asyncExecutor.shutdownNow();
+        server.close();
+    }
+
+    private static SuhAiderRequest request(String prompt) {
+        return SuhAiderRequest.builder()
+                .model("gemma3:4b")
+                .prompt(prompt)
+                .build();
+    }
+
+    /**
+     * 클라이언트가 연결을 닫을 때까지 대기
+     *
+     * @return 제한 시간 안에 닫혔으면 true
+     */
+    private static boolean awaitClosedByClient(Socket socket) throws IOException {
+        socket.setSoTimeout(5000);
+        InputStream in = socket.getInputStream();
+        byte[] buffer = new byte[1024];
+        try {
+            while (in.read(buffer) != -1) {
+                // 요청 본문은 버림
+            }
+            return true;
+        } catch (SocketTimeoutException e) {
+            return false;
+        } catch (SocketException e) {
+            return true;
+        }
+    }
+
+    @Test
+    @DisplayName("반환된 Future를 취소하면 진행 중인 요청을 취소하고 남은 항목을 시작하지 않음")
+    void testCancelStopsLaunchingAndCancelsInFlight() throws Exception {
+        // Given: maxInFlight 1 → 첫 항목만 진행 중
+        CompletableFuture<BatchResult> batch = engine.generateBatchAsync(
+                List.of(request("a"), request("b"), request("c")),
+                BatchOptions.builder().maxInFlight(1).build());
+        Socket first = server.poll(5, TimeUnit.SECONDS);
+        assertNotNull(first, "첫 항목 요청이 서버에 도착해야 함");
+
+        // When
+        assertTrue(batch.cancel(true));
+
+        // Then: 진행 중인 HTTP 호출은 끊기고, 다음 항목은 시작되지 않음
+        assertTrue(batch.isCancelled());
+        assertTrue(awaitClosedByClient(first), "진행 중인 요청의 연결이 닫혀야 함");
+        assertNull(server.poll(500, TimeUnit.MILLISECONDS), "취소 후 새 항목이 시작되면 안 됨");
+    }
+}
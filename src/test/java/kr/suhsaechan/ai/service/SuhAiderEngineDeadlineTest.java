@@ -0,0 +1,120 @@
+package kr.suhsaechan.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.suhsaechan.ai.concurrent.SuhAiderAsyncExecutor;
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import kr.suhsaechan.ai.exception.SuhAiderErrorCode;
+import kr.suhsaechan.ai.exception.SuhAiderException;
+import kr.suhsaechan.ai.model.SuhAiderRequest;
+import kr.suhsaechan.ai.model.SuhAiderResponse;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SuhAiderEngine 마감 시각 전파 테스트
+ * 연결만 받고 응답하지 않는 로컬 서버와 닫힌 포트로 대기열 대기와 재시도 상황을 만듭니다.
+ */
+class SuhAiderEngineDeadlineTest {
+
+    private static final long TIMEOUT_MILLIS = 200;
+
+    private SilentServer server;
+    private SuhAiderAsyncExecutor asyncExecutor;
+    private SuhAiderEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new SilentServer();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (engine != null) {
+            engine.destroy();
+            asyncExecutor.shutdownNow();
+        }
+        server.close();
+    }
+
+    private void startEngine(SuhAiderConfig config) {
+        asyncExecutor = SuhAiderAsyncExecutor.create(config.getAsync());
+        engine = new SuhAiderEngine(new OkHttpClient(), new ObjectMapper(), config, asyncExecutor, null, null);
+    }
+
+    private static SuhAiderRequest request(Long timeoutMillis) {
+        return SuhAiderRequest.builder()
+                .model("gemma3:4b")
+                .prompt("hello")
+                .timeoutMillis(timeoutMillis)
+                .build();
+    }
+
+    @Test
+    @DisplayName("동시성 대기열에서 기다리는 동안 마감 시각이 지나면 DEADLINE_EXCEEDED, 서버 요청은 보내지 않음")
+    void testDeadlineDuringQueueWait() throws Exception {
+        // Given: 한도 1, 첫 요청이 응답 없이 한도를 차지
+        SuhAiderConfig config = new SuhAiderConfig();
+        config.setBaseUrl(server.getBaseUrl());
+        config.getConcurrencyLimit().setEnabled(true);
+        config.getConcurrencyLimit().setInitialLimit(1);
+        config.getConcurrencyLimit().setMinLimit(1);
+        config.getConcurrencyLimit().setMaxLimit(1);
+        startEngine(config);
+        CompletableFuture<SuhAiderResponse> first = engine.generateAsync(request(null));
+        assertNotNull(server.poll(5, TimeUnit.SECONDS), "첫 요청이 서버에 도착해야 함");
+
+        // When
+        long startNanos = System.nanoTime();
+        CompletableFuture<SuhAiderResponse> queued = engine.generateAsync(request(TIMEOUT_MILLIS));
+        ExecutionException e = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        // Then: 대기열 대기 시간(기본 10초)이 아니라 요청 제한 시간에 실패
+        assertEquals(SuhAiderErrorCode.DEADLINE_EXCEEDED, ((SuhAiderException) e.getCause()).getErrorCode());
+        assertTrue(elapsedMillis < 2000, "제한 시간 근처에서 실패해야 함: " + elapsedMillis + "ms");
+        assertNull(server.poll(300, TimeUnit.MILLISECONDS), "대기열에서 실패한 요청은 서버로 보내지 않음");
+        first.cancel(true);
+    }
+
+    @Test
+    @DisplayName("재시도 대기가 마감 시각을 넘기면 재시도하지 않고 제한 시간 근처에서 실패")
+    void testDeadlineBoundsRetries() throws IOException {
+        // Given: 닫힌 포트 → 매 시도 연결 거부, 재시도 대기 최대 2초 × 9회
+        int closedPort;
+        try (ServerSocket closed = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            closedPort = closed.getLocalPort();
+        }
+        SuhAiderConfig config = new SuhAiderConfig();
+        config.setBaseUrl("http://127.0.0.1:" + closedPort);
+        config.getRetry().setEnabled(true);
+        config.getRetry().setMaxAttempts(10);
+        config.getRetry().setInitialBackoffMillis(2000);
+        config.getRetry().setMaxBackoffMillis(2000);
+        config.getRetry().setMultiplier(1.0);
+        config.getRetry().setBudgetBurst(10);
+        startEngine(config);
+
+        // When
+        long startNanos = System.nanoTime();
+        SuhAiderException e = assertThrows(SuhAiderException.class, () -> engine.generate(request(TIMEOUT_MILLIS)));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        // Then
+        assertTrue(Set.of(SuhAiderErrorCode.NETWORK_ERROR, SuhAiderErrorCode.DEADLINE_EXCEEDED)
+                .contains(e.getErrorCode()), "실제 에러 코드: " + e.getErrorCode());
+        assertTrue(elapsedMillis < 1500, "제한 시간 근처에서 실패해야 함: " + elapsedMillis + "ms");
+    }
+}
@@ -0,0 +1,126 @@
+package kr.suhsaechan.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.suhsaechan.ai.concurrent.SuhAiderAsyncExecutor;
+import kr.suhsaechan.ai.config.SuhAiderConfig;
+import kr.suhsaechan.ai.exception.SuhAiderErrorCode;
+import kr.suhsaechan.ai.exception.SuhAiderException;
+import kr.suhsaechan.ai.model.SuhAiderRequest;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SuhAiderEngine 속도 제한 예약 정산 테스트
+ * 닫힌 포트로 연결이 거부되는 상황을 만들어, 서버가 생성을 시작하지 않은 실패는 사용량을 돌려주는지 확인합니다.
+ */
+class SuhAiderEngineRateLimitTest {
+
+    private SuhAiderAsyncExecutor asyncExecutor;
+    private SuhAiderEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        int closedPort;
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            closedPort = server.getLocalPort();
+        }
+
+        // 요청 1개 버킷, 회복에 100초 → 사용량이 돌려지지 않으면 두 번째 요청은 RATE_LIMITED
+        SuhAiderConfig config = new SuhAiderConfig();
+        config.setBaseUrl("http://127.0.0.1:" + closedPort);
+        config.getRateLimit().setEnabled(true);
+        config.getRateLimit().getDefaultModel().setRequestsPerSecond(0.01);
+        config.getRateLimit().getDefaultModel().setRequestBurst(1);
+        asyncExecutor = SuhAiderAsyncExecutor.create(config.getAsync());
+        engine = new SuhAiderEngine(new OkHttpClient(), new ObjectMapper(), config, asyncExecutor, null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.destroy();
+        asyncExecutor.shutdownNow();
+    }
+
+    private static SuhAiderRequest request() {
+        return SuhAiderRequest.builder()
+                .model("gemma3:4b")
+                .prompt("hello")
+                .build();
+    }
+
+    /**
+     * onError로 받은 오류를 완료값으로 전달하는 콜백
+     */
+    private static StreamCallback errorCapturing(CompletableFuture<Throwable> error) {
+        return new StreamCallback() {
+            @Override
+            public void onNext(String chunk) {
+            }
+
+            @Override
+            public void onComplete() {
+                error.complete(null);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                error.complete(e);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("연결이 거부된 요청은 속도 제한 사용량을 돌려줌 (동기)")
+    void testConnectionRefusedRefundsReservation() {
+        for (int i = 0; i < 3; i++) {
+            SuhAiderException e = assertThrows(SuhAiderException.class, () -> engine.generate(request()));
+            assertEquals(SuhAiderErrorCode.NETWORK_ERROR, e.getErrorCode());
+        }
+    }
+
+    @Test
+    @DisplayName("연결이 거부된 요청은 속도 제한 사용량을 돌려줌 (비동기)")
+    void testConnectionRefusedRefundsReservationAsync() {
+        for (int i = 0; i < 3; i++) {
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> engine.generateAsync(request()).get(5, TimeUnit.SECONDS));
+            assertEquals(SuhAiderErrorCode.NETWORK_ERROR, ((SuhAiderException) e.getCause()).getErrorCode());
+        }
+    }
+
+    @Test
+    @DisplayName("연결이 거부된 스트림은 속도 제한 사용량을 돌려줌 (동기)")
+    void testConnectionRefusedRefundsReservationStream() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            CompletableFuture<Throwable> error = new CompletableFuture<>();
+            engine.generateStream(request(), errorCapturing(error));
+            Throwable e = error.get(5, TimeUnit.SECONDS);
+            assertInstanceOf(SuhAiderException.class, e);
+            assertEquals(SuhAiderErrorCode.NETWORK_ERROR, ((SuhAiderException) e).getErrorCode());
+        }
+    }
+
+    @Test
+    @DisplayName("연결이 거부된 스트림은 속도 제한 사용량을 돌려줌 (비동기)")
+    void testConnectionRefusedRefundsReservationStreamAsync() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            CompletableFuture<Throwable> error = new CompletableFuture<>();
+            engine.generateStreamAsync(request(), errorCapturing(error));
+            Throwable e = error.get(5, TimeUnit.SECONDS);
+            assertInstanceOf(SuhAiderException.class, e);
+            assertEquals(SuhAiderErrorCode.NETWORK_ERROR, ((SuhAiderException) e).getErrorCode());
+        }
+    }
+}
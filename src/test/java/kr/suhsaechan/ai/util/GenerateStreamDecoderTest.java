@@ -0,0 +1,85 @@
+package kr.suhsaechan.ai.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GenerateStreamDecoder 테스트
+ */
+class GenerateStreamDecoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private GenerateStreamDecoder decoderOf(String ndjson) throws IOException {
+        return new GenerateStreamDecoder(
+                objectMapper.getFactory(),
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    @DisplayName("청크와 done 필드 추출 테스트")
+    void testChunksAndDone() throws IOException {
+        // Given
+        String ndjson = "{\"model\":\"gemma3:4b\",\"response\":\"안녕\",\"done\":false}\n"
+                + "{\"model\":\"gemma3:4b\",\"response\":\"하세요\",\"done\":false}\n"
+                + "{\"model\":\"gemma3:4b\",\"response\":\"\",\"done\":true,\"eval_count\":2}\n";
+
+        // When & Then
+        try (GenerateStreamDecoder decoder = decoderOf(ndjson)) {
+            assertTrue(decoder.next());
+            assertEquals("안녕", decoder.getChunk());
+            assertFalse(decoder.isDone());
+
+            assertTrue(decoder.next());
+            assertEquals("하세요", decoder.getChunk());
+            assertFalse(decoder.isDone());
+
+            assertTrue(decoder.next());
+            assertEquals("", decoder.getChunk());
+            assertTrue(decoder.isDone());
+
+            assertFalse(decoder.next());
+        }
+    }
+
+    @Test
+    @DisplayName("불필요한 중첩 필드와 빈 줄 건너뛰기 테스트")
+    void testSkipsNestedFieldsAndBlankLines() throws IOException {
+        // Given
+        String ndjson = "\n{\"meta\":{\"a\":[1,2,{\"b\":3}]},\"response\":\"hi\",\"done\":false}\n\n"
+                + "{\"done\":true,\"context\":[1,2,3],\"response\":\"!\"}\n";
+
+        // When & Then
+        try (GenerateStreamDecoder decoder = decoderOf(ndjson)) {
+            assertTrue(decoder.next());
+            assertEquals("hi", decoder.getChunk());
+
+            assertTrue(decoder.next());
+            assertEquals("!", decoder.getChunk());
+            assertTrue(decoder.isDone());
+        }
+    }
+
+    @Test
+    @DisplayName("스트림 중간 에러 필드 추출 테스트")
+    void testErrorField() throws IOException {
+        // Given
+        String ndjson = "{\"error\":\"model requires more system memory\"}\n";
+
+        // When & Then
+        try (GenerateStreamDecoder decoder = decoderOf(ndjson)) {
+            assertTrue(decoder.next());
+            assertEquals("model requires more system memory", decoder.getError());
+            assertEquals("", decoder.getChunk());
+            assertFalse(decoder.isDone());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package kr.suhsaechan.ai.util;
+
+import kr.suhsaechan.ai.model.JsonSchema;
+import kr.suhsaechan.ai.model.PropertySchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonSchemaFormatConverter 테스트
+ */
+class JsonSchemaFormatConverterTest {
+
+    @Test
+    @DisplayName("중첩 객체와 enum을 표준 JSON Schema로 변환")
+    @SuppressWarnings("unchecked")
+    void testConvertsNestedAndEnum() {
+        // Given
+        JsonSchema address = JsonSchema.of("city", "string").required("city");
+        JsonSchema schema = JsonSchema.of("name", "string")
+                .property("address", address)
+                .required("name");
+        schema.getProperties().put("grade", PropertySchema.builder()
+                .type("string")
+                .enumValues(Arrays.asList("A", "B"))
+                .example("A")
+                .build());
+
+        // When
+        Map<String, Object> format = JsonSchemaFormatConverter.convert(schema);
+
+        // Then
+        assertEquals("object", format.get("type"));
+        assertEquals(List.of("name"), format.get("required"));
+
+        Map<String, Object> properties = (Map<String, Object>) format.get("properties");
+        Map<String, Object> nested = (Map<String, Object>) properties.get("address");
+        assertEquals("object", nested.get("type"));
+        assertEquals(List.of("city"), nested.get("required"));
+        assertTrue(((Map<String, Object>) nested.get("properties")).containsKey("city"));
+
+        Map<String, Object> grade = (Map<String, Object>) properties.get("grade");
+        assertEquals(List.of("A", "B"), grade.get("enum"));
+        assertFalse(grade.containsKey("example"));
+    }
+
+    @Test
+    @DisplayName("배열 스키마는 items로 변환")
+    @SuppressWarnings("unchecked")
+    void testConvertsArray() {
+        // When
+        Map<String, Object> format = JsonSchemaFormatConverter.convert(JsonSchema.arrayOf(JsonSchema.of("id", "integer")));
+
+        // Then
+        assertEquals("array", format.get("type"));
+        Map<String, Object> items = (Map<String, Object>) format.get("items");
+        assertEquals("object", items.get("type"));
+        assertNull(JsonSchemaFormatConverter.convert(null));
+    }
+}